@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+
+/**
+ * Selects the SQL string of a query with an array parameter in
+ * {@code TABLE(:array)} depending on the length of the array.
+ *
+ * <p>The optimizer does not know the number of elements of a bound collection
+ * and assumes a default cardinality of several thousand rows, usually 8168,
+ * which leads to hash joins and full table scans even for a handful of
+ * elements. This class either tells the optimizer the size with a
+ * {@code CARDINALITY} hint or picks one of several prepared SQL strings. In
+ * both cases the array length is mapped to a small number of buckets so every
+ * statement has a bounded number of SQL strings, and cursors.</p>
+ *
+ * <pre><code>
+ * ArrayCardinalitySql sql = ArrayCardinalitySql.hinted("ids",
+ *     "SELECT * FROM some_table WHERE id IN ("
+ *     + "SELECT /*+ CARDINALITY(t " + ArrayCardinalitySql.CARDINALITY_PLACEHOLDER + ") *&#47; column_value FROM TABLE(:ids) t)");
+ * namedJdbcTemplate.query(sql.getSql(parameterSource), parameterSource, rowMapper);
+ * </code></pre>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ */
+public final class ArrayCardinalitySql {
+
+  /**
+   * The placeholder that {@link #hinted(String, String)} replaces with the
+   * cardinality of a bucket.
+   */
+  public static final String CARDINALITY_PLACEHOLDER = "{cardinality}";
+
+  private final String parameterName;
+
+  /**
+   * The SQL template for {@link #hinted(String, String)}, {@code null} for
+   * variants.
+   */
+  @Nullable
+  private final String sqlTemplate;
+
+  /**
+   * The SQL strings by the maximum length of the bucket.
+   */
+  private final NavigableMap<Integer, String> variants;
+
+  private ArrayCardinalitySql(String parameterName, @Nullable String sqlTemplate, NavigableMap<Integer, String> variants) {
+    this.parameterName = parameterName;
+    this.sqlTemplate = sqlTemplate;
+    this.variants = variants;
+  }
+
+  /**
+   * Creates an instance that replaces {@link #CARDINALITY_PLACEHOLDER} with the
+   * array length rounded up to the next power of two, typically in a
+   * {@code CARDINALITY(alias n)} hint. The SQL strings are created on first
+   * use of a bucket.
+   *
+   * @param parameterName the name of the array parameter
+   * @param sqlTemplate the SQL string containing {@link #CARDINALITY_PLACEHOLDER}
+   * @return the new instance
+   */
+  public static ArrayCardinalitySql hinted(String parameterName, String sqlTemplate) {
+    Objects.requireNonNull(parameterName, "parameterName");
+    if (!sqlTemplate.contains(CARDINALITY_PLACEHOLDER)) {
+      throw new IllegalArgumentException("SQL does not contain " + CARDINALITY_PLACEHOLDER + ": " + sqlTemplate);
+    }
+    return new ArrayCardinalitySql(parameterName, sqlTemplate, new ConcurrentSkipListMap<>());
+  }
+
+  /**
+   * Creates an instance that picks one of several SQL strings, for example
+   * with different join hints.
+   *
+   * @param parameterName the name of the array parameter
+   * @param variants the SQL strings by the maximum array length for which
+   *        they are used, arrays longer than the largest key use the SQL
+   *        string with the largest key
+   * @return the new instance
+   */
+  public static ArrayCardinalitySql variants(String parameterName, Map<Integer, String> variants) {
+    Objects.requireNonNull(parameterName, "parameterName");
+    if (variants.isEmpty()) {
+      throw new IllegalArgumentException("no variants");
+    }
+    return new ArrayCardinalitySql(parameterName, null, new TreeMap<>(variants));
+  }
+
+  /**
+   * Returns the name of the array parameter.
+   *
+   * @return the name of the array parameter
+   */
+  public String getParameterName() {
+    return this.parameterName;
+  }
+
+  /**
+   * Returns the SQL string for the array parameter of a parameter source.
+   *
+   * @param parameterSource the parameter source containing the array parameter
+   * @return the SQL string for the length of the array
+   * @throws IllegalArgumentException if the parameter is not an array
+   * @see #getSql(int)
+   */
+  public String getSql(SqlParameterSource parameterSource) {
+    return this.getSql(getLength(parameterSource.getValue(this.parameterName)));
+  }
+
+  /**
+   * Returns the SQL string for an array length.
+   *
+   * @param length the number of elements of the array
+   * @return the SQL string for the bucket of {@code length}
+   */
+  public String getSql(int length) {
+    if (this.sqlTemplate == null) {
+      Map.Entry<Integer, String> variant = this.variants.ceilingEntry(length);
+      return variant != null ? variant.getValue() : this.variants.lastEntry().getValue();
+    }
+    int bucket = bucket(length);
+    String sql = this.variants.get(bucket);
+    if (sql == null) {
+      sql = this.sqlTemplate.replace(CARDINALITY_PLACEHOLDER, Integer.toString(bucket));
+      this.variants.put(bucket, sql);
+    }
+    return sql;
+  }
+
+  /**
+   * Returns the bucket of an array length for {@link #hinted(String, String)}.
+   *
+   * @param length the number of elements of the array
+   * @return {@code length} rounded up to the next power of two, at least 1
+   */
+  static int bucket(int length) {
+    if (length <= 1) {
+      return 1;
+    }
+    int bucket = Integer.highestOneBit(length - 1) << 1;
+    return bucket > 0 ? bucket : Integer.MAX_VALUE;
+  }
+
+  static int getLength(@Nullable Object value) {
+    if (value instanceof SqlOracleArrayValue) {
+      return ((SqlOracleArrayValue) value).getLength();
+    }
+    if (value instanceof SharedSqlOracleArrayValue) {
+      return ((SharedSqlOracleArrayValue) value).getLength();
+    }
+    if (value instanceof Collection) {
+      return ((Collection<?>) value).size();
+    }
+    if (value != null && value.getClass().isArray()) {
+      return java.lang.reflect.Array.getLength(value);
+    }
+    throw new IllegalArgumentException("not an array: " + value);
+  }
+
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.Nullable;
+
+import oracle.jdbc.OracleConnection;
+
+/**
+ * Tracks and warms up the collection type descriptors that OJDBC needs to
+ * create arrays.
+ *
+ * <p>{@link OracleConnection#createOracleArray(String, Object)} describes the
+ * collection type with a data dictionary round trip the first time a type is
+ * used on a physical connection, the driver then caches the descriptor on the
+ * connection. This class remembers which types have been resolved on which
+ * physical connection, counts hits and misses per type and can resolve a
+ * configured list of types ahead of time with {@link #warmUp(Connection)}.</p>
+ *
+ * <pre><code> ArrayTypeDescriptorCache descriptorCache = new ArrayTypeDescriptorCache("TEST_ARRAY_TYPE");
+ * statementCacheWarmingDataSource.setArrayTypeDescriptorCache(descriptorCache);
+ * new SharedSqlOracleArrayValue("TEST_ARRAY_TYPE", ids).withDescriptorCache(descriptorCache);
+ * </code></pre>
+ *
+ * @see SqlOracleArrayValue#withDescriptorCache(ArrayTypeDescriptorCache)
+ * @see SharedSqlOracleArrayValue#withDescriptorCache(ArrayTypeDescriptorCache)
+ * @see StatementCacheWarmingDataSource#setArrayTypeDescriptorCache(ArrayTypeDescriptorCache)
+ */
+public final class ArrayTypeDescriptorCache {
+
+  private final List<String> typeNames;
+
+  /**
+   * The type names resolved per physical connection, guarded by itself.
+   */
+  private final Map<OracleConnection, Set<String>> resolvedTypes = new WeakHashMap<>();
+
+  private final ConcurrentMap<String, Counters> counters = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new cache.
+   *
+   * @param typeNames the names of the collection types to resolve on
+   *        {@link #warmUp(Connection)}
+   */
+  public ArrayTypeDescriptorCache(String... typeNames) {
+    for (String typeName : typeNames) {
+      Objects.requireNonNull(typeName, "typeName");
+    }
+    this.typeNames = Collections.unmodifiableList(Arrays.asList(typeNames.clone()));
+  }
+
+  /**
+   * Returns the names of the collection types that are resolved on warm up.
+   *
+   * @return the type names
+   */
+  public List<String> getTypeNames() {
+    return this.typeNames;
+  }
+
+  /**
+   * Creates an array and records whether the type had already been resolved
+   * on the physical connection.
+   *
+   * @param connection the connection on which to create the array
+   * @param typeName the name of the collection type
+   * @param elements an {@code Object[]} or an array of primitives
+   * @return the created array
+   * @throws SQLException if the array can not be created
+   * @see OracleConnection#createOracleArray(String, Object)
+   */
+  public Array createArray(Connection connection, String typeName, Object elements) throws SQLException {
+    OracleConnection oracleConnection = connection.unwrap(OracleConnection.class);
+    Counters typeCounters = this.getCounters(typeName);
+    if (!this.markResolved(oracleConnection, typeName)) {
+      typeCounters.hits.increment();
+      return oracleConnection.createOracleArray(typeName, elements);
+    }
+    long start = System.nanoTime();
+    Array array;
+    try {
+      array = oracleConnection.createOracleArray(typeName, elements);
+    } catch (SQLException | RuntimeException e) {
+      this.unmarkResolved(oracleConnection, typeName);
+      throw e;
+    }
+    typeCounters.misses.increment();
+    typeCounters.missNanos.add(System.nanoTime() - start);
+    return array;
+  }
+
+  /**
+   * Resolves all configured types that have not been resolved on the
+   * physical connection yet by creating and freeing an empty array.
+   *
+   * @param connection the connection on which to resolve the types
+   * @return the number of types that were resolved
+   * @throws SQLException if a type can not be resolved
+   */
+  public int warmUp(Connection connection) throws SQLException {
+    OracleConnection oracleConnection = connection.unwrap(OracleConnection.class);
+    int resolved = 0;
+    for (String typeName : this.typeNames) {
+      if (!this.markResolved(oracleConnection, typeName)) {
+        continue;
+      }
+      try {
+        oracleConnection.createOracleArray(typeName, new Object[0]).free();
+      } catch (SQLException | RuntimeException e) {
+        this.unmarkResolved(oracleConnection, typeName);
+        throw e;
+      }
+      this.getCounters(typeName).warmUps.increment();
+      resolved += 1;
+    }
+    return resolved;
+  }
+
+  private boolean markResolved(OracleConnection connection, String typeName) {
+    synchronized (this.resolvedTypes) {
+      return this.resolvedTypes.computeIfAbsent(connection, c -> new HashSet<>()).add(typeName);
+    }
+  }
+
+  private void unmarkResolved(OracleConnection connection, String typeName) {
+    synchronized (this.resolvedTypes) {
+      Set<String> types = this.resolvedTypes.get(connection);
+      if (types != null) {
+        types.remove(typeName);
+      }
+    }
+  }
+
+  private Counters getCounters(String typeName) {
+    Counters typeCounters = this.counters.get(typeName);
+    if (typeCounters == null) {
+      typeCounters = this.counters.computeIfAbsent(typeName, k -> new Counters());
+    }
+    return typeCounters;
+  }
+
+  /**
+   * Returns the statistics of a single collection type.
+   *
+   * @param typeName the name of the collection type
+   * @return the statistics of the type, {@code null} if the type has not been used
+   */
+  @Nullable
+  public TypeStatistics getStatistics(String typeName) {
+    Counters typeCounters = this.counters.get(typeName);
+    return typeCounters != null ? typeCounters.snapshot() : null;
+  }
+
+  /**
+   * Returns the statistics of all collection types that have been used.
+   *
+   * @return the statistics by type name, sorted by type name
+   */
+  public Map<String, TypeStatistics> snapshot() {
+    Map<String, TypeStatistics> snapshot = new TreeMap<>();
+    for (Entry<String, Counters> entry : this.counters.entrySet()) {
+      snapshot.put(entry.getKey(), entry.getValue().snapshot());
+    }
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return "ArrayTypeDescriptorCache" + this.snapshot();
+  }
+
+  static final class Counters {
+
+    final LongAdder hits = new LongAdder();
+    final LongAdder misses = new LongAdder();
+    final LongAdder missNanos = new LongAdder();
+    final LongAdder warmUps = new LongAdder();
+
+    TypeStatistics snapshot() {
+      return new TypeStatistics(this.hits.sum(), this.misses.sum(), this.missNanos.sum(), this.warmUps.sum());
+    }
+
+  }
+
+  /**
+   * An immutable snapshot of the statistics of a single collection type.
+   */
+  public static final class TypeStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long missNanos;
+    private final long warmUpCount;
+
+    TypeStatistics(long hitCount, long missCount, long missNanos, long warmUpCount) {
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+      this.missNanos = missNanos;
+      this.warmUpCount = warmUpCount;
+    }
+
+    /**
+     * Returns the number of arrays created on connections on which the type
+     * had already been resolved.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+      return this.hitCount;
+    }
+
+    /**
+     * Returns the number of arrays whose creation had to resolve the type.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+      return this.missCount;
+    }
+
+    /**
+     * Returns the total time spent creating arrays on misses, this includes
+     * resolving the type.
+     *
+     * @return the time of misses in nanoseconds
+     */
+    public long getMissNanos() {
+      return this.missNanos;
+    }
+
+    /**
+     * Returns the number of times the type was resolved by a warm up.
+     *
+     * @return the number of warm ups
+     */
+    public long getWarmUpCount() {
+      return this.warmUpCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+      return "TypeStatistics[hits=" + this.hitCount
+              + ", misses=" + this.missCount
+              + ", missNanos=" + this.missNanos
+              + ", warmUps=" + this.warmUpCount + ']';
+    }
+
+  }
+
+}
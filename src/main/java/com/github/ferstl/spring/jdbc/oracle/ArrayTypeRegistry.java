@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Maps Java element types to Oracle collection types so that
+ * {@link OracleNamedParameterJdbcTemplate} can bind {@link Collection}
+ * parameters as arrays.
+ *
+ * <p>Spring's {@code NamedParameterJdbcTemplate} expands a collection into
+ * one bind variable per element which results in a different SQL string,
+ * and a hard parse, for every list size. A collection bound as an array keeps
+ * a single SQL string regardless of its size:</p>
+ *
+ * <pre><code>
+ * ArrayTypeRegistry registry = new ArrayTypeRegistry()
+ *     .registerNumberType("NUMBER_TABLE_TYPE")
+ *     .register(String.class, "VARCHAR2_TABLE_TYPE")
+ *     .register(UUID.class, "RAW16_TABLE_TYPE");
+ * namedJdbcTemplate.setArrayTypeRegistry(registry);
+ *
+ * namedJdbcTemplate.query("SELECT * FROM some_table WHERE id IN (SELECT column_value FROM TABLE(:ids))",
+ *     Collections.singletonMap("ids", ids), rowMapper);
+ * </code></pre>
+ *
+ * <p>The collection type is looked up from the type of the first
+ * non-{@code null} element. Elements of a registered type are converted before
+ * they are passed to the driver, {@link UUID}s are converted to {@code RAW(16)}
+ * the same way as with {@link UuidOracleData}. The type of an empty collection
+ * can not be inferred, for these the type name registered for the parameter in
+ * the {@link org.springframework.jdbc.core.namedparam.SqlParameterSource} is
+ * used, or else the type set with {@link #setEmptyCollectionTypeName(String)}.</p>
+ *
+ * <p>Instances are thread-safe.</p>
+ */
+public final class ArrayTypeRegistry {
+
+  private final Map<Class<?>, Registration> registrations;
+
+  /**
+   * Registrations of super types resolved for element types that are not
+   * registered themselves, cleared on every registration.
+   */
+  private final Map<Class<?>, Registration> resolved;
+
+  @Nullable
+  private volatile String emptyCollectionTypeName;
+
+  @Nullable
+  private volatile ArrayTypeDescriptorCache descriptorCache;
+
+  /**
+   * Creates a registry without any types.
+   */
+  public ArrayTypeRegistry() {
+    this.registrations = new ConcurrentHashMap<>();
+    this.resolved = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Registers the collection type for elements of a Java type. Elements of
+   * type {@link UUID} are converted to {@code byte[16]}, all other elements are
+   * passed to the driver as they are.
+   *
+   * @param elementType the Java type of the elements, subtypes are included
+   * @param typeName the name of the Oracle collection type
+   * @return this registry
+   */
+  public ArrayTypeRegistry register(Class<?> elementType, String typeName) {
+    Objects.requireNonNull(elementType, "elementType");
+    Objects.requireNonNull(typeName, "typeName");
+    return this.addRegistration(elementType, new Registration(typeName, null, elementType == UUID.class));
+  }
+
+  /**
+   * Registers the collection type for elements of a Java type that have to be
+   * converted before they can be passed to the driver.
+   *
+   * @param <T> the Java type of the elements
+   * @param elementType the Java type of the elements, subtypes are included
+   * @param typeName the name of the Oracle collection type
+   * @param elementConverter converts a non-{@code null} element to a value
+   *        supported by the driver, {@code null} for no conversion
+   * @return this registry
+   */
+  @SuppressWarnings("unchecked")
+  public <T> ArrayTypeRegistry register(Class<T> elementType, String typeName, @Nullable Function<? super T, ?> elementConverter) {
+    Objects.requireNonNull(elementType, "elementType");
+    Objects.requireNonNull(typeName, "typeName");
+    return this.addRegistration(elementType, new Registration(typeName, (Function<Object, Object>) elementConverter, false));
+  }
+
+  private ArrayTypeRegistry addRegistration(Class<?> elementType, Registration registration) {
+    this.registrations.put(elementType, registration);
+    this.resolved.clear();
+    return this;
+  }
+
+  /**
+   * Registers a {@code NUMBER} collection type for all standard Java number
+   * types: {@link Long}, {@link Integer}, {@link Short}, {@link Byte},
+   * {@link BigDecimal}, {@link BigInteger}, {@link Double} and {@link Float}.
+   *
+   * @param typeName the name of the Oracle collection type, for example
+   *        a {@code TABLE OF NUMBER}
+   * @return this registry
+   */
+  public ArrayTypeRegistry registerNumberType(String typeName) {
+    return this.register(Long.class, typeName)
+            .register(Integer.class, typeName)
+            .register(Short.class, typeName)
+            .register(Byte.class, typeName)
+            .register(BigDecimal.class, typeName)
+            .register(BigInteger.class, typeName)
+            .register(Double.class, typeName)
+            .register(Float.class, typeName);
+  }
+
+  /**
+   * Sets the collection type used for empty collections and collections that
+   * only contain {@code null} if no type name is registered for the parameter.
+   *
+   * @param emptyCollectionTypeName the name of the Oracle collection type,
+   *        {@code null} to reject such collections
+   * @return this registry
+   */
+  public ArrayTypeRegistry setEmptyCollectionTypeName(@Nullable String emptyCollectionTypeName) {
+    this.emptyCollectionTypeName = emptyCollectionTypeName;
+    return this;
+  }
+
+  /**
+   * Sets the descriptor cache through which the arrays are created.
+   *
+   * @param descriptorCache the descriptor cache, {@code null} for none
+   * @return this registry
+   */
+  public ArrayTypeRegistry setDescriptorCache(@Nullable ArrayTypeDescriptorCache descriptorCache) {
+    this.descriptorCache = descriptorCache;
+    return this;
+  }
+
+  /**
+   * Returns the name of the collection type registered for an element type
+   * or one of its super types.
+   *
+   * @param elementType the Java type of the elements
+   * @return the name of the Oracle collection type, {@code null} if none
+   *         is registered
+   */
+  @Nullable
+  public String getTypeName(Class<?> elementType) {
+    Registration registration = this.getRegistration(elementType);
+    return registration != null ? registration.typeName : null;
+  }
+
+  /**
+   * Creates an array value for the elements of a collection.
+   *
+   * @param values the collection to bind, not {@code null}
+   * @param parameterTypeName the type name registered for the parameter,
+   *        {@code null} if none
+   * @return the array value, never {@code null}
+   * @throws IllegalArgumentException if no collection type is registered
+   *         for the elements
+   */
+  SqlOracleArrayValue toArrayValue(Collection<?> values, @Nullable String parameterTypeName) {
+    Object firstElement = null;
+    for (Object value : values) {
+      if (value != null) {
+        firstElement = value;
+        break;
+      }
+    }
+
+    Registration registration = firstElement != null ? this.getRegistration(firstElement.getClass()) : null;
+    String typeName;
+    if (parameterTypeName != null) {
+      typeName = parameterTypeName;
+    } else if (registration != null) {
+      typeName = registration.typeName;
+    } else if (firstElement != null) {
+      throw new IllegalArgumentException("no array type registered for collection elements of " + firstElement.getClass().getName());
+    } else if (this.emptyCollectionTypeName != null) {
+      typeName = this.emptyCollectionTypeName;
+    } else {
+      throw new IllegalArgumentException("array type of empty collection unknown, register a type name for the parameter");
+    }
+
+    Object[] elements;
+    Function<Object, Object> elementConverter = registration != null ? registration.elementConverter : null;
+    if (registration != null && registration.uuidElements) {
+      @SuppressWarnings("unchecked")
+      Collection<UUID> uuids = (Collection<UUID>) values;
+      elements = UuidUtils.toByteArrays(uuids);
+    } else {
+      elements = values.toArray();
+    }
+    if (elementConverter != null) {
+      for (int i = 0; i < elements.length; i++) {
+        if (elements[i] != null) {
+          elements[i] = elementConverter.apply(elements[i]);
+        }
+      }
+    }
+
+    SqlOracleArrayValue arrayValue = new SqlOracleArrayValue(typeName, elements);
+    ArrayTypeDescriptorCache descriptorCache = this.descriptorCache;
+    return descriptorCache != null ? arrayValue.withDescriptorCache(descriptorCache) : arrayValue;
+  }
+
+  @Nullable
+  private Registration getRegistration(Class<?> elementType) {
+    Registration registration = this.registrations.get(elementType);
+    if (registration != null) {
+      return registration;
+    }
+    registration = this.resolved.get(elementType);
+    if (registration != null) {
+      return registration;
+    }
+    for (Map.Entry<Class<?>, Registration> entry : this.registrations.entrySet()) {
+      if (entry.getKey().isAssignableFrom(elementType)) {
+        this.resolved.put(elementType, entry.getValue());
+        return entry.getValue();
+      }
+    }
+    return null;
+  }
+
+  static final class Registration {
+
+    final String typeName;
+    @Nullable
+    final Function<Object, Object> elementConverter;
+
+    /**
+     * Whether the elements are {@link UUID}s that are converted to {@code RAW(16)}.
+     */
+    final boolean uuidElements;
+
+    Registration(String typeName, @Nullable Function<Object, Object> elementConverter, boolean uuidElements) {
+      this.typeName = typeName;
+      this.elementConverter = elementConverter;
+      this.uuidElements = uuidElements;
+    }
+
+  }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.sql.Statement;
+
+/**
+ * A compact summary of the update counts of a chunked batch update.
+ *
+ * <p>Unlike {@code int[]} or {@code int[][]} the size of a summary does not
+ * depend on the number of rows in the batch which makes it suitable for
+ * batches with millions of rows.</p>
+ *
+ * @see OracleNamedParameterJdbcTemplate#batchUpdate(String, java.util.Iterator, int)
+ */
+public final class BatchUpdateSummary {
+
+  private final long batchCount;
+  private final long rowCount;
+  private final long updateCount;
+  private final long successNoInfoCount;
+
+  BatchUpdateSummary(long batchCount, long rowCount, long updateCount, long successNoInfoCount) {
+    this.batchCount = batchCount;
+    this.rowCount = rowCount;
+    this.updateCount = updateCount;
+    this.successNoInfoCount = successNoInfoCount;
+  }
+
+  /**
+   * Returns the number of times {@link Statement#executeBatch()} was called.
+   *
+   * @return the number of executed batches
+   */
+  public long getBatchCount() {
+    return this.batchCount;
+  }
+
+  /**
+   * Returns the number of rows that were sent to the database.
+   *
+   * @return the number of rows in all batches
+   */
+  public long getRowCount() {
+    return this.rowCount;
+  }
+
+  /**
+   * Returns the sum of all update counts reported by the driver.
+   *
+   * @return the number of rows affected
+   */
+  public long getUpdateCount() {
+    return this.updateCount;
+  }
+
+  /**
+   * Returns the number of rows for which the driver reported
+   * {@link Statement#SUCCESS_NO_INFO} instead of an update count.
+   *
+   * @return the number of rows without update count
+   */
+  public long getSuccessNoInfoCount() {
+    return this.successNoInfoCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return "BatchUpdateSummary[batches=" + this.batchCount
+            + ", rows=" + this.rowCount
+            + ", updated=" + this.updateCount
+            + ", successNoInfo=" + this.successNoInfoCount + ']';
+  }
+
+}
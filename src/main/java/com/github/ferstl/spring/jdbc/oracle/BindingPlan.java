@@ -0,0 +1,639 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.SqlValue;
+import org.springframework.lang.Nullable;
+
+import oracle.jdbc.OraclePreparedStatement;
+import oracle.jdbc.OracleTypes;
+
+/**
+ * A precompiled plan for binding the named parameters of a single SQL string.
+ *
+ * <p>A plan contains the distinct parameter names in the order in which
+ * they first appear in the SQL string and, for every parameter, the
+ * {@link ValueBinder} that was last resolved for the type of the bound value.
+ * Binders are resolved on first use and then reused as long as the value type
+ * does not change, so type checks and conversions are only done once per
+ * parameter and type.
+ *
+ * <p>Values of common Java types without an explicit SQL type are bound
+ * with the type specific {@code set*AtName} methods, for example
+ * {@link OraclePreparedStatement#setLongAtName(String, long)}, instead of
+ * {@link OraclePreparedStatement#setObjectAtName(String, Object)} so that
+ * OJDBC does not have to infer the type of every bind.
+ *
+ * <p>{@link Collection} values are bound as arrays if an
+ * {@link ArrayTypeRegistry} is given, otherwise they are rejected.
+ *
+ * <p>Plans are immutable except for the binder caches and can be shared
+ * between threads.
+ */
+final class BindingPlan {
+
+  /**
+   * Binders for exact Java types.
+   */
+  private static final Map<Class<?>, ValueBinder> TYPED_BINDERS;
+
+  static {
+    Map<Class<?>, ValueBinder> binders = new HashMap<>();
+    binders.put(String.class, new TypedBinder((statement, name, value) -> statement.setStringAtName(name, (String) value)));
+    binders.put(Integer.class, new TypedBinder((statement, name, value) -> statement.setIntAtName(name, (Integer) value)));
+    binders.put(Long.class, new TypedBinder((statement, name, value) -> statement.setLongAtName(name, (Long) value)));
+    binders.put(Short.class, new TypedBinder((statement, name, value) -> statement.setShortAtName(name, (Short) value)));
+    binders.put(Double.class, new TypedBinder((statement, name, value) -> statement.setDoubleAtName(name, (Double) value)));
+    binders.put(Float.class, new TypedBinder((statement, name, value) -> statement.setFloatAtName(name, (Float) value)));
+    binders.put(Boolean.class, new TypedBinder((statement, name, value) -> statement.setBooleanAtName(name, (Boolean) value)));
+    binders.put(BigDecimal.class, new TypedBinder((statement, name, value) -> statement.setBigDecimalAtName(name, (BigDecimal) value)));
+    binders.put(byte[].class, new TypedBinder((statement, name, value) -> statement.setBytesAtName(name, (byte[]) value)));
+    binders.put(Timestamp.class, new TypedBinder((statement, name, value) -> statement.setTimestampAtName(name, (Timestamp) value)));
+    binders.put(java.sql.Date.class, new TypedBinder((statement, name, value) -> statement.setDateAtName(name, (java.sql.Date) value)));
+    binders.put(java.sql.Time.class, new TypedBinder((statement, name, value) -> statement.setTimeAtName(name, (java.sql.Time) value)));
+    // there are no java.time specific AtName methods, at least avoid the type inference
+    binders.put(LocalDate.class, new TypedBinder((statement, name, value) -> statement.setObjectAtName(name, value, Types.DATE)));
+    binders.put(LocalDateTime.class, new TypedBinder((statement, name, value) -> statement.setObjectAtName(name, value, Types.TIMESTAMP)));
+    binders.put(OffsetDateTime.class, new TypedBinder((statement, name, value) -> statement.setObjectAtName(name, value, OracleTypes.TIMESTAMPTZ)));
+    // RAW(16), same as UuidOracleData
+    binders.put(UUID.class, new ConvertingBinder(value -> UuidUtils.toByteArray((UUID) value), binders.get(byte[].class)));
+    TYPED_BINDERS = Collections.unmodifiableMap(binders);
+  }
+
+  private final String[] parameterNames;
+
+  private final ParameterSlot[] slots;
+
+  @Nullable
+  private final ArrayTypeRegistry arrayTypeRegistry;
+
+  private BindingPlan(String[] parameterNames, @Nullable ArrayTypeRegistry arrayTypeRegistry) {
+    this.parameterNames = parameterNames;
+    this.arrayTypeRegistry = arrayTypeRegistry;
+    this.slots = new ParameterSlot[parameterNames.length];
+    for (int i = 0; i < this.slots.length; i++) {
+      this.slots[i] = new ParameterSlot();
+    }
+  }
+
+  /**
+   * Compiles a plan for the given SQL string.
+   *
+   * @param sql the SQL string containing named parameters, not {@code null}
+   * @return the plan, never {@code null}
+   */
+  static BindingPlan compile(String sql) {
+    return compile(sql, null);
+  }
+
+  /**
+   * Compiles a plan for the given SQL string that binds collections as arrays.
+   *
+   * @param sql the SQL string containing named parameters, not {@code null}
+   * @param arrayTypeRegistry the registry of the array types for collections,
+   *        {@code null} to reject collections
+   * @return the plan, never {@code null}
+   */
+  static BindingPlan compile(String sql, @Nullable ArrayTypeRegistry arrayTypeRegistry) {
+    List<String> parameterNames = parseParameterNames(sql);
+    return new BindingPlan(parameterNames.toArray(new String[0]), arrayTypeRegistry);
+  }
+
+  /**
+   * Returns the number of distinct parameters in the SQL string.
+   *
+   * @return the number of parameters
+   */
+  int getParameterCount() {
+    return this.parameterNames.length;
+  }
+
+  /**
+   * Returns the name of a parameter.
+   *
+   * @param index the index of the parameter, 0 based
+   * @return the name of the parameter
+   */
+  String getParameterName(int index) {
+    return this.parameterNames[index];
+  }
+
+  /**
+   * Returns the binder for a parameter and a non-{@code null} value.
+   *
+   * @param index the index of the parameter, 0 based
+   * @param value the value to bind, not {@code null}
+   * @return the binder for the type of {@code value}
+   */
+  ValueBinder getBinder(int index, Object value) {
+    return this.slots[index].getBinder(value.getClass(), this.arrayTypeRegistry);
+  }
+
+  /**
+   * Extracts the distinct named parameters from a SQL string. Parameters in
+   * literals, quoted identifiers and comments as well as PL/SQL assignments
+   * are ignored.
+   *
+   * @param sql the SQL string to parse
+   * @return the distinct parameter names in the order of their first appearance
+   */
+  static List<String> parseParameterNames(String sql) {
+    Set<String> parameterNames = new LinkedHashSet<>();
+    scanParameters(sql, (name, start, end) -> parameterNames.add(name));
+    return new ArrayList<>(parameterNames);
+  }
+
+  /**
+   * Extracts every occurrence of the named parameters from a SQL string.
+   * Parameters are recognized the same way as with {@link #parseParameterNames(String)}.
+   *
+   * @param sql the SQL string to parse
+   * @return the parameter names in the order of appearance, including duplicates
+   */
+  static List<String> parseParameterOccurrences(String sql) {
+    List<String> parameterNames = new ArrayList<>();
+    scanParameters(sql, (name, start, end) -> parameterNames.add(name));
+    return parameterNames;
+  }
+
+  /**
+   * Replaces every occurrence of some named parameters with a list of
+   * numbered parameters, for example {@code :ids} with
+   * {@code :ids__0, :ids__1, :ids__2}. Parameters are recognized the same way
+   * as with {@link #parseParameterNames(String)}.
+   *
+   * @param sql the SQL string to expand
+   * @param sizes the number of parameters by the name of each parameter to
+   *        expand, has to be positive
+   * @return the expanded SQL string
+   * @see #expandedParameterName(String, int)
+   */
+  static String expandParameters(String sql, Map<String, Integer> sizes) {
+    return replaceParameters(sql, name -> {
+      Integer size = sizes.get(name);
+      if (size == null) {
+        return null;
+      }
+      StringBuilder expanded = new StringBuilder();
+      for (int i = 0; i < size; i++) {
+        if (i > 0) {
+          expanded.append(", ");
+        }
+        expanded.append(':').append(expandedParameterName(name, i));
+      }
+      return expanded.toString();
+    });
+  }
+
+  /**
+   * Replaces every occurrence of named parameters, including the colon, with
+   * a text. Parameters are recognized the same way as with
+   * {@link #parseParameterNames(String)}.
+   *
+   * @param sql the SQL string
+   * @param replacement returns the text replacing a parameter for the name of
+   *        the parameter, {@code null} to keep the parameter
+   * @return the SQL string with the parameters replaced
+   */
+  static String replaceParameters(String sql, Function<String, String> replacement) {
+    StringBuilder replaced = new StringBuilder(sql.length() + 16);
+    int[] copied = new int[] {0};
+    scanParameters(sql, (name, start, end) -> {
+      String text = replacement.apply(name);
+      if (text != null) {
+        replaced.append(sql, copied[0], start).append(text);
+        copied[0] = end;
+      }
+    });
+    replaced.append(sql, copied[0], sql.length());
+    return replaced.toString();
+  }
+
+  /**
+   * Returns the name of an expanded parameter.
+   *
+   * @param parameterName the name of the parameter in the original SQL string
+   * @param index the index of the expanded parameter, 0 based
+   * @return the name of the parameter in the expanded SQL string
+   */
+  static String expandedParameterName(String parameterName, int index) {
+    return parameterName + "__" + index;
+  }
+
+  /**
+   * Calls back for every named parameter in a SQL string.
+   *
+   * @param sql the SQL string to scan
+   * @param callback called with the name, the start index of the colon and the
+   *        end index (exclusive) of every parameter in the order of appearance
+   */
+  private static void scanParameters(String sql, ParameterCallback callback) {
+    int length = sql.length();
+    int i = 0;
+    while (i < length) {
+      char c = sql.charAt(i);
+      if (isAlternativeQuoteStart(sql, i)) {
+        i = skipAlternativeQuote(sql, i + 2);
+      } else if (c == '\'') {
+        i = skipUntil(sql, i + 1, "'");
+      } else if (c == '"') {
+        i = skipUntil(sql, i + 1, "\"");
+      } else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+        i = skipUntil(sql, i + 2, "\n");
+      } else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+        i = skipUntil(sql, i + 2, "*/");
+      } else if (c == ':' && i + 1 < length && isParameterStart(sql.charAt(i + 1))) {
+        int end = i + 2;
+        while (end < length && isParameterPart(sql.charAt(end))) {
+          end += 1;
+        }
+        callback.parameter(sql.substring(i + 1, end), i, end);
+        i = end;
+      } else if (c == ':' && i + 1 < length && (sql.charAt(i + 1) == ':' || sql.charAt(i + 1) == '=')) {
+        // "::" or ":=", skip both characters
+        i += 2;
+      } else {
+        i += 1;
+      }
+    }
+  }
+
+  @FunctionalInterface
+  interface ParameterCallback {
+
+    void parameter(String name, int start, int end);
+
+  }
+
+  private static boolean isAlternativeQuoteStart(String sql, int index) {
+    char c = sql.charAt(index);
+    if ((c != 'q' && c != 'Q') || index + 2 >= sql.length() || sql.charAt(index + 1) != '\'') {
+      return false;
+    }
+    if (index == 0) {
+      return true;
+    }
+    char previous = sql.charAt(index - 1);
+    if (previous == 'n' || previous == 'N') {
+      // nq'[...]'
+      return index == 1 || !isParameterPart(sql.charAt(index - 2));
+    }
+    return !isParameterPart(previous);
+  }
+
+  private static int skipAlternativeQuote(String sql, int delimiterIndex) {
+    char delimiter = sql.charAt(delimiterIndex);
+    char closing;
+    switch (delimiter) {
+      case '[':
+        closing = ']';
+        break;
+      case '{':
+        closing = '}';
+        break;
+      case '<':
+        closing = '>';
+        break;
+      case '(':
+        closing = ')';
+        break;
+      default:
+        closing = delimiter;
+        break;
+    }
+    return skipUntil(sql, delimiterIndex + 1, new String(new char[] {closing, '\''}));
+  }
+
+  private static int skipUntil(String sql, int start, String end) {
+    int index = sql.indexOf(end, start);
+    if (index == -1) {
+      return sql.length();
+    }
+    return index + end.length();
+  }
+
+  private static boolean isParameterStart(char c) {
+    return Character.isLetterOrDigit(c);
+  }
+
+  private static boolean isParameterPart(char c) {
+    return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '#';
+  }
+
+  /**
+   * Resolves the binder for values of a given type.
+   *
+   * @param type the type of the value to bind
+   * @return the binder, never {@code null}, binders for values that can
+   *         not be bound throw {@link IllegalArgumentException}
+   */
+  static ValueBinder resolveBinder(Class<?> type) {
+    return resolveBinder(type, null);
+  }
+
+  /**
+   * Resolves the binder for values of a given type.
+   *
+   * @param type the type of the value to bind
+   * @param arrayTypeRegistry the registry of the array types for collections,
+   *        {@code null} to reject collections
+   * @return the binder, never {@code null}, binders for values that can
+   *         not be bound throw {@link IllegalArgumentException}
+   */
+  static ValueBinder resolveBinder(Class<?> type, @Nullable ArrayTypeRegistry arrayTypeRegistry) {
+    if (SqlValue.class.isAssignableFrom(type) && !NamedSqlValue.class.isAssignableFrom(type)) {
+      // SqlValue does not support binding by name
+      return new RejectingBinder("SqlValue not supported, use NamedSqlValue");
+    }
+    if (SqlTypeValue.class.isAssignableFrom(type)) {
+      // SqlTypeValue does not support binding by name
+      return new RejectingBinder("SqlTypeValue not supported, use NamedSqlValue");
+    }
+    if (Collection.class.isAssignableFrom(type)) {
+      if (arrayTypeRegistry != null) {
+        return new CollectionBinder(arrayTypeRegistry);
+      }
+      // ojdbc does not support binding Collection
+      return new RejectingBinder("Collection not supported, set an ArrayTypeRegistry");
+    }
+    if (type == SharedSqlOracleArrayValue.class) {
+      return SharedArrayBinder.INSTANCE;
+    }
+    if (NamedSqlValue.class.isAssignableFrom(type)) {
+      return NamedSqlValueBinder.INSTANCE;
+    }
+    ValueBinder typedBinder = TYPED_BINDERS.get(type);
+    if (typedBinder != null) {
+      return typedBinder;
+    }
+    if (java.util.Date.class.isAssignableFrom(type)
+            && !java.sql.Date.class.isAssignableFrom(type)
+            && !java.sql.Timestamp.class.isAssignableFrom(type)
+            && !java.sql.Time.class.isAssignableFrom(type)) {
+      // OJDBC does not support binding java.util.Date
+      // see org.springframework.jdbc.core.StatementCreatorUtils#isDateValue(Class)
+      return new ConvertingBinder(value -> new Timestamp(((java.util.Date) value).getTime()), TYPED_BINDERS.get(Timestamp.class));
+    }
+    return ObjectBinder.INSTANCE;
+  }
+
+  /**
+   * Binds a non-{@code null} value to a named parameter.
+   */
+  interface ValueBinder {
+
+    /**
+     * Binds a value.
+     *
+     * @param statement the statement on which to bind
+     * @param parameterName the name of the parameter
+     * @param value the value to bind, not {@code null}
+     * @param sqlType the SQL type of the parameter, may be
+     *        {@link SqlParameterSource#TYPE_UNKNOWN}
+     * @throws SQLException if binding fails
+     */
+    void bind(OraclePreparedStatement statement, String parameterName, Object value, int sqlType) throws SQLException;
+
+    /**
+     * Converts a value to the value that is actually bound and, if
+     * {@link #needsCleanup()}, cleaned up.
+     *
+     * @param value the value from the parameter source, not {@code null}
+     * @param parameterSource the parameter source
+     * @param parameterName the name of the parameter
+     * @return the value to bind, not {@code null}
+     */
+    default Object prepare(Object value, SqlParameterSource parameterSource, String parameterName) {
+      return value;
+    }
+
+    /**
+     * Whether values bound by this binder have to be cleaned up after
+     * execution.
+     *
+     * @return {@code true} if values have to be cleaned up
+     */
+    default boolean needsCleanup() {
+      return false;
+    }
+
+  }
+
+  /**
+   * Caches the binder for the last value type of a single parameter.
+   */
+  static final class ParameterSlot {
+
+    private volatile ResolvedBinder resolved;
+
+    ValueBinder getBinder(Class<?> type, @Nullable ArrayTypeRegistry arrayTypeRegistry) {
+      ResolvedBinder current = this.resolved;
+      if (current != null && current.type == type) {
+        return current.binder;
+      }
+      ResolvedBinder updated = new ResolvedBinder(type, resolveBinder(type, arrayTypeRegistry));
+      this.resolved = updated;
+      return updated.binder;
+    }
+
+  }
+
+  static final class ResolvedBinder {
+
+    final Class<?> type;
+    final ValueBinder binder;
+
+    ResolvedBinder(Class<?> type, ValueBinder binder) {
+      this.type = type;
+      this.binder = binder;
+    }
+
+  }
+
+  static final class RejectingBinder implements ValueBinder {
+
+    private final String message;
+
+    RejectingBinder(String message) {
+      this.message = message;
+    }
+
+    @Override
+    public void bind(OraclePreparedStatement statement, String parameterName, Object value, int sqlType) {
+      throw new IllegalArgumentException(this.message);
+    }
+
+  }
+
+  static final class NamedSqlValueBinder implements ValueBinder {
+
+    static final ValueBinder INSTANCE = new NamedSqlValueBinder();
+
+    @Override
+    public void bind(OraclePreparedStatement statement, String parameterName, Object value, int sqlType) throws SQLException {
+      ((NamedSqlValue) value).setValue(statement, parameterName);
+    }
+
+    @Override
+    public boolean needsCleanup() {
+      return true;
+    }
+
+  }
+
+  /**
+   * Binds a {@link SharedSqlOracleArrayValue} through a binding of its own so
+   * that cleaning up releases only the reference of this bind.
+   */
+  static final class SharedArrayBinder implements ValueBinder {
+
+    static final ValueBinder INSTANCE = new SharedArrayBinder();
+
+    @Override
+    public Object prepare(Object value, SqlParameterSource parameterSource, String parameterName) {
+      return ((SharedSqlOracleArrayValue) value).newBinding();
+    }
+
+    @Override
+    public void bind(OraclePreparedStatement statement, String parameterName, Object value, int sqlType) throws SQLException {
+      NamedSqlValueBinder.INSTANCE.bind(statement, parameterName, value, sqlType);
+    }
+
+    @Override
+    public boolean needsCleanup() {
+      return true;
+    }
+
+  }
+
+  /**
+   * Binds a {@link Collection} as an array of the type registered for its
+   * elements.
+   */
+  static final class CollectionBinder implements ValueBinder {
+
+    private final ArrayTypeRegistry arrayTypeRegistry;
+
+    CollectionBinder(ArrayTypeRegistry arrayTypeRegistry) {
+      this.arrayTypeRegistry = arrayTypeRegistry;
+    }
+
+    @Override
+    public Object prepare(Object value, SqlParameterSource parameterSource, String parameterName) {
+      return this.arrayTypeRegistry.toArrayValue((Collection<?>) value, parameterSource.getTypeName(parameterName));
+    }
+
+    @Override
+    public void bind(OraclePreparedStatement statement, String parameterName, Object value, int sqlType) throws SQLException {
+      NamedSqlValueBinder.INSTANCE.bind(statement, parameterName, value, sqlType);
+    }
+
+    @Override
+    public boolean needsCleanup() {
+      return true;
+    }
+
+  }
+
+  static final class ObjectBinder implements ValueBinder {
+
+    static final ValueBinder INSTANCE = new ObjectBinder();
+
+    @Override
+    public void bind(OraclePreparedStatement statement, String parameterName, Object value, int sqlType) throws SQLException {
+      if (sqlType != SqlParameterSource.TYPE_UNKNOWN) {
+        statement.setObjectAtName(parameterName, value, sqlType);
+      } else {
+        statement.setObjectAtName(parameterName, value);
+      }
+    }
+
+  }
+
+  /**
+   * Sets a value of a known type on a statement.
+   */
+  @FunctionalInterface
+  interface AtNameSetter {
+
+    void set(OraclePreparedStatement statement, String parameterName, Object value) throws SQLException;
+
+  }
+
+  /**
+   * Binds values of a known type using a type specific method unless an
+   * explicit SQL type is given.
+   */
+  static final class TypedBinder implements ValueBinder {
+
+    private final AtNameSetter setter;
+
+    TypedBinder(AtNameSetter setter) {
+      this.setter = setter;
+    }
+
+    @Override
+    public void bind(OraclePreparedStatement statement, String parameterName, Object value, int sqlType) throws SQLException {
+      if (sqlType != SqlParameterSource.TYPE_UNKNOWN) {
+        statement.setObjectAtName(parameterName, value, sqlType);
+      } else {
+        this.setter.set(statement, parameterName, value);
+      }
+    }
+
+  }
+
+  /**
+   * Converts a value to a bindable type before binding it.
+   */
+  static final class ConvertingBinder implements ValueBinder {
+
+    private final Function<Object, Object> converter;
+    private final ValueBinder delegate;
+
+    ConvertingBinder(Function<Object, Object> converter, ValueBinder delegate) {
+      this.converter = converter;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void bind(OraclePreparedStatement statement, String parameterName, Object value, int sqlType) throws SQLException {
+      this.delegate.bind(statement, parameterName, this.converter.apply(value), sqlType);
+    }
+
+  }
+
+}
@@ -0,0 +1,1351 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.jdbc.core.CallableStatementCreator;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.lang.Nullable;
+
+import com.github.ferstl.spring.jdbc.oracle.CachedPreparedStatementCreator.StatementKind;
+
+import oracle.jdbc.OracleCallableStatement;
+import oracle.jdbc.OracleConnection;
+
+/**
+ * A {@link CallableStatementCreator} that causes OJDBC explicit
+ * statement caching to be used for calls. This can be used to limit the
+ * number of soft parses of PL/SQL calls in you application.
+ *
+ * <p>Make sure you
+ * <a href="https://docs.oracle.com/en/database/oracle/oracle-database/21/jjdbc/statement-and-resultset-caching.html#GUID-3E425401-A7F0-49FA-A057-01DB6ECCFFC9">enable explicit statement caching</a>
+ * .</p>
+ *
+ * <p>As the statement may come from the cache output parameters have to be
+ * registered in the callback and not in the creator.</p>
+ *
+ * <pre><code> Integer result = jdbcTemplate.execute(new CachedCallableStatementCreator("plusOne", "BEGIN ? := ? + 1; END;"),
+ *     (CallableStatement cs) -&gt; {
+ *       cs.registerOutParameter(1, Types.INTEGER);
+ *       cs.setInt(2, 41);
+ *       cs.execute();
+ *       return cs.getInt(1);
+ *     });
+ * </code></pre>
+ *
+ * @see <a href="https://docs.oracle.com/en/database/oracle/oracle-database/21/jjdbc/statement-and-resultset-caching.html#GUID-DFBC7F09-5F27-42E1-8044-24733A6AE5F8">Explicit Statement Caching</a>
+ * @see JdbcOperations#execute(CallableStatementCreator, org.springframework.jdbc.core.CallableStatementCallback)
+ * @see CachedPreparedStatementCreator
+ */
+public final class CachedCallableStatementCreator implements CallableStatementCreator, SqlProvider {
+
+  private static final StatementKind<CallableStatement> CALLS = new StatementKind<CallableStatement>() {
+
+    @Override
+    public CallableStatement getWithKey(OracleConnection connection, String key) throws SQLException {
+      return connection.getCallWithKey(key);
+    }
+
+    @Override
+    public CallableStatement prepare(Connection connection, String sql) throws SQLException {
+      return connection.prepareCall(sql);
+    }
+
+    @Override
+    public CallableStatement wrap(String key, CallableStatement statement, @Nullable StatementCacheListener listener) throws SQLException {
+      return new CachedCallableStatement(key, statement, listener);
+    }
+
+  };
+
+  private final String key;
+  private final String sql;
+  private final StatementInitializer initializer;
+  private final StatementCacheListener listener;
+
+  /**
+   * Creates a CachedCallableStatementCreator.
+   *
+   * @param key the cache key for the created callable statement,
+   *        has to be unique, not {@code null}
+   * @param sql SQL call string for the cached callable statement,
+   *        not {@code null}
+   */
+  public CachedCallableStatementCreator(String key, String sql) {
+    this(key, sql, null);
+  }
+
+  /**
+   * Creates a CachedCallableStatementCreator that configures the statement
+   * once when it is prepared. The initializer is not called when the
+   * statement is returned from the cache.
+   *
+   * @param key the cache key for the created callable statement,
+   *        has to be unique, not {@code null}
+   * @param sql SQL call string for the cached callable statement,
+   *        not {@code null}
+   * @param initializer called once for a freshly prepared statement,
+   *        {@code null} for none
+   */
+  public CachedCallableStatementCreator(String key, String sql, @Nullable StatementInitializer initializer) {
+    this(key, sql, initializer, null);
+  }
+
+  /**
+   * Creates a CachedCallableStatementCreator that configures the statement
+   * once when it is prepared and reports the use of the cache to a listener.
+   *
+   * @param key the cache key for the created callable statement,
+   *        has to be unique, not {@code null}
+   * @param sql SQL call string for the cached callable statement,
+   *        not {@code null}
+   * @param initializer called once for a freshly prepared statement,
+   *        {@code null} for none
+   * @param listener notified about cache hits, misses and returns,
+   *        {@code null} for none
+   */
+  public CachedCallableStatementCreator(String key, String sql, @Nullable StatementInitializer initializer,
+          @Nullable StatementCacheListener listener) {
+    Objects.requireNonNull(key, "key");
+    Objects.requireNonNull(sql, "sql");
+    this.key = key;
+    this.sql = sql;
+    this.initializer = initializer;
+    this.listener = listener;
+  }
+
+  @Override
+  public String getSql() {
+    return this.sql;
+  }
+
+  @Override
+  public CallableStatement createCallableStatement(Connection connection) throws SQLException {
+    return CachedPreparedStatementCreator.createCachedStatement(connection, this.key, this.sql, this.initializer, this.listener, CALLS);
+  }
+
+  /**
+   * Ensures that instead of being closed the statement is instead returned to the pool.
+   *
+   * <p>The {@link OracleCallableStatement} is resolved once when the statement
+   * is created instead of unwrapping through connection pool proxies on every
+   * close.</p>
+   */
+  static final class CachedCallableStatement implements CallableStatement {
+
+    private final String key;
+    private final CallableStatement delegate;
+    private final OracleCallableStatement oracleDelegate;
+    private final StatementCacheListener listener;
+
+    CachedCallableStatement(String key, CallableStatement delegate, @Nullable StatementCacheListener listener) throws SQLException {
+      Objects.requireNonNull(key, "key");
+      Objects.requireNonNull(delegate, "delegate");
+      this.key = key;
+      this.delegate = delegate;
+      this.oracleDelegate = delegate.unwrap(OracleCallableStatement.class);
+      this.listener = listener;
+    }
+
+    @Override
+    public void close() throws SQLException {
+      this.oracleDelegate.closeWithKey(this.key);
+      if (this.listener != null) {
+        this.listener.returnedToCache(this.key);
+      }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+      return this.delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+      return this.delegate.isWrapperFor(iface);
+    }
+
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+      return this.delegate.executeQuery(sql);
+    }
+
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+      return this.delegate.executeUpdate(sql);
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+      return this.delegate.getMaxFieldSize();
+    }
+
+    @Override
+    public void setMaxFieldSize(int max) throws SQLException {
+      this.delegate.setMaxFieldSize(max);
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+      return this.delegate.getMaxRows();
+    }
+
+    @Override
+    public void setMaxRows(int max) throws SQLException {
+      this.delegate.setMaxRows(max);
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean enable) throws SQLException {
+      this.delegate.setEscapeProcessing(enable);
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+      return this.delegate.getQueryTimeout();
+    }
+
+    @Override
+    public void setQueryTimeout(int seconds) throws SQLException {
+      this.delegate.setQueryTimeout(seconds);
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+      this.delegate.cancel();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+      return this.delegate.getWarnings();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+      this.delegate.clearWarnings();
+    }
+
+    @Override
+    public void setCursorName(String name) throws SQLException {
+      this.delegate.setCursorName(name);
+    }
+
+    @Override
+    public boolean execute(String sql) throws SQLException {
+      return this.delegate.execute(sql);
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+      return this.delegate.getResultSet();
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+      return this.delegate.getUpdateCount();
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+      return this.delegate.getMoreResults();
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+      this.delegate.setFetchDirection(direction);
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+      return this.delegate.getFetchDirection();
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+      this.delegate.setFetchSize(rows);
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+      return this.delegate.getFetchSize();
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+      return this.delegate.getResultSetConcurrency();
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+      return this.delegate.getResultSetType();
+    }
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+      this.delegate.addBatch(sql);
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+      this.delegate.clearBatch();
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+      return this.delegate.executeBatch();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      return this.delegate.getConnection();
+    }
+
+    @Override
+    public boolean getMoreResults(int current) throws SQLException {
+      return this.delegate.getMoreResults(current);
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+      return this.delegate.getGeneratedKeys();
+    }
+
+    @Override
+    public int executeUpdate(String string, int[] ints) throws SQLException {
+      return this.delegate.executeUpdate(string, ints);
+    }
+
+    @Override
+    public int executeUpdate(String string, String[] strings) throws SQLException {
+      return this.delegate.executeUpdate(string, strings);
+    }
+
+    @Override
+    public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+      return this.delegate.executeUpdate(sql, autoGeneratedKeys);
+    }
+
+    @Override
+    public boolean execute(String string, int[] ints) throws SQLException {
+      return this.delegate.execute(string, ints);
+    }
+
+    @Override
+    public boolean execute(String string, String[] strings) throws SQLException {
+      return this.delegate.execute(string, strings);
+    }
+
+    @Override
+    public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+      return this.delegate.execute(sql, autoGeneratedKeys);
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+      return this.delegate.getResultSetHoldability();
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+      return this.delegate.isClosed();
+    }
+
+    @Override
+    public void setPoolable(boolean poolable) throws SQLException {
+      this.delegate.setPoolable(poolable);
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+      return this.delegate.isPoolable();
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+      this.delegate.closeOnCompletion();
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+      return this.delegate.isCloseOnCompletion();
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+      return this.delegate.executeQuery();
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+      return this.delegate.executeUpdate();
+    }
+
+    @Override
+    public void setNull(String parameterName, int sqlType) throws SQLException {
+      this.delegate.setNull(parameterName, sqlType);
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType) throws SQLException {
+      this.delegate.setNull(parameterIndex, sqlType);
+    }
+
+    @Override
+    public void setBoolean(String parameterName, boolean x) throws SQLException {
+      this.delegate.setBoolean(parameterName, x);
+    }
+
+    @Override
+    public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+      this.delegate.setBoolean(parameterIndex, x);
+    }
+
+    @Override
+    public void setByte(String parameterName, byte x) throws SQLException {
+      this.delegate.setByte(parameterName, x);
+    }
+
+    @Override
+    public void setByte(int parameterIndex, byte x) throws SQLException {
+      this.delegate.setByte(parameterIndex, x);
+    }
+
+    @Override
+    public void setShort(String parameterName, short x) throws SQLException {
+      this.delegate.setShort(parameterName, x);
+    }
+
+    @Override
+    public void setShort(int parameterIndex, short x) throws SQLException {
+      this.delegate.setShort(parameterIndex, x);
+    }
+
+    @Override
+    public void setInt(String parameterName, int x) throws SQLException {
+      this.delegate.setInt(parameterName, x);
+    }
+
+    @Override
+    public void setInt(int parameterIndex, int x) throws SQLException {
+      this.delegate.setInt(parameterIndex, x);
+    }
+
+    @Override
+    public void setLong(String parameterName, long x) throws SQLException {
+      this.delegate.setLong(parameterName, x);
+    }
+
+    @Override
+    public void setLong(int parameterIndex, long x) throws SQLException {
+      this.delegate.setLong(parameterIndex, x);
+    }
+
+    @Override
+    public void setFloat(String parameterName, float x) throws SQLException {
+      this.delegate.setFloat(parameterName, x);
+    }
+
+    @Override
+    public void setFloat(int parameterIndex, float x) throws SQLException {
+      this.delegate.setFloat(parameterIndex, x);
+    }
+
+    @Override
+    public void setDouble(String parameterName, double x) throws SQLException {
+      this.delegate.setDouble(parameterName, x);
+    }
+
+    @Override
+    public void setDouble(int parameterIndex, double x) throws SQLException {
+      this.delegate.setDouble(parameterIndex, x);
+    }
+
+    @Override
+    public void setBigDecimal(String parameterName, BigDecimal x) throws SQLException {
+      this.delegate.setBigDecimal(parameterName, x);
+    }
+
+    @Override
+    public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+      this.delegate.setBigDecimal(parameterIndex, x);
+    }
+
+    @Override
+    public void setString(String parameterName, String x) throws SQLException {
+      this.delegate.setString(parameterName, x);
+    }
+
+    @Override
+    public void setString(int parameterIndex, String x) throws SQLException {
+      this.delegate.setString(parameterIndex, x);
+    }
+
+    @Override
+    public void setBytes(String string, byte[] x) throws SQLException {
+      this.delegate.setBytes(string, x);
+    }
+
+    @Override
+    public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+      this.delegate.setBytes(parameterIndex, x);
+    }
+
+    @Override
+    public void setDate(String parameterName, Date x) throws SQLException {
+      this.delegate.setDate(parameterName, x);
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x) throws SQLException {
+      this.delegate.setDate(parameterIndex, x);
+    }
+
+    @Override
+    public void setTime(String parameterName, Time x) throws SQLException {
+      this.delegate.setTime(parameterName, x);
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x) throws SQLException {
+      this.delegate.setTime(parameterIndex, x);
+    }
+
+    @Override
+    public void setTimestamp(String parameterName, Timestamp x) throws SQLException {
+      this.delegate.setTimestamp(parameterName, x);
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+      this.delegate.setTimestamp(parameterIndex, x);
+    }
+
+    @Override
+    public void setAsciiStream(String parameterName, InputStream x, int length) throws SQLException {
+      this.delegate.setAsciiStream(parameterName, x, length);
+    }
+
+    @Override
+    public void setAsciiStream(String parameterName, InputStream x, long length) throws SQLException {
+      this.delegate.setAsciiStream(parameterName, x, length);
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+      this.delegate.setAsciiStream(parameterIndex, x, length);
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+      this.delegate.setAsciiStream(parameterIndex, x, length);
+    }
+
+    @Override
+    @Deprecated
+    public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+      this.delegate.setUnicodeStream(parameterIndex, x, length);
+    }
+
+    @Override
+    public void setBinaryStream(String parameterName, InputStream x, int length) throws SQLException {
+      this.delegate.setBinaryStream(parameterName, x, length);
+    }
+
+    @Override
+    public void setBinaryStream(String parameterName, InputStream x, long length) throws SQLException {
+      this.delegate.setBinaryStream(parameterName, x, length);
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+      this.delegate.setBinaryStream(parameterIndex, x, length);
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+      this.delegate.setBinaryStream(parameterIndex, x, length);
+    }
+
+    @Override
+    public void clearParameters() throws SQLException {
+      this.delegate.clearParameters();
+    }
+
+    @Override
+    public void setObject(String parameterName, Object x, int targetSqlType) throws SQLException {
+      this.delegate.setObject(parameterName, x, targetSqlType);
+    }
+
+    @Override
+    public void setObject(String string, Object x, SQLType sQLType) throws SQLException {
+      this.delegate.setObject(string, x, sQLType);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+      this.delegate.setObject(parameterIndex, x, targetSqlType);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, SQLType sQLType) throws SQLException {
+      this.delegate.setObject(parameterIndex, x, sQLType);
+    }
+
+    @Override
+    public void setObject(String parameterName, Object x) throws SQLException {
+      this.delegate.setObject(parameterName, x);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x) throws SQLException {
+      this.delegate.setObject(parameterIndex, x);
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+      return this.delegate.execute();
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+      this.delegate.addBatch();
+    }
+
+    @Override
+    public void setCharacterStream(String parameterName, Reader reader, int length) throws SQLException {
+      this.delegate.setCharacterStream(parameterName, reader, length);
+    }
+
+    @Override
+    public void setCharacterStream(String parameterName, Reader reader, long length) throws SQLException {
+      this.delegate.setCharacterStream(parameterName, reader, length);
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
+      this.delegate.setCharacterStream(parameterIndex, reader, length);
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
+      this.delegate.setCharacterStream(parameterIndex, reader, length);
+    }
+
+    @Override
+    public void setRef(int parameterIndex, Ref x) throws SQLException {
+      this.delegate.setRef(parameterIndex, x);
+    }
+
+    @Override
+    public void setBlob(String parameterName, InputStream inputStream) throws SQLException {
+      this.delegate.setBlob(parameterName, inputStream);
+    }
+
+    @Override
+    public void setBlob(String parameterName, Blob x) throws SQLException {
+      this.delegate.setBlob(parameterName, x);
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
+      this.delegate.setBlob(parameterIndex, inputStream);
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, Blob x) throws SQLException {
+      this.delegate.setBlob(parameterIndex, x);
+    }
+
+    @Override
+    public void setClob(String parameterName, Reader reader) throws SQLException {
+      this.delegate.setClob(parameterName, reader);
+    }
+
+    @Override
+    public void setClob(String parameterName, Clob x) throws SQLException {
+      this.delegate.setClob(parameterName, x);
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Reader reader) throws SQLException {
+      this.delegate.setClob(parameterIndex, reader);
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Clob x) throws SQLException {
+      this.delegate.setClob(parameterIndex, x);
+    }
+
+    @Override
+    public void setArray(int parameterIndex, Array x) throws SQLException {
+      this.delegate.setArray(parameterIndex, x);
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+      return this.delegate.getMetaData();
+    }
+
+    @Override
+    public void setDate(String parameterName, Date x, Calendar cal) throws SQLException {
+      this.delegate.setDate(parameterName, x, cal);
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+      this.delegate.setDate(parameterIndex, x, cal);
+    }
+
+    @Override
+    public void setTime(String parameterName, Time x, Calendar cal) throws SQLException {
+      this.delegate.setTime(parameterName, x, cal);
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+      this.delegate.setTime(parameterIndex, x, cal);
+    }
+
+    @Override
+    public void setTimestamp(String parameterName, Timestamp x, Calendar cal) throws SQLException {
+      this.delegate.setTimestamp(parameterName, x, cal);
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+      this.delegate.setTimestamp(parameterIndex, x, cal);
+    }
+
+    @Override
+    public void setNull(String parameterName, int sqlType, String typeName) throws SQLException {
+      this.delegate.setNull(parameterName, sqlType, typeName);
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+      this.delegate.setNull(parameterIndex, sqlType, typeName);
+    }
+
+    @Override
+    public void setURL(String parameterName, URL val) throws SQLException {
+      this.delegate.setURL(parameterName, val);
+    }
+
+    @Override
+    public void setURL(int parameterIndex, URL x) throws SQLException {
+      this.delegate.setURL(parameterIndex, x);
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+      return this.delegate.getParameterMetaData();
+    }
+
+    @Override
+    public void setRowId(String parameterName, RowId x) throws SQLException {
+      this.delegate.setRowId(parameterName, x);
+    }
+
+    @Override
+    public void setRowId(int parameterIndex, RowId x) throws SQLException {
+      this.delegate.setRowId(parameterIndex, x);
+    }
+
+    @Override
+    public void setNString(String parameterName, String value) throws SQLException {
+      this.delegate.setNString(parameterName, value);
+    }
+
+    @Override
+    public void setNString(int parameterIndex, String value) throws SQLException {
+      this.delegate.setNString(parameterIndex, value);
+    }
+
+    @Override
+    public void setNCharacterStream(String parameterName, Reader value, long length) throws SQLException {
+      this.delegate.setNCharacterStream(parameterName, value, length);
+    }
+
+    @Override
+    public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
+      this.delegate.setNCharacterStream(parameterIndex, value, length);
+    }
+
+    @Override
+    public void setNClob(String parameterName, Reader reader) throws SQLException {
+      this.delegate.setNClob(parameterName, reader);
+    }
+
+    @Override
+    public void setNClob(String parameterName, NClob value) throws SQLException {
+      this.delegate.setNClob(parameterName, value);
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, Reader reader) throws SQLException {
+      this.delegate.setNClob(parameterIndex, reader);
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, NClob value) throws SQLException {
+      this.delegate.setNClob(parameterIndex, value);
+    }
+
+    @Override
+    public void setClob(String parameterName, Reader reader, long length) throws SQLException {
+      this.delegate.setClob(parameterName, reader, length);
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
+      this.delegate.setClob(parameterIndex, reader, length);
+    }
+
+    @Override
+    public void setBlob(String parameterName, InputStream inputStream, long length) throws SQLException {
+      this.delegate.setBlob(parameterName, inputStream, length);
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
+      this.delegate.setBlob(parameterIndex, inputStream, length);
+    }
+
+    @Override
+    public void setNClob(String parameterName, Reader reader, long length) throws SQLException {
+      this.delegate.setNClob(parameterName, reader, length);
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
+      this.delegate.setNClob(parameterIndex, reader, length);
+    }
+
+    @Override
+    public void setSQLXML(String parameterName, SQLXML xmlObject) throws SQLException {
+      this.delegate.setSQLXML(parameterName, xmlObject);
+    }
+
+    @Override
+    public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
+      this.delegate.setSQLXML(parameterIndex, xmlObject);
+    }
+
+    @Override
+    public void setObject(String parameterName, Object x, int targetSqlType, int scale) throws SQLException {
+      this.delegate.setObject(parameterName, x, targetSqlType, scale);
+    }
+
+    @Override
+    public void setObject(String string, Object x, SQLType sQLType, int arg3) throws SQLException {
+      this.delegate.setObject(string, x, sQLType, arg3);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+      this.delegate.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, SQLType sQLType, int arg3) throws SQLException {
+      this.delegate.setObject(parameterIndex, x, sQLType, arg3);
+    }
+
+    @Override
+    public void setAsciiStream(String parameterName, InputStream x) throws SQLException {
+      this.delegate.setAsciiStream(parameterName, x);
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+      this.delegate.setAsciiStream(parameterIndex, x);
+    }
+
+    @Override
+    public void setBinaryStream(String parameterName, InputStream x) throws SQLException {
+      this.delegate.setBinaryStream(parameterName, x);
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+      this.delegate.setBinaryStream(parameterIndex, x);
+    }
+
+    @Override
+    public void setCharacterStream(String parameterName, Reader reader) throws SQLException {
+      this.delegate.setCharacterStream(parameterName, reader);
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
+      this.delegate.setCharacterStream(parameterIndex, reader);
+    }
+
+    @Override
+    public void setNCharacterStream(String parameterName, Reader value) throws SQLException {
+      this.delegate.setNCharacterStream(parameterName, value);
+    }
+
+    @Override
+    public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
+      this.delegate.setNCharacterStream(parameterIndex, value);
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, int sqlType) throws SQLException {
+      this.delegate.registerOutParameter(parameterName, sqlType);
+    }
+
+    @Override
+    public void registerOutParameter(String string, SQLType sQLType) throws SQLException {
+      this.delegate.registerOutParameter(string, sQLType);
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, int sqlType) throws SQLException {
+      this.delegate.registerOutParameter(parameterIndex, sqlType);
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, SQLType sQLType) throws SQLException {
+      this.delegate.registerOutParameter(parameterIndex, sQLType);
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, int sqlType, String typeName) throws SQLException {
+      this.delegate.registerOutParameter(parameterName, sqlType, typeName);
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, int sqlType, int scale) throws SQLException {
+      this.delegate.registerOutParameter(parameterName, sqlType, scale);
+    }
+
+    @Override
+    public void registerOutParameter(String string, SQLType sQLType, String string2) throws SQLException {
+      this.delegate.registerOutParameter(string, sQLType, string2);
+    }
+
+    @Override
+    public void registerOutParameter(String string, SQLType sQLType, int arg2) throws SQLException {
+      this.delegate.registerOutParameter(string, sQLType, arg2);
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, int sqlType, String typeName) throws SQLException {
+      this.delegate.registerOutParameter(parameterIndex, sqlType, typeName);
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, int sqlType, int scale) throws SQLException {
+      this.delegate.registerOutParameter(parameterIndex, sqlType, scale);
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, SQLType sQLType, String string) throws SQLException {
+      this.delegate.registerOutParameter(parameterIndex, sQLType, string);
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, SQLType sQLType, int arg2) throws SQLException {
+      this.delegate.registerOutParameter(parameterIndex, sQLType, arg2);
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+      return this.delegate.wasNull();
+    }
+
+    @Override
+    public String getString(String parameterName) throws SQLException {
+      return this.delegate.getString(parameterName);
+    }
+
+    @Override
+    public String getString(int parameterIndex) throws SQLException {
+      return this.delegate.getString(parameterIndex);
+    }
+
+    @Override
+    public boolean getBoolean(String parameterName) throws SQLException {
+      return this.delegate.getBoolean(parameterName);
+    }
+
+    @Override
+    public boolean getBoolean(int parameterIndex) throws SQLException {
+      return this.delegate.getBoolean(parameterIndex);
+    }
+
+    @Override
+    public byte getByte(String parameterName) throws SQLException {
+      return this.delegate.getByte(parameterName);
+    }
+
+    @Override
+    public byte getByte(int parameterIndex) throws SQLException {
+      return this.delegate.getByte(parameterIndex);
+    }
+
+    @Override
+    public short getShort(String parameterName) throws SQLException {
+      return this.delegate.getShort(parameterName);
+    }
+
+    @Override
+    public short getShort(int parameterIndex) throws SQLException {
+      return this.delegate.getShort(parameterIndex);
+    }
+
+    @Override
+    public int getInt(String parameterName) throws SQLException {
+      return this.delegate.getInt(parameterName);
+    }
+
+    @Override
+    public int getInt(int parameterIndex) throws SQLException {
+      return this.delegate.getInt(parameterIndex);
+    }
+
+    @Override
+    public long getLong(String parameterName) throws SQLException {
+      return this.delegate.getLong(parameterName);
+    }
+
+    @Override
+    public long getLong(int parameterIndex) throws SQLException {
+      return this.delegate.getLong(parameterIndex);
+    }
+
+    @Override
+    public float getFloat(String parameterName) throws SQLException {
+      return this.delegate.getFloat(parameterName);
+    }
+
+    @Override
+    public float getFloat(int parameterIndex) throws SQLException {
+      return this.delegate.getFloat(parameterIndex);
+    }
+
+    @Override
+    public double getDouble(String parameterName) throws SQLException {
+      return this.delegate.getDouble(parameterName);
+    }
+
+    @Override
+    public double getDouble(int parameterIndex) throws SQLException {
+      return this.delegate.getDouble(parameterIndex);
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(int parameterIndex, int scale) throws SQLException {
+      return this.delegate.getBigDecimal(parameterIndex, scale);
+    }
+
+    @Override
+    public byte[] getBytes(String parameterName) throws SQLException {
+      return this.delegate.getBytes(parameterName);
+    }
+
+    @Override
+    public byte[] getBytes(int parameterIndex) throws SQLException {
+      return this.delegate.getBytes(parameterIndex);
+    }
+
+    @Override
+    public Date getDate(String parameterName) throws SQLException {
+      return this.delegate.getDate(parameterName);
+    }
+
+    @Override
+    public Date getDate(int parameterIndex) throws SQLException {
+      return this.delegate.getDate(parameterIndex);
+    }
+
+    @Override
+    public Time getTime(String parameterName) throws SQLException {
+      return this.delegate.getTime(parameterName);
+    }
+
+    @Override
+    public Time getTime(int parameterIndex) throws SQLException {
+      return this.delegate.getTime(parameterIndex);
+    }
+
+    @Override
+    public Timestamp getTimestamp(String parameterName) throws SQLException {
+      return this.delegate.getTimestamp(parameterName);
+    }
+
+    @Override
+    public Timestamp getTimestamp(int parameterIndex) throws SQLException {
+      return this.delegate.getTimestamp(parameterIndex);
+    }
+
+    @Override
+    public Object getObject(String parameterName) throws SQLException {
+      return this.delegate.getObject(parameterName);
+    }
+
+    @Override
+    public Object getObject(int parameterIndex) throws SQLException {
+      return this.delegate.getObject(parameterIndex);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String parameterName) throws SQLException {
+      return this.delegate.getBigDecimal(parameterName);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int parameterIndex) throws SQLException {
+      return this.delegate.getBigDecimal(parameterIndex);
+    }
+
+    @Override
+    public <T> T getObject(String parameterName, Class<T> type) throws SQLException {
+      return this.delegate.getObject(parameterName, type);
+    }
+
+    @Override
+    public Object getObject(String parameterName, Map<String, Class<?>> map) throws SQLException {
+      return this.delegate.getObject(parameterName, map);
+    }
+
+    @Override
+    public <T> T getObject(int parameterIndex, Class<T> type) throws SQLException {
+      return this.delegate.getObject(parameterIndex, type);
+    }
+
+    @Override
+    public Object getObject(int parameterIndex, Map<String, Class<?>> map) throws SQLException {
+      return this.delegate.getObject(parameterIndex, map);
+    }
+
+    @Override
+    public Ref getRef(String parameterName) throws SQLException {
+      return this.delegate.getRef(parameterName);
+    }
+
+    @Override
+    public Ref getRef(int parameterIndex) throws SQLException {
+      return this.delegate.getRef(parameterIndex);
+    }
+
+    @Override
+    public Blob getBlob(String parameterName) throws SQLException {
+      return this.delegate.getBlob(parameterName);
+    }
+
+    @Override
+    public Blob getBlob(int parameterIndex) throws SQLException {
+      return this.delegate.getBlob(parameterIndex);
+    }
+
+    @Override
+    public Clob getClob(String parameterName) throws SQLException {
+      return this.delegate.getClob(parameterName);
+    }
+
+    @Override
+    public Clob getClob(int parameterIndex) throws SQLException {
+      return this.delegate.getClob(parameterIndex);
+    }
+
+    @Override
+    public Array getArray(String parameterName) throws SQLException {
+      return this.delegate.getArray(parameterName);
+    }
+
+    @Override
+    public Array getArray(int parameterIndex) throws SQLException {
+      return this.delegate.getArray(parameterIndex);
+    }
+
+    @Override
+    public Date getDate(String parameterName, Calendar cal) throws SQLException {
+      return this.delegate.getDate(parameterName, cal);
+    }
+
+    @Override
+    public Date getDate(int parameterIndex, Calendar cal) throws SQLException {
+      return this.delegate.getDate(parameterIndex, cal);
+    }
+
+    @Override
+    public Time getTime(String parameterName, Calendar cal) throws SQLException {
+      return this.delegate.getTime(parameterName, cal);
+    }
+
+    @Override
+    public Time getTime(int parameterIndex, Calendar cal) throws SQLException {
+      return this.delegate.getTime(parameterIndex, cal);
+    }
+
+    @Override
+    public Timestamp getTimestamp(String parameterName, Calendar cal) throws SQLException {
+      return this.delegate.getTimestamp(parameterName, cal);
+    }
+
+    @Override
+    public Timestamp getTimestamp(int parameterIndex, Calendar cal) throws SQLException {
+      return this.delegate.getTimestamp(parameterIndex, cal);
+    }
+
+    @Override
+    public URL getURL(String parameterName) throws SQLException {
+      return this.delegate.getURL(parameterName);
+    }
+
+    @Override
+    public URL getURL(int parameterIndex) throws SQLException {
+      return this.delegate.getURL(parameterIndex);
+    }
+
+    @Override
+    public RowId getRowId(String parameterName) throws SQLException {
+      return this.delegate.getRowId(parameterName);
+    }
+
+    @Override
+    public RowId getRowId(int parameterIndex) throws SQLException {
+      return this.delegate.getRowId(parameterIndex);
+    }
+
+    @Override
+    public NClob getNClob(String parameterName) throws SQLException {
+      return this.delegate.getNClob(parameterName);
+    }
+
+    @Override
+    public NClob getNClob(int parameterIndex) throws SQLException {
+      return this.delegate.getNClob(parameterIndex);
+    }
+
+    @Override
+    public SQLXML getSQLXML(String parameterName) throws SQLException {
+      return this.delegate.getSQLXML(parameterName);
+    }
+
+    @Override
+    public SQLXML getSQLXML(int parameterIndex) throws SQLException {
+      return this.delegate.getSQLXML(parameterIndex);
+    }
+
+    @Override
+    public String getNString(String parameterName) throws SQLException {
+      return this.delegate.getNString(parameterName);
+    }
+
+    @Override
+    public String getNString(int parameterIndex) throws SQLException {
+      return this.delegate.getNString(parameterIndex);
+    }
+
+    @Override
+    public Reader getNCharacterStream(String parameterName) throws SQLException {
+      return this.delegate.getNCharacterStream(parameterName);
+    }
+
+    @Override
+    public Reader getNCharacterStream(int parameterIndex) throws SQLException {
+      return this.delegate.getNCharacterStream(parameterIndex);
+    }
+
+    @Override
+    public Reader getCharacterStream(String parameterName) throws SQLException {
+      return this.delegate.getCharacterStream(parameterName);
+    }
+
+    @Override
+    public Reader getCharacterStream(int parameterIndex) throws SQLException {
+      return this.delegate.getCharacterStream(parameterIndex);
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+      return this.delegate.executeLargeBatch();
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+      return this.delegate.executeLargeUpdate();
+    }
+
+    @Override
+    public long executeLargeUpdate(String string, int[] ints) throws SQLException {
+      return this.delegate.executeLargeUpdate(string, ints);
+    }
+
+    @Override
+    public long executeLargeUpdate(String string, String[] strings) throws SQLException {
+      return this.delegate.executeLargeUpdate(string, strings);
+    }
+
+    @Override
+    public long executeLargeUpdate(String string, int arg1) throws SQLException {
+      return this.delegate.executeLargeUpdate(string, arg1);
+    }
+
+    @Override
+    public long executeLargeUpdate(String string) throws SQLException {
+      return this.delegate.executeLargeUpdate(string);
+    }
+
+    @Override
+    public long getLargeMaxRows() throws SQLException {
+      return this.delegate.getLargeMaxRows();
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+      return this.delegate.getLargeUpdateCount();
+    }
+
+    @Override
+    public void setLargeMaxRows(long max) throws SQLException {
+      this.delegate.setLargeMaxRows(max);
+    }
+
+  }
+
+}
@@ -44,9 +44,12 @@ import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.lang.Nullable;
 
 import oracle.jdbc.OracleConnection;
+import oracle.jdbc.OracleParameterMetaData;
 import oracle.jdbc.OraclePreparedStatement;
+import oracle.jdbc.dcn.DatabaseChangeRegistration;
 
 /**
  * A {@link PreparedStatementCreator} that causes OJDBC explicit
@@ -65,8 +68,29 @@ import oracle.jdbc.OraclePreparedStatement;
  */
 public final class CachedPreparedStatementCreator implements PreparedStatementCreator, SqlProvider {
 
+  private static final StatementKind<PreparedStatement> PREPARED_STATEMENTS = new StatementKind<PreparedStatement>() {
+
+    @Override
+    public PreparedStatement getWithKey(OracleConnection connection, String key) throws SQLException {
+      return connection.getStatementWithKey(key);
+    }
+
+    @Override
+    public PreparedStatement prepare(Connection connection, String sql) throws SQLException {
+      return connection.prepareStatement(sql);
+    }
+
+    @Override
+    public PreparedStatement wrap(String key, PreparedStatement statement, @Nullable StatementCacheListener listener) throws SQLException {
+      return new CachedPreparedStatement(key, statement, listener);
+    }
+
+  };
+
   private final String key;
   private final String sql;
+  private final StatementInitializer initializer;
+  private final StatementCacheListener listener;
 
   /**
    * Creates a CachedPreparedStatementCreator.
@@ -77,10 +101,46 @@ public final class CachedPreparedStatementCreator implements PreparedStatementCr
    *        not {@code null}
    */
   public CachedPreparedStatementCreator(String key, String sql) {
+    this(key, sql, null);
+  }
+
+  /**
+   * Creates a CachedPreparedStatementCreator that configures the statement
+   * once when it is prepared. The initializer is not called when the
+   * statement is returned from the cache.
+   * 
+   * @param key the cache key for the created prepared statement,
+   *        has to be unique, not {@code null}
+   * @param sql SQL query string for the cached prepared statement,
+   *        not {@code null}
+   * @param initializer called once for a freshly prepared statement,
+   *        {@code null} for none
+   */
+  public CachedPreparedStatementCreator(String key, String sql, @Nullable StatementInitializer initializer) {
+    this(key, sql, initializer, null);
+  }
+
+  /**
+   * Creates a CachedPreparedStatementCreator that configures the statement
+   * once when it is prepared and reports the use of the cache to a listener.
+   * 
+   * @param key the cache key for the created prepared statement,
+   *        has to be unique, not {@code null}
+   * @param sql SQL query string for the cached prepared statement,
+   *        not {@code null}
+   * @param initializer called once for a freshly prepared statement,
+   *        {@code null} for none
+   * @param listener notified about cache hits, misses and returns,
+   *        {@code null} for none
+   */
+  public CachedPreparedStatementCreator(String key, String sql, @Nullable StatementInitializer initializer,
+          @Nullable StatementCacheListener listener) {
     Objects.requireNonNull(key, "key");
     Objects.requireNonNull(sql, "sql");
     this.key = key;
     this.sql = sql;
+    this.initializer = initializer;
+    this.listener = listener;
   }
 
   @Override
@@ -88,38 +148,138 @@ public final class CachedPreparedStatementCreator implements PreparedStatementCr
     return this.sql;
   }
 
+  String getKey() {
+    return this.key;
+  }
+
   @Override
   public PreparedStatement createPreparedStatement(Connection connection) throws SQLException {
+    return createCachedStatement(connection, this.key, this.sql, this.initializer, this.listener);
+  }
+
+  /**
+   * Gets a statement from the explicit statement cache or prepares a new one
+   * if there is none for the key.
+   *
+   * @param connection the connection from which to get the statement
+   * @param key the cache key of the statement
+   * @param sql the SQL of the statement
+   * @param initializer called when a new statement is prepared, may be {@code null}
+   * @param listener notified about the use of the cache, may be {@code null}
+   * @return a statement that is returned to the explicit cache when closed
+   * @throws SQLException if preparing or initializing the statement fails
+   */
+  static PreparedStatement createCachedStatement(Connection connection, String key, String sql,
+          @Nullable StatementInitializer initializer, @Nullable StatementCacheListener listener) throws SQLException {
+    return createCachedStatement(connection, key, sql, initializer, listener, PREPARED_STATEMENTS);
+  }
+
+  /**
+   * Gets a statement of a kind from the explicit statement cache or prepares
+   * a new one if there is none for the key.
+   *
+   * @param <S> the statement type
+   * @param connection the connection from which to get the statement
+   * @param key the cache key of the statement
+   * @param sql the SQL of the statement
+   * @param initializer called when a new statement is prepared, may be {@code null}
+   * @param listener notified about the use of the cache, may be {@code null}
+   * @param kind looks up, prepares and wraps the statements
+   * @return a statement that is returned to the explicit cache when closed
+   * @throws SQLException if preparing or initializing the statement fails
+   */
+  static <S extends PreparedStatement> S createCachedStatement(Connection connection, String key, String sql,
+          @Nullable StatementInitializer initializer, @Nullable StatementCacheListener listener, StatementKind<S> kind) throws SQLException {
     OracleConnection oracleConnection = connection.unwrap(OracleConnection.class);
-    PreparedStatement statement = oracleConnection.getStatementWithKey(this.key);
+    S statement = kind.getWithKey(oracleConnection, key);
     if (statement == null) {
-      statement = connection.prepareStatement(this.sql);
+      long start = listener != null ? System.nanoTime() : 0L;
+      statement = kind.prepare(connection, sql);
+      if (initializer != null) {
+        initialize(statement, initializer);
+      }
+      if (listener != null) {
+        listener.cacheMiss(key, System.nanoTime() - start);
+      }
+    } else if (listener != null) {
+      listener.cacheHit(key);
+    }
+    return kind.wrap(key, statement, listener);
+  }
+
+  /**
+   * Applies an initializer to a freshly prepared statement. The statement is
+   * closed without being cached if the initializer fails.
+   *
+   * @param statement the freshly prepared statement
+   * @param initializer the initializer to apply
+   * @throws SQLException if the initializer fails
+   */
+  static void initialize(PreparedStatement statement, StatementInitializer initializer) throws SQLException {
+    try {
+      initializer.initialize(statement.unwrap(OraclePreparedStatement.class));
+    } catch (SQLException | RuntimeException e) {
+      statement.close();
+      throw e;
     }
-    return new CachedPreparedStatement(this.key, statement);
+  }
+
+  /**
+   * Looks up, prepares and wraps the statements of one kind, prepared
+   * statements or calls.
+   *
+   * @param <S> the statement type
+   */
+  interface StatementKind<S extends PreparedStatement> {
+
+    @Nullable
+    S getWithKey(OracleConnection connection, String key) throws SQLException;
+
+    S prepare(Connection connection, String sql) throws SQLException;
+
+    S wrap(String key, S statement, @Nullable StatementCacheListener listener) throws SQLException;
+
   }
 
   /**
    * Ensures that instead of being closed the statement is instead returned to the pool.
+   *
+   * <p>The {@link OraclePreparedStatement} is resolved once when the statement
+   * is created. Standard JDBC methods are called on the statement as returned
+   * by the connection, which may be a connection pool proxy, Oracle specific
+   * methods are called directly on the Oracle statement without unwrapping
+   * through the proxies on every call.</p>
    */
-  static final class CachedPreparedStatement implements PreparedStatement {
+  @SuppressWarnings("deprecation")
+  static final class CachedPreparedStatement implements OraclePreparedStatement {
 
     private final String key;
     private final PreparedStatement delegate;
+    private final OraclePreparedStatement oracleDelegate;
+    private final StatementCacheListener listener;
 
-    CachedPreparedStatement(String key, PreparedStatement delegate) {
+    CachedPreparedStatement(String key, PreparedStatement delegate, @Nullable StatementCacheListener listener) throws SQLException {
       Objects.requireNonNull(key, "key");
       Objects.requireNonNull(delegate, "delegate");
       this.key = key;
       this.delegate = delegate;
+      this.oracleDelegate = delegate.unwrap(OraclePreparedStatement.class);
+      this.listener = listener;
     }
 
     @Override
     public void close() throws SQLException {
-      this.delegate.unwrap(OraclePreparedStatement.class).closeWithKey(this.key);
+      this.oracleDelegate.closeWithKey(this.key);
+      if (this.listener != null) {
+        this.listener.returnedToCache(this.key);
+      }
     }
 
     @Override
     public <T> T unwrap(Class<T> iface) throws SQLException {
+      if (iface.isInstance(this)) {
+        return iface.cast(this);
+      }
       return this.delegate.unwrap(iface);
     }
 
@@ -135,7 +295,7 @@ public final class CachedPreparedStatementCreator implements PreparedStatementCr
 
     @Override
     public boolean isWrapperFor(Class<?> iface) throws SQLException {
-      return this.delegate.isWrapperFor(iface);
+      return iface.isInstance(this) || this.delegate.isWrapperFor(iface);
     }
 
     @Override
@@ -666,6 +826,712 @@ public final class CachedPreparedStatementCreator implements PreparedStatementCr
       return this.delegate.executeLargeUpdate();
     }
 
+    @Override
+    public OracleParameterMetaData OracleGetParameterMetaData() throws SQLException {
+      return this.oracleDelegate.OracleGetParameterMetaData();
+    }
+
+    @Override
+    public void clearDefines() throws SQLException {
+      this.oracleDelegate.clearDefines();
+    }
+
+    @Override
+    public void closeWithKey(String key) throws SQLException {
+      this.oracleDelegate.closeWithKey(key);
+    }
+
+    @Override
+    public int creationState() {
+      return this.oracleDelegate.creationState();
+    }
+
+    @Override
+    public void defineColumnType(int columnIndex, int type, String typeName) throws SQLException {
+      this.oracleDelegate.defineColumnType(columnIndex, type, typeName);
+    }
+
+    @Override
+    public void defineColumnType(int columnIndex, int type, int lobPrefetchSize, short formOfUse) throws SQLException {
+      this.oracleDelegate.defineColumnType(columnIndex, type, lobPrefetchSize, formOfUse);
+    }
+
+    @Override
+    public void defineColumnType(int columnIndex, int type, int maxSize) throws SQLException {
+      this.oracleDelegate.defineColumnType(columnIndex, type, maxSize);
+    }
+
+    @Override
+    public void defineColumnType(int columnIndex, int type) throws SQLException {
+      this.oracleDelegate.defineColumnType(columnIndex, type);
+    }
+
+    @Override
+    public void defineColumnTypeBytes(int columnIndex, int type, int lobPrefetchSize) throws SQLException {
+      this.oracleDelegate.defineColumnTypeBytes(columnIndex, type, lobPrefetchSize);
+    }
+
+    @Override
+    public void defineColumnTypeChars(int columnIndex, int type, int lobPrefetchSize) throws SQLException {
+      this.oracleDelegate.defineColumnTypeChars(columnIndex, type, lobPrefetchSize);
+    }
+
+    @Override
+    public void defineParameterType(int paramIndex, int type, int maxSize) throws SQLException {
+      this.oracleDelegate.defineParameterType(paramIndex, type, maxSize);
+    }
+
+    @Override
+    public void defineParameterTypeBytes(int paramIndex, int type, int maxSize) throws SQLException {
+      this.oracleDelegate.defineParameterTypeBytes(paramIndex, type, maxSize);
+    }
+
+    @Override
+    public void defineParameterTypeChars(int paramIndex, int type, int maxSize) throws SQLException {
+      this.oracleDelegate.defineParameterTypeChars(paramIndex, type, maxSize);
+    }
+
+    @Override
+    public int getExecuteBatch() {
+      return this.oracleDelegate.getExecuteBatch();
+    }
+
+    @Override
+    public int getLobPrefetchSize() throws SQLException {
+      return this.oracleDelegate.getLobPrefetchSize();
+    }
+
+    @Override
+    public long getRegisteredQueryId() throws SQLException {
+      return this.oracleDelegate.getRegisteredQueryId();
+    }
+
+    @Override
+    public String[] getRegisteredTableNames() throws SQLException {
+      return this.oracleDelegate.getRegisteredTableNames();
+    }
+
+    @Override
+    public ResultSet getReturnResultSet() throws SQLException {
+      return this.oracleDelegate.getReturnResultSet();
+    }
+
+    @Override
+    public int getRowPrefetch() {
+      return this.oracleDelegate.getRowPrefetch();
+    }
+
+    @Override
+    public boolean isNCHAR(int index) throws SQLException {
+      return this.oracleDelegate.isNCHAR(index);
+    }
+
+    @Override
+    public void registerReturnParameter(int paramIndex, int externalType, String typeName) throws SQLException {
+      this.oracleDelegate.registerReturnParameter(paramIndex, externalType, typeName);
+    }
+
+    @Override
+    public void registerReturnParameter(int paramIndex, int externalType, int maxSize) throws SQLException {
+      this.oracleDelegate.registerReturnParameter(paramIndex, externalType, maxSize);
+    }
+
+    @Override
+    public void registerReturnParameter(int paramIndex, int externalType) throws SQLException {
+      this.oracleDelegate.registerReturnParameter(paramIndex, externalType);
+    }
+
+    @Override
+    public int sendBatch() throws SQLException {
+      return this.oracleDelegate.sendBatch();
+    }
+
+    @Override
+    public void setARRAY(int parameterIndex, oracle.sql.ARRAY x) throws SQLException {
+      this.oracleDelegate.setARRAY(parameterIndex, x);
+    }
+
+    @Override
+    public void setARRAYAtName(String parameterName, oracle.sql.ARRAY x) throws SQLException {
+      this.oracleDelegate.setARRAYAtName(parameterName, x);
+    }
+
+    @Override
+    public void setArrayAtName(String parameterName, Array x) throws SQLException {
+      this.oracleDelegate.setArrayAtName(parameterName, x);
+    }
+
+    @Override
+    public void setAsciiStreamAtName(String parameterName, InputStream x, int length) throws SQLException {
+      this.oracleDelegate.setAsciiStreamAtName(parameterName, x, length);
+    }
+
+    @Override
+    public void setAsciiStreamAtName(String parameterName, InputStream x, long length) throws SQLException {
+      this.oracleDelegate.setAsciiStreamAtName(parameterName, x, length);
+    }
+
+    @Override
+    public void setAsciiStreamAtName(String parameterName, InputStream x) throws SQLException {
+      this.oracleDelegate.setAsciiStreamAtName(parameterName, x);
+    }
+
+    @Override
+    public void setBFILE(int parameterIndex, oracle.sql.BFILE x) throws SQLException {
+      this.oracleDelegate.setBFILE(parameterIndex, x);
+    }
+
+    @Override
+    public void setBFILEAtName(String parameterName, oracle.sql.BFILE x) throws SQLException {
+      this.oracleDelegate.setBFILEAtName(parameterName, x);
+    }
+
+    @Override
+    public void setBLOB(int parameterIndex, oracle.sql.BLOB x) throws SQLException {
+      this.oracleDelegate.setBLOB(parameterIndex, x);
+    }
+
+    @Override
+    public void setBLOBAtName(String parameterName, oracle.sql.BLOB x) throws SQLException {
+      this.oracleDelegate.setBLOBAtName(parameterName, x);
+    }
+
+    @Override
+    public void setBfile(int parameterIndex, oracle.sql.BFILE x) throws SQLException {
+      this.oracleDelegate.setBfile(parameterIndex, x);
+    }
+
+    @Override
+    public void setBfileAtName(String parameterName, oracle.sql.BFILE x) throws SQLException {
+      this.oracleDelegate.setBfileAtName(parameterName, x);
+    }
+
+    @Override
+    public void setBigDecimalAtName(String parameterName, BigDecimal x) throws SQLException {
+      this.oracleDelegate.setBigDecimalAtName(parameterName, x);
+    }
+
+    @Override
+    public void setBinaryDouble(int parameterIndex, oracle.sql.BINARY_DOUBLE x) throws SQLException {
+      this.oracleDelegate.setBinaryDouble(parameterIndex, x);
+    }
+
+    @Override
+    public void setBinaryDouble(int parameterIndex, double x) throws SQLException {
+      this.oracleDelegate.setBinaryDouble(parameterIndex, x);
+    }
+
+    @Override
+    public void setBinaryDoubleAtName(String parameterName, oracle.sql.BINARY_DOUBLE x) throws SQLException {
+      this.oracleDelegate.setBinaryDoubleAtName(parameterName, x);
+    }
+
+    @Override
+    public void setBinaryDoubleAtName(String parameterName, double x) throws SQLException {
+      this.oracleDelegate.setBinaryDoubleAtName(parameterName, x);
+    }
+
+    @Override
+    public void setBinaryFloat(int parameterIndex, oracle.sql.BINARY_FLOAT x) throws SQLException {
+      this.oracleDelegate.setBinaryFloat(parameterIndex, x);
+    }
+
+    @Override
+    public void setBinaryFloat(int parameterIndex, float x) throws SQLException {
+      this.oracleDelegate.setBinaryFloat(parameterIndex, x);
+    }
+
+    @Override
+    public void setBinaryFloatAtName(String parameterName, oracle.sql.BINARY_FLOAT x) throws SQLException {
+      this.oracleDelegate.setBinaryFloatAtName(parameterName, x);
+    }
+
+    @Override
+    public void setBinaryFloatAtName(String parameterName, float x) throws SQLException {
+      this.oracleDelegate.setBinaryFloatAtName(parameterName, x);
+    }
+
+    @Override
+    public void setBinaryStreamAtName(String parameterName, InputStream x, int length) throws SQLException {
+      this.oracleDelegate.setBinaryStreamAtName(parameterName, x, length);
+    }
+
+    @Override
+    public void setBinaryStreamAtName(String parameterName, InputStream x, long length) throws SQLException {
+      this.oracleDelegate.setBinaryStreamAtName(parameterName, x, length);
+    }
+
+    @Override
+    public void setBinaryStreamAtName(String parameterName, InputStream x) throws SQLException {
+      this.oracleDelegate.setBinaryStreamAtName(parameterName, x);
+    }
+
+    @Override
+    public void setBlobAtName(String parameterName, InputStream x, long length) throws SQLException {
+      this.oracleDelegate.setBlobAtName(parameterName, x, length);
+    }
+
+    @Override
+    public void setBlobAtName(String parameterName, InputStream x) throws SQLException {
+      this.oracleDelegate.setBlobAtName(parameterName, x);
+    }
+
+    @Override
+    public void setBlobAtName(String parameterName, Blob x) throws SQLException {
+      this.oracleDelegate.setBlobAtName(parameterName, x);
+    }
+
+    @Override
+    public void setBooleanAtName(String parameterName, boolean x) throws SQLException {
+      this.oracleDelegate.setBooleanAtName(parameterName, x);
+    }
+
+    @Override
+    public void setByteAtName(String parameterName, byte x) throws SQLException {
+      this.oracleDelegate.setByteAtName(parameterName, x);
+    }
+
+    @Override
+    public void setBytesAtName(String parameterName, byte[] x) throws SQLException {
+      this.oracleDelegate.setBytesAtName(parameterName, x);
+    }
+
+    @Override
+    public void setBytesForBlob(int parameterIndex, byte[] x) throws SQLException {
+      this.oracleDelegate.setBytesForBlob(parameterIndex, x);
+    }
+
+    @Override
+    public void setBytesForBlobAtName(String parameterName, byte[] x) throws SQLException {
+      this.oracleDelegate.setBytesForBlobAtName(parameterName, x);
+    }
+
+    @Override
+    public void setCHAR(int parameterIndex, oracle.sql.CHAR x) throws SQLException {
+      this.oracleDelegate.setCHAR(parameterIndex, x);
+    }
+
+    @Override
+    public void setCHARAtName(String parameterName, oracle.sql.CHAR x) throws SQLException {
+      this.oracleDelegate.setCHARAtName(parameterName, x);
+    }
+
+    @Override
+    public void setCLOB(int parameterIndex, oracle.sql.CLOB x) throws SQLException {
+      this.oracleDelegate.setCLOB(parameterIndex, x);
+    }
+
+    @Override
+    public void setCLOBAtName(String parameterName, oracle.sql.CLOB x) throws SQLException {
+      this.oracleDelegate.setCLOBAtName(parameterName, x);
+    }
+
+    @Override
+    public void setCharacterStreamAtName(String parameterName, Reader x, long length) throws SQLException {
+      this.oracleDelegate.setCharacterStreamAtName(parameterName, x, length);
+    }
+
+    @Override
+    public void setCharacterStreamAtName(String parameterName, Reader x) throws SQLException {
+      this.oracleDelegate.setCharacterStreamAtName(parameterName, x);
+    }
+
+    @Override
+    public void setCheckBindTypes(boolean flag) {
+      this.oracleDelegate.setCheckBindTypes(flag);
+    }
+
+    @Override
+    public void setClobAtName(String parameterName, Reader x, long length) throws SQLException {
+      this.oracleDelegate.setClobAtName(parameterName, x, length);
+    }
+
+    @Override
+    public void setClobAtName(String parameterName, Reader x) throws SQLException {
+      this.oracleDelegate.setClobAtName(parameterName, x);
+    }
+
+    @Override
+    public void setClobAtName(String parameterName, Clob x) throws SQLException {
+      this.oracleDelegate.setClobAtName(parameterName, x);
+    }
+
+    @Override
+    public void setCursor(int parameterIndex, ResultSet x) throws SQLException {
+      this.oracleDelegate.setCursor(parameterIndex, x);
+    }
+
+    @Override
+    public void setCursorAtName(String parameterName, ResultSet x) throws SQLException {
+      this.oracleDelegate.setCursorAtName(parameterName, x);
+    }
+
+    @Override
+    public void setCustomDatum(int parameterIndex, oracle.sql.CustomDatum x) throws SQLException {
+      this.oracleDelegate.setCustomDatum(parameterIndex, x);
+    }
+
+    @Override
+    public void setCustomDatumAtName(String parameterName, oracle.sql.CustomDatum x) throws SQLException {
+      this.oracleDelegate.setCustomDatumAtName(parameterName, x);
+    }
+
+    @Override
+    public void setDATE(int parameterIndex, oracle.sql.DATE x) throws SQLException {
+      this.oracleDelegate.setDATE(parameterIndex, x);
+    }
+
+    @Override
+    public void setDATEAtName(String parameterName, oracle.sql.DATE x) throws SQLException {
+      this.oracleDelegate.setDATEAtName(parameterName, x);
+    }
+
+    @Override
+    public void setDatabaseChangeRegistration(DatabaseChangeRegistration databaseChangeRegistration) throws SQLException {
+      this.oracleDelegate.setDatabaseChangeRegistration(databaseChangeRegistration);
+    }
+
+    @Override
+    public void setDateAtName(String parameterName, Date x, Calendar cal) throws SQLException {
+      this.oracleDelegate.setDateAtName(parameterName, x, cal);
+    }
+
+    @Override
+    public void setDateAtName(String parameterName, Date x) throws SQLException {
+      this.oracleDelegate.setDateAtName(parameterName, x);
+    }
+
+    @Override
+    public void setDisableStmtCaching(boolean flag) {
+      this.oracleDelegate.setDisableStmtCaching(flag);
+    }
+
+    @Override
+    public void setDoubleAtName(String parameterName, double x) throws SQLException {
+      this.oracleDelegate.setDoubleAtName(parameterName, x);
+    }
+
+    @Override
+    public void setExecuteBatch(int batchValue) throws SQLException {
+      this.oracleDelegate.setExecuteBatch(batchValue);
+    }
+
+    @Override
+    public void setFixedCHAR(int parameterIndex, String x) throws SQLException {
+      this.oracleDelegate.setFixedCHAR(parameterIndex, x);
+    }
+
+    @Override
+    public void setFixedCHARAtName(String parameterName, String x) throws SQLException {
+      this.oracleDelegate.setFixedCHARAtName(parameterName, x);
+    }
+
+    @Override
+    public void setFloatAtName(String parameterName, float x) throws SQLException {
+      this.oracleDelegate.setFloatAtName(parameterName, x);
+    }
+
+    @Override
+    public void setFormOfUse(int parameterIndex, short formOfUse) {
+      this.oracleDelegate.setFormOfUse(parameterIndex, formOfUse);
+    }
+
+    @Override
+    public void setINTERVALDS(int parameterIndex, oracle.sql.INTERVALDS x) throws SQLException {
+      this.oracleDelegate.setINTERVALDS(parameterIndex, x);
+    }
+
+    @Override
+    public void setINTERVALDSAtName(String parameterName, oracle.sql.INTERVALDS x) throws SQLException {
+      this.oracleDelegate.setINTERVALDSAtName(parameterName, x);
+    }
+
+    @Override
+    public void setINTERVALYM(int parameterIndex, oracle.sql.INTERVALYM x) throws SQLException {
+      this.oracleDelegate.setINTERVALYM(parameterIndex, x);
+    }
+
+    @Override
+    public void setINTERVALYMAtName(String parameterName, oracle.sql.INTERVALYM x) throws SQLException {
+      this.oracleDelegate.setINTERVALYMAtName(parameterName, x);
+    }
+
+    @Override
+    public void setIntAtName(String parameterName, int x) throws SQLException {
+      this.oracleDelegate.setIntAtName(parameterName, x);
+    }
+
+    @Override
+    public void setLobPrefetchSize(int size) throws SQLException {
+      this.oracleDelegate.setLobPrefetchSize(size);
+    }
+
+    @Override
+    public void setLongAtName(String parameterName, long x) throws SQLException {
+      this.oracleDelegate.setLongAtName(parameterName, x);
+    }
+
+    @Override
+    public void setNCharacterStreamAtName(String parameterName, Reader x, long length) throws SQLException {
+      this.oracleDelegate.setNCharacterStreamAtName(parameterName, x, length);
+    }
+
+    @Override
+    public void setNCharacterStreamAtName(String parameterName, Reader x) throws SQLException {
+      this.oracleDelegate.setNCharacterStreamAtName(parameterName, x);
+    }
+
+    @Override
+    public void setNClobAtName(String parameterName, Reader x, long length) throws SQLException {
+      this.oracleDelegate.setNClobAtName(parameterName, x, length);
+    }
+
+    @Override
+    public void setNClobAtName(String parameterName, Reader x) throws SQLException {
+      this.oracleDelegate.setNClobAtName(parameterName, x);
+    }
+
+    @Override
+    public void setNClobAtName(String parameterName, NClob x) throws SQLException {
+      this.oracleDelegate.setNClobAtName(parameterName, x);
+    }
+
+    @Override
+    public void setNStringAtName(String parameterName, String x) throws SQLException {
+      this.oracleDelegate.setNStringAtName(parameterName, x);
+    }
+
+    @Override
+    public void setNUMBER(int parameterIndex, oracle.sql.NUMBER x) throws SQLException {
+      this.oracleDelegate.setNUMBER(parameterIndex, x);
+    }
+
+    @Override
+    public void setNUMBERAtName(String parameterName, oracle.sql.NUMBER x) throws SQLException {
+      this.oracleDelegate.setNUMBERAtName(parameterName, x);
+    }
+
+    @Override
+    public void setNullAtName(String parameterName, int sqlType, String typeName) throws SQLException {
+      this.oracleDelegate.setNullAtName(parameterName, sqlType, typeName);
+    }
+
+    @Override
+    public void setNullAtName(String parameterName, int sqlType) throws SQLException {
+      this.oracleDelegate.setNullAtName(parameterName, sqlType);
+    }
+
+    @Override
+    public void setOPAQUE(int parameterIndex, oracle.sql.OPAQUE x) throws SQLException {
+      this.oracleDelegate.setOPAQUE(parameterIndex, x);
+    }
+
+    @Override
+    public void setOPAQUEAtName(String parameterName, oracle.sql.OPAQUE x) throws SQLException {
+      this.oracleDelegate.setOPAQUEAtName(parameterName, x);
+    }
+
+    @Override
+    public void setORAData(int parameterIndex, oracle.sql.ORAData x) throws SQLException {
+      this.oracleDelegate.setORAData(parameterIndex, x);
+    }
+
+    @Override
+    public void setORADataAtName(String parameterName, oracle.sql.ORAData x) throws SQLException {
+      this.oracleDelegate.setORADataAtName(parameterName, x);
+    }
+
+    @Override
+    public void setObjectAtName(String parameterName, Object x, int targetSqlType, int scale) throws SQLException {
+      this.oracleDelegate.setObjectAtName(parameterName, x, targetSqlType, scale);
+    }
+
+    @Override
+    public void setObjectAtName(String parameterName, Object x, int targetSqlType) throws SQLException {
+      this.oracleDelegate.setObjectAtName(parameterName, x, targetSqlType);
+    }
+
+    @Override
+    public void setObjectAtName(String parameterName, Object x) throws SQLException {
+      this.oracleDelegate.setObjectAtName(parameterName, x);
+    }
+
+    @Override
+    public void setOracleObject(int parameterIndex, oracle.sql.Datum x) throws SQLException {
+      this.oracleDelegate.setOracleObject(parameterIndex, x);
+    }
+
+    @Override
+    public void setOracleObjectAtName(String parameterName, oracle.sql.Datum x) throws SQLException {
+      this.oracleDelegate.setOracleObjectAtName(parameterName, x);
+    }
+
+    @Override
+    @Deprecated
+    public void setPlsqlIndexTable(int parameterIndex, Object arrayData, int maxLen, int curLen, int elemSqlType, int elemMaxLen) throws SQLException {
+      this.oracleDelegate.setPlsqlIndexTable(parameterIndex, arrayData, maxLen, curLen, elemSqlType, elemMaxLen);
+    }
+
+    @Override
+    public void setRAW(int parameterIndex, oracle.sql.RAW x) throws SQLException {
+      this.oracleDelegate.setRAW(parameterIndex, x);
+    }
+
+    @Override
+    public void setRAWAtName(String parameterName, oracle.sql.RAW x) throws SQLException {
+      this.oracleDelegate.setRAWAtName(parameterName, x);
+    }
+
+    @Override
+    public void setREF(int parameterIndex, oracle.sql.REF x) throws SQLException {
+      this.oracleDelegate.setREF(parameterIndex, x);
+    }
+
+    @Override
+    public void setREFAtName(String parameterName, oracle.sql.REF x) throws SQLException {
+      this.oracleDelegate.setREFAtName(parameterName, x);
+    }
+
+    @Override
+    public void setROWID(int parameterIndex, oracle.sql.ROWID x) throws SQLException {
+      this.oracleDelegate.setROWID(parameterIndex, x);
+    }
+
+    @Override
+    public void setROWIDAtName(String parameterName, oracle.sql.ROWID x) throws SQLException {
+      this.oracleDelegate.setROWIDAtName(parameterName, x);
+    }
+
+    @Override
+    public void setRefAtName(String parameterName, Ref x) throws SQLException {
+      this.oracleDelegate.setRefAtName(parameterName, x);
+    }
+
+    @Override
+    public void setRefType(int parameterIndex, oracle.sql.REF x) throws SQLException {
+      this.oracleDelegate.setRefType(parameterIndex, x);
+    }
+
+    @Override
+    public void setRefTypeAtName(String parameterName, oracle.sql.REF x) throws SQLException {
+      this.oracleDelegate.setRefTypeAtName(parameterName, x);
+    }
+
+    @Override
+    public void setRowIdAtName(String parameterName, RowId x) throws SQLException {
+      this.oracleDelegate.setRowIdAtName(parameterName, x);
+    }
+
+    @Override
+    public void setRowPrefetch(int rows) throws SQLException {
+      this.oracleDelegate.setRowPrefetch(rows);
+    }
+
+    @Override
+    public void setSQLXMLAtName(String parameterName, SQLXML x) throws SQLException {
+      this.oracleDelegate.setSQLXMLAtName(parameterName, x);
+    }
+
+    @Override
+    public void setSTRUCT(int parameterIndex, oracle.sql.STRUCT x) throws SQLException {
+      this.oracleDelegate.setSTRUCT(parameterIndex, x);
+    }
+
+    @Override
+    public void setSTRUCTAtName(String parameterName, oracle.sql.STRUCT x) throws SQLException {
+      this.oracleDelegate.setSTRUCTAtName(parameterName, x);
+    }
+
+    @Override
+    public void setShortAtName(String parameterName, short x) throws SQLException {
+      this.oracleDelegate.setShortAtName(parameterName, x);
+    }
+
+    @Override
+    public void setStringAtName(String parameterName, String x) throws SQLException {
+      this.oracleDelegate.setStringAtName(parameterName, x);
+    }
+
+    @Override
+    public void setStringForClob(int parameterIndex, String x) throws SQLException {
+      this.oracleDelegate.setStringForClob(parameterIndex, x);
+    }
+
+    @Override
+    public void setStringForClobAtName(String parameterName, String x) throws SQLException {
+      this.oracleDelegate.setStringForClobAtName(parameterName, x);
+    }
+
+    @Override
+    public void setStructDescriptor(int parameterIndex, oracle.sql.StructDescriptor x) throws SQLException {
+      this.oracleDelegate.setStructDescriptor(parameterIndex, x);
+    }
+
+    @Override
+    public void setStructDescriptorAtName(String parameterName, oracle.sql.StructDescriptor x) throws SQLException {
+      this.oracleDelegate.setStructDescriptorAtName(parameterName, x);
+    }
+
+    @Override
+    public void setTIMESTAMP(int parameterIndex, oracle.sql.TIMESTAMP x) throws SQLException {
+      this.oracleDelegate.setTIMESTAMP(parameterIndex, x);
+    }
+
+    @Override
+    public void setTIMESTAMPAtName(String parameterName, oracle.sql.TIMESTAMP x) throws SQLException {
+      this.oracleDelegate.setTIMESTAMPAtName(parameterName, x);
+    }
+
+    @Override
+    public void setTIMESTAMPLTZ(int parameterIndex, oracle.sql.TIMESTAMPLTZ x) throws SQLException {
+      this.oracleDelegate.setTIMESTAMPLTZ(parameterIndex, x);
+    }
+
+    @Override
+    public void setTIMESTAMPLTZAtName(String parameterName, oracle.sql.TIMESTAMPLTZ x) throws SQLException {
+      this.oracleDelegate.setTIMESTAMPLTZAtName(parameterName, x);
+    }
+
+    @Override
+    public void setTIMESTAMPTZ(int parameterIndex, oracle.sql.TIMESTAMPTZ x) throws SQLException {
+      this.oracleDelegate.setTIMESTAMPTZ(parameterIndex, x);
+    }
+
+    @Override
+    public void setTIMESTAMPTZAtName(String parameterName, oracle.sql.TIMESTAMPTZ x) throws SQLException {
+      this.oracleDelegate.setTIMESTAMPTZAtName(parameterName, x);
+    }
+
+    @Override
+    public void setTimeAtName(String parameterName, Time x, Calendar cal) throws SQLException {
+      this.oracleDelegate.setTimeAtName(parameterName, x, cal);
+    }
+
+    @Override
+    public void setTimeAtName(String parameterName, Time x) throws SQLException {
+      this.oracleDelegate.setTimeAtName(parameterName, x);
+    }
+
+    @Override
+    public void setTimestampAtName(String parameterName, Timestamp x, Calendar cal) throws SQLException {
+      this.oracleDelegate.setTimestampAtName(parameterName, x, cal);
+    }
+
+    @Override
+    public void setTimestampAtName(String parameterName, Timestamp x) throws SQLException {
+      this.oracleDelegate.setTimestampAtName(parameterName, x);
+    }
+
+    @Override
+    public void setURLAtName(String parameterName, URL x) throws SQLException {
+      this.oracleDelegate.setURLAtName(parameterName, x);
+    }
+
+    @Override
+    public void setUnicodeStreamAtName(String parameterName, InputStream x, int length) throws SQLException {
+      this.oracleDelegate.setUnicodeStreamAtName(parameterName, x, length);
+    }
+
   }
 
 }
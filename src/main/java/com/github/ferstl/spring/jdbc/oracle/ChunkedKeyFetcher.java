@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+
+/**
+ * Fetches rows for a collection of keys in chunks of a fixed size, binding
+ * every chunk as an array.
+ *
+ * <p>Instead of one array with all keys, or one round trip per key, the keys
+ * are split into chunks of {@code chunkSize} keys. Every chunk is bound as an
+ * array to the same SQL string, and with a cache key to the same cached
+ * statement, which limits client and PGA memory per round trip to a chunk
+ * while needing only {@code keys / chunkSize} round trips.</p>
+ *
+ * <p>The SQL string refers to the array of a chunk as {@code :keys}, for
+ * example
+ * {@code SELECT * FROM some_table WHERE id IN (SELECT column_value FROM TABLE(:keys))}.</p>
+ *
+ * <p>By default chunks are fetched one after another while the resulting stream
+ * is consumed. Run inside a transaction to fetch all chunks on a single
+ * connection. With an {@link #setExecutor(Executor) executor} up to
+ * {@link #setParallelism(int) parallelism} chunks are fetched in parallel, each
+ * on a connection of its own, and the rows are merged in the order of the
+ * chunks.</p>
+ *
+ * <p>Instances are thread-safe once configured.</p>
+ */
+public final class ChunkedKeyFetcher {
+
+  /**
+   * The name of the array parameter containing the keys of a chunk.
+   */
+  public static final String KEYS_PARAMETER = "keys";
+
+  private static final int DEFAULT_PARALLELISM = 4;
+
+  private final OracleNamedParameterJdbcTemplate namedTemplate;
+  private final ArrayTypeRegistry arrayTypeRegistry;
+  private final int chunkSize;
+
+  @Nullable
+  private Executor executor;
+
+  private int parallelism = DEFAULT_PARALLELISM;
+
+  /**
+   * Creates a fetcher that binds chunks as arrays of the type registered for
+   * the keys.
+   *
+   * @param namedTemplate the template used to run the queries
+   * @param arrayTypeRegistry the registry of the array types of the keys
+   * @param chunkSize the number of keys per chunk, has to be positive
+   */
+  public ChunkedKeyFetcher(OracleNamedParameterJdbcTemplate namedTemplate, ArrayTypeRegistry arrayTypeRegistry, int chunkSize) {
+    Objects.requireNonNull(namedTemplate, "namedTemplate");
+    Objects.requireNonNull(arrayTypeRegistry, "arrayTypeRegistry");
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be positive but was: " + chunkSize);
+    }
+    this.namedTemplate = namedTemplate;
+    this.arrayTypeRegistry = arrayTypeRegistry;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Creates a fetcher that binds chunks as arrays of a single type. The keys
+   * are passed to the driver as they are.
+   *
+   * @param namedTemplate the template used to run the queries
+   * @param arrayTypeName the name of the Oracle collection type of the keys
+   * @param chunkSize the number of keys per chunk, has to be positive
+   */
+  public ChunkedKeyFetcher(OracleNamedParameterJdbcTemplate namedTemplate, String arrayTypeName, int chunkSize) {
+    this(namedTemplate, new ArrayTypeRegistry().register(Object.class, arrayTypeName), chunkSize);
+  }
+
+  /**
+   * Sets the executor on which chunks are fetched in parallel.
+   *
+   * @param executor the executor, {@code null} to fetch the chunks one after
+   *        another on the calling thread
+   */
+  public void setExecutor(@Nullable Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Sets the maximum number of chunks that are fetched in parallel, and held
+   * in memory, if an executor is set.
+   * <p>Default is 4.
+   *
+   * @param parallelism the number of chunks fetched in parallel, has to be positive
+   */
+  public void setParallelism(int parallelism) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("parallelism must be positive but was: " + parallelism);
+    }
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Fetches the rows for a collection of keys.
+   *
+   * @param <T> the result type
+   * @param sql the SQL query containing the array parameter {@code :keys}
+   * @param keys the keys
+   * @param rowMapper object that will map one object per row
+   * @return the mapped rows of all chunks in the order of the chunks
+   */
+  public <T> Stream<T> stream(String sql, Collection<?> keys, RowMapper<T> rowMapper) {
+    return this.stream(null, sql, keys, EmptySqlParameterSource.INSTANCE, rowMapper);
+  }
+
+  /**
+   * Fetches the rows for a collection of keys using OJDBC explicit statement
+   * caching.
+   *
+   * @param <T> the result type
+   * @param cacheKey the cache key of the statement, {@code null} for no explicit caching
+   * @param sql the SQL query containing the array parameter {@code :keys}
+   * @param keys the keys
+   * @param parameterSource the values of the other named parameters
+   * @param rowMapper object that will map one object per row
+   * @return the mapped rows of all chunks in the order of the chunks
+   */
+  public <T> Stream<T> stream(@Nullable String cacheKey, String sql, Collection<?> keys, SqlParameterSource parameterSource, RowMapper<T> rowMapper) {
+    Objects.requireNonNull(sql, "sql");
+    Objects.requireNonNull(parameterSource, "parameterSource");
+    Objects.requireNonNull(rowMapper, "rowMapper");
+    List<List<?>> chunks = this.split(keys);
+    Function<List<?>, List<T>> fetch = chunk -> this.fetchChunk(cacheKey, sql, chunk, parameterSource, rowMapper);
+
+    Iterator<List<T>> results;
+    Runnable closeHandler;
+    Executor currentExecutor = this.executor;
+    if (currentExecutor == null) {
+      Iterator<List<?>> chunkIterator = chunks.iterator();
+      results = new Iterator<List<T>>() {
+
+        @Override
+        public boolean hasNext() {
+          return chunkIterator.hasNext();
+        }
+
+        @Override
+        public List<T> next() {
+          return fetch.apply(chunkIterator.next());
+        }
+      };
+      closeHandler = () -> { };
+    } else {
+      ParallelChunkIterator<T> parallelResults = new ParallelChunkIterator<>(chunks.iterator(), fetch, currentExecutor, this.parallelism);
+      results = parallelResults;
+      closeHandler = parallelResults::close;
+    }
+    return StreamSupport.stream(Spliterators.spliterator(results, chunks.size(), Spliterator.ORDERED), false)
+            .onClose(closeHandler)
+            .flatMap(List::stream);
+  }
+
+  /**
+   * Fetches the rows for a collection of keys into a map.
+   *
+   * @param <K> the key type of the map
+   * @param <T> the result type
+   * @param cacheKey the cache key of the statement, {@code null} for no explicit caching
+   * @param sql the SQL query containing the array parameter {@code :keys}
+   * @param keys the keys
+   * @param parameterSource the values of the other named parameters
+   * @param rowMapper object that will map one object per row
+   * @param keyExtractor extracts the map key of a mapped row
+   * @return the mapped rows by their key in the order of the chunks
+   * @throws IllegalStateException if two rows have the same key
+   */
+  public <K, T> Map<K, T> fetchMap(@Nullable String cacheKey, String sql, Collection<?> keys, SqlParameterSource parameterSource,
+          RowMapper<T> rowMapper, Function<? super T, ? extends K> keyExtractor) {
+    Map<K, T> result = new LinkedHashMap<>();
+    try (Stream<T> rows = this.stream(cacheKey, sql, keys, parameterSource, rowMapper)) {
+      rows.forEach(row -> {
+        K key = keyExtractor.apply(row);
+        if (result.putIfAbsent(key, row) != null) {
+          throw new IllegalStateException("duplicate key: " + key);
+        }
+      });
+    }
+    return result;
+  }
+
+  private List<List<?>> split(Collection<?> keys) {
+    if (keys.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<?> keyList = keys instanceof List ? (List<?>) keys : new ArrayList<>(keys);
+    List<List<?>> chunks = new ArrayList<>((keyList.size() + this.chunkSize - 1) / this.chunkSize);
+    for (int start = 0; start < keyList.size(); start += this.chunkSize) {
+      chunks.add(keyList.subList(start, Math.min(start + this.chunkSize, keyList.size())));
+    }
+    return chunks;
+  }
+
+  private <T> List<T> fetchChunk(@Nullable String cacheKey, String sql, List<?> chunk, SqlParameterSource parameterSource, RowMapper<T> rowMapper) {
+    SqlOracleArrayValue array = this.arrayTypeRegistry.toArrayValue(chunk, null);
+    SqlParameterSource chunkParameterSource = new KeysParameterSource(parameterSource, KEYS_PARAMETER, array);
+    if (cacheKey != null) {
+      return this.namedTemplate.query(cacheKey, sql, chunkParameterSource, rowMapper);
+    }
+    return this.namedTemplate.query(sql, chunkParameterSource, rowMapper);
+  }
+
+  /**
+   * Fetches up to a number of chunks ahead on an executor and returns their
+   * results in order.
+   */
+  static final class ParallelChunkIterator<T> implements Iterator<List<T>> {
+
+    private final Iterator<List<?>> chunks;
+    private final Function<List<?>, List<T>> fetch;
+    private final Executor executor;
+    private final int parallelism;
+    private final Deque<CompletableFuture<List<T>>> inFlight;
+
+    private boolean closed;
+
+    ParallelChunkIterator(Iterator<List<?>> chunks, Function<List<?>, List<T>> fetch, Executor executor, int parallelism) {
+      this.chunks = chunks;
+      this.fetch = fetch;
+      this.executor = executor;
+      this.parallelism = parallelism;
+      this.inFlight = new ArrayDeque<>(parallelism);
+    }
+
+    private void fill() {
+      while (!this.closed && this.inFlight.size() < this.parallelism && this.chunks.hasNext()) {
+        List<?> chunk = this.chunks.next();
+        this.inFlight.add(CompletableFuture.supplyAsync(() -> this.fetch.apply(chunk), this.executor));
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      // nothing is fetched until the stream is consumed
+      this.fill();
+      return !this.inFlight.isEmpty();
+    }
+
+    @Override
+    public List<T> next() {
+      this.fill();
+      CompletableFuture<List<T>> next = this.inFlight.poll();
+      if (next == null) {
+        throw new NoSuchElementException();
+      }
+      List<T> result;
+      try {
+        result = next.join();
+      } catch (CompletionException e) {
+        this.close();
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+      this.fill();
+      return result;
+    }
+
+    /**
+     * Cancels the chunks that have not been fetched yet and fetches no
+     * further chunks. Fetches that already run are not interrupted, their
+     * results are discarded.
+     */
+    void close() {
+      this.closed = true;
+      this.inFlight.forEach(future -> future.cancel(false));
+      this.inFlight.clear();
+    }
+
+  }
+
+}
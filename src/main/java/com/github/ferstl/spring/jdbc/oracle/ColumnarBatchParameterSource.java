@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.lang.Nullable;
+
+import oracle.jdbc.OraclePreparedStatement;
+
+/**
+ * The parameters of a batch held as one array per parameter instead of one
+ * {@link org.springframework.jdbc.core.namedparam.SqlParameterSource} per row.
+ *
+ * <p>A {@code SqlParameterSource} per row, each wrapping a map or a bean, costs
+ * hundreds of bytes per row. Columns of primitive arrays only cost the size of
+ * the values. {@link OracleNamedParameterJdbcTemplate#batchUpdate(String, ColumnarBatchParameterSource)}
+ * binds the values straight from the arrays with the type specific
+ * {@code set*AtName} methods, for example
+ * {@link OraclePreparedStatement#setLongAtName(String, long)}.</p>
+ *
+ * <p>{@code null} values of primitive columns are marked in a {@link BitSet}
+ * with a set bit for every row that is {@code null}. {@code null} elements of
+ * {@code String[]} and {@code byte[][]} columns are bound as {@code null}.</p>
+ *
+ * <p>The arrays are not copied.</p>
+ */
+public final class ColumnarBatchParameterSource {
+
+  private final int rowCount;
+  private final Map<String, Column> columns;
+
+  /**
+   * Creates an instance without columns.
+   *
+   * @param rowCount the number of rows of the batch
+   */
+  public ColumnarBatchParameterSource(int rowCount) {
+    if (rowCount < 0) {
+      throw new IllegalArgumentException("rowCount must not be negative but was: " + rowCount);
+    }
+    this.rowCount = rowCount;
+    this.columns = new LinkedHashMap<>();
+  }
+
+  /**
+   * Adds an {@code int} column.
+   *
+   * @param parameterName the name of the parameter
+   * @param values the values of all rows
+   * @return this instance
+   */
+  public ColumnarBatchParameterSource addInts(String parameterName, int[] values) {
+    return this.addInts(parameterName, values, null);
+  }
+
+  /**
+   * Adds an {@code int} column with {@code null} values.
+   *
+   * @param parameterName the name of the parameter
+   * @param values the values of all rows
+   * @param nulls the rows that are {@code null}, {@code null} if there are none
+   * @return this instance
+   */
+  public ColumnarBatchParameterSource addInts(String parameterName, int[] values, @Nullable BitSet nulls) {
+    return this.add(parameterName, values.length, new IntColumn(values, nulls));
+  }
+
+  /**
+   * Adds a {@code long} column.
+   *
+   * @param parameterName the name of the parameter
+   * @param values the values of all rows
+   * @return this instance
+   */
+  public ColumnarBatchParameterSource addLongs(String parameterName, long[] values) {
+    return this.addLongs(parameterName, values, null);
+  }
+
+  /**
+   * Adds a {@code long} column with {@code null} values.
+   *
+   * @param parameterName the name of the parameter
+   * @param values the values of all rows
+   * @param nulls the rows that are {@code null}, {@code null} if there are none
+   * @return this instance
+   */
+  public ColumnarBatchParameterSource addLongs(String parameterName, long[] values, @Nullable BitSet nulls) {
+    return this.add(parameterName, values.length, new LongColumn(values, nulls));
+  }
+
+  /**
+   * Adds a {@code double} column.
+   *
+   * @param parameterName the name of the parameter
+   * @param values the values of all rows
+   * @return this instance
+   */
+  public ColumnarBatchParameterSource addDoubles(String parameterName, double[] values) {
+    return this.addDoubles(parameterName, values, null);
+  }
+
+  /**
+   * Adds a {@code double} column with {@code null} values.
+   *
+   * @param parameterName the name of the parameter
+   * @param values the values of all rows
+   * @param nulls the rows that are {@code null}, {@code null} if there are none
+   * @return this instance
+   */
+  public ColumnarBatchParameterSource addDoubles(String parameterName, double[] values, @Nullable BitSet nulls) {
+    return this.add(parameterName, values.length, new DoubleColumn(values, nulls));
+  }
+
+  /**
+   * Adds a {@code String} column.
+   *
+   * @param parameterName the name of the parameter
+   * @param values the values of all rows, may contain {@code null}
+   * @return this instance
+   */
+  public ColumnarBatchParameterSource addStrings(String parameterName, String[] values) {
+    return this.add(parameterName, values.length, new StringColumn(values));
+  }
+
+  /**
+   * Adds a {@code byte[]} column, for example for {@code RAW} columns.
+   *
+   * @param parameterName the name of the parameter
+   * @param values the values of all rows, may contain {@code null}
+   * @return this instance
+   */
+  public ColumnarBatchParameterSource addBytes(String parameterName, byte[][] values) {
+    return this.add(parameterName, values.length, new BytesColumn(values));
+  }
+
+  private ColumnarBatchParameterSource add(String parameterName, int length, Column column) {
+    Objects.requireNonNull(parameterName, "parameterName");
+    if (length != this.rowCount) {
+      throw new IllegalArgumentException("column " + parameterName + " has " + length + " rows instead of " + this.rowCount);
+    }
+    if (this.columns.putIfAbsent(parameterName, column) != null) {
+      throw new IllegalArgumentException("duplicate column: " + parameterName);
+    }
+    return this;
+  }
+
+  /**
+   * Returns the number of rows.
+   *
+   * @return the number of rows of the batch
+   */
+  public int getRowCount() {
+    return this.rowCount;
+  }
+
+  /**
+   * Returns the column of a parameter.
+   *
+   * @param parameterName the name of the parameter
+   * @return the column, {@code null} if there is none
+   */
+  @Nullable
+  Column getColumn(String parameterName) {
+    return this.columns.get(parameterName);
+  }
+
+  /**
+   * Binds the value of a single row of a column.
+   */
+  abstract static class Column {
+
+    /**
+     * Binds the value of a row.
+     *
+     * @param statement the statement on which to bind
+     * @param parameterName the name of the parameter
+     * @param row the index of the row, 0 based
+     * @throws SQLException if binding fails
+     */
+    abstract void bind(OraclePreparedStatement statement, String parameterName, int row) throws SQLException;
+
+  }
+
+  static final class IntColumn extends Column {
+
+    private final int[] values;
+    @Nullable
+    private final BitSet nulls;
+
+    IntColumn(int[] values, @Nullable BitSet nulls) {
+      this.values = values;
+      this.nulls = nulls;
+    }
+
+    @Override
+    void bind(OraclePreparedStatement statement, String parameterName, int row) throws SQLException {
+      if (this.nulls != null && this.nulls.get(row)) {
+        statement.setNullAtName(parameterName, Types.INTEGER);
+      } else {
+        statement.setIntAtName(parameterName, this.values[row]);
+      }
+    }
+
+  }
+
+  static final class LongColumn extends Column {
+
+    private final long[] values;
+    @Nullable
+    private final BitSet nulls;
+
+    LongColumn(long[] values, @Nullable BitSet nulls) {
+      this.values = values;
+      this.nulls = nulls;
+    }
+
+    @Override
+    void bind(OraclePreparedStatement statement, String parameterName, int row) throws SQLException {
+      if (this.nulls != null && this.nulls.get(row)) {
+        statement.setNullAtName(parameterName, Types.BIGINT);
+      } else {
+        statement.setLongAtName(parameterName, this.values[row]);
+      }
+    }
+
+  }
+
+  static final class DoubleColumn extends Column {
+
+    private final double[] values;
+    @Nullable
+    private final BitSet nulls;
+
+    DoubleColumn(double[] values, @Nullable BitSet nulls) {
+      this.values = values;
+      this.nulls = nulls;
+    }
+
+    @Override
+    void bind(OraclePreparedStatement statement, String parameterName, int row) throws SQLException {
+      if (this.nulls != null && this.nulls.get(row)) {
+        statement.setNullAtName(parameterName, Types.DOUBLE);
+      } else {
+        statement.setDoubleAtName(parameterName, this.values[row]);
+      }
+    }
+
+  }
+
+  static final class StringColumn extends Column {
+
+    private final String[] values;
+
+    StringColumn(String[] values) {
+      this.values = values;
+    }
+
+    @Override
+    void bind(OraclePreparedStatement statement, String parameterName, int row) throws SQLException {
+      String value = this.values[row];
+      if (value == null) {
+        statement.setNullAtName(parameterName, Types.VARCHAR);
+      } else {
+        statement.setStringAtName(parameterName, value);
+      }
+    }
+
+  }
+
+  static final class BytesColumn extends Column {
+
+    private final byte[][] values;
+
+    BytesColumn(byte[][] values) {
+      this.values = values;
+    }
+
+    @Override
+    void bind(OraclePreparedStatement statement, String parameterName, int row) throws SQLException {
+      byte[] value = this.values[row];
+      if (value == null) {
+        statement.setNullAtName(parameterName, Types.VARBINARY);
+      } else {
+        statement.setBytesAtName(parameterName, value);
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.jdbc.core.CallableStatementCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.util.ConcurrentLruCache;
+
+import com.github.ferstl.spring.jdbc.oracle.ForallColumns.Column;
+
+import oracle.jdbc.OracleCallableStatement;
+import oracle.jdbc.OracleTypes;
+
+/**
+ * Executes a DML statement for many rows with a single PL/SQL {@code FORALL}
+ * statement.
+ *
+ * <p>A JDBC batch still sends one set of binds per row. Instead every column is
+ * bound as a PL/SQL associative array with
+ * {@link oracle.jdbc.OraclePreparedStatement#setPlsqlIndexTable(int, Object, int, int, int, int)}
+ * and an anonymous block executes the statement for all rows with
+ * {@code FORALL}, one round trip and one context switch for the whole batch.
+ * For example</p>
+ * <pre><code>
+ * forallBulkDml.execute("INSERT INTO some_table (id, val) VALUES (:id, :val)",
+ *     new ForallColumns()
+ *         .addNumbers("id", ids)
+ *         .addStrings("val", values, 50));
+ * </code></pre>
+ * <p>is executed as</p>
+ * <pre><code>
+ * DECLARE
+ *   c0 DBMS_SQL.NUMBER_TABLE;
+ *   c1 DBMS_SQL.VARCHAR2A;
+ *   row_counts DBMS_SQL.NUMBER_TABLE;
+ * BEGIN
+ *   c0 := ?;
+ *   c1 := ?;
+ *   FORALL i IN 1 .. c0.COUNT
+ *     INSERT INTO some_table (id, val) VALUES (c0(i), c1(i));
+ *   FOR i IN 1 .. c0.COUNT LOOP
+ *     row_counts(i) := SQL%BULK_ROWCOUNT(i);
+ *   END LOOP;
+ *   ? := row_counts;
+ * END;
+ * </code></pre>
+ *
+ * <p>The block is generated once per statement and column types and cached.</p>
+ *
+ * <p>Instances are thread-safe.</p>
+ */
+public final class ForallBulkDml {
+
+  private static final int DEFAULT_CACHE_LIMIT = 256;
+
+  private final JdbcOperations jdbcOperations;
+
+  private final ConcurrentLruCache<BlockKey, String> blockCache;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param jdbcOperations the template used to execute the blocks
+   */
+  public ForallBulkDml(JdbcOperations jdbcOperations) {
+    Objects.requireNonNull(jdbcOperations, "jdbcOperations");
+    this.jdbcOperations = jdbcOperations;
+    this.blockCache = new ConcurrentLruCache<>(DEFAULT_CACHE_LIMIT, BlockKey::generateBlock);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param namedParameterJdbcOperations the template used to execute the blocks
+   */
+  public ForallBulkDml(NamedParameterJdbcOperations namedParameterJdbcOperations) {
+    this(namedParameterJdbcOperations.getJdbcOperations());
+  }
+
+  /**
+   * Executes a DML statement for all rows of the columns.
+   *
+   * @param dml the {@code INSERT}, {@code UPDATE}, {@code DELETE} or {@code MERGE}
+   *        statement containing a named parameter for every column, without
+   *        a trailing semicolon
+   * @param columns the values of all rows
+   * @return the number of rows affected by every row, from {@code SQL%BULK_ROWCOUNT}
+   * @throws IllegalArgumentException if the statement contains a parameter
+   *         without column
+   */
+  // the PL/SQL index table methods are deprecated but the only way to bind associative arrays
+  @SuppressWarnings("deprecation")
+  public int[] execute(String dml, ForallColumns columns) {
+    int rowCount = columns.getRowCount();
+    if (rowCount == 0) {
+      return new int[0];
+    }
+    List<Column> columnList = columns.getColumns();
+    String block = this.blockCache.get(new BlockKey(dml, columnList));
+    return this.jdbcOperations.execute(block, (CallableStatementCallback<int[]>) cs -> {
+      OracleCallableStatement statement = cs.unwrap(OracleCallableStatement.class);
+      int index = 1;
+      for (Column column : columnList) {
+        statement.setPlsqlIndexTable(index++, column.values, rowCount, rowCount, column.elementSqlType, column.elementMaxLength);
+      }
+      statement.registerIndexTableOutParameter(index, rowCount, OracleTypes.NUMBER, 0);
+      statement.execute();
+      return (int[]) statement.getPlsqlIndexTable(index, int.class);
+    });
+  }
+
+  /**
+   * The key of the block cache, the statement and the parameter names and
+   * PL/SQL types of its columns.
+   */
+  static final class BlockKey {
+
+    private final String dml;
+    private final String[] parameterNames;
+    private final String[] plsqlTypes;
+
+    BlockKey(String dml, List<Column> columns) {
+      this.dml = dml;
+      this.parameterNames = new String[columns.size()];
+      this.plsqlTypes = new String[columns.size()];
+      for (int i = 0; i < columns.size(); i++) {
+        Column column = columns.get(i);
+        this.parameterNames[i] = column.parameterName;
+        this.plsqlTypes[i] = column.plsqlType;
+      }
+    }
+
+    /**
+     * Generates the anonymous block executing the statement with {@code FORALL}.
+     */
+    String generateBlock() {
+      String forallDml = this.dml.trim();
+      if (forallDml.endsWith(";")) {
+        forallDml = forallDml.substring(0, forallDml.length() - 1);
+      }
+
+      StringBuilder block = new StringBuilder("DECLARE\n");
+      Map<String, String> variables = new HashMap<>();
+      for (int i = 0; i < this.parameterNames.length; i++) {
+        variables.put(this.parameterNames[i], "c" + i);
+        block.append("  c").append(i).append(' ').append(this.plsqlTypes[i]).append(";\n");
+      }
+      block.append("  row_counts DBMS_SQL.NUMBER_TABLE;\n")
+          .append("BEGIN\n");
+      for (int i = 0; i < this.parameterNames.length; i++) {
+        block.append("  c").append(i).append(" := ?;\n");
+      }
+      forallDml = BindingPlan.replaceParameters(forallDml, name -> {
+        String variable = variables.get(name);
+        if (variable == null) {
+          throw new IllegalArgumentException("no column for parameter: " + name);
+        }
+        return variable + "(i)";
+      });
+      block.append("  FORALL i IN 1 .. c0.COUNT\n")
+          .append("    ").append(forallDml).append(";\n")
+          .append("  FOR i IN 1 .. c0.COUNT LOOP\n")
+          .append("    row_counts(i) := SQL%BULK_ROWCOUNT(i);\n")
+          .append("  END LOOP;\n")
+          .append("  ? := row_counts;\n")
+          .append("END;");
+      return block.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof BlockKey)) {
+        return false;
+      }
+      BlockKey other = (BlockKey) obj;
+      return this.dml.equals(other.dml)
+              && Arrays.equals(this.parameterNames, other.parameterNames)
+              && Arrays.equals(this.plsqlTypes, other.plsqlTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = this.dml.hashCode();
+      result = 31 * result + Arrays.hashCode(this.parameterNames);
+      return 31 * result + Arrays.hashCode(this.plsqlTypes);
+    }
+
+  }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import oracle.jdbc.OracleTypes;
+
+/**
+ * The columns of a bulk DML statement executed by {@link ForallBulkDml}.
+ *
+ * <p>Every column is an array holding the values of all rows for one named
+ * parameter of the statement, all columns have to have the same length.
+ * Columns are bound as PL/SQL associative arrays which support only
+ * {@code NUMBER} and {@code VARCHAR2} elements.</p>
+ *
+ * <p>The arrays are not copied.</p>
+ */
+public final class ForallColumns {
+
+  private final List<Column> columns;
+  private int rowCount;
+
+  /**
+   * Creates an instance without columns.
+   */
+  public ForallColumns() {
+    this.columns = new ArrayList<>();
+    this.rowCount = -1;
+  }
+
+  /**
+   * Adds a {@code NUMBER} column.
+   *
+   * @param parameterName the name of the parameter in the statement
+   * @param values the values of all rows
+   * @return this instance
+   */
+  public ForallColumns addNumbers(String parameterName, int[] values) {
+    return this.add(parameterName, values, values.length, OracleTypes.NUMBER, 0, "DBMS_SQL.NUMBER_TABLE");
+  }
+
+  /**
+   * Adds a {@code NUMBER} column.
+   *
+   * @param parameterName the name of the parameter in the statement
+   * @param values the values of all rows
+   * @return this instance
+   */
+  public ForallColumns addNumbers(String parameterName, long[] values) {
+    // the driver does not bind long[] as associative array
+    BigDecimal[] decimals = new BigDecimal[values.length];
+    for (int i = 0; i < values.length; i++) {
+      decimals[i] = BigDecimal.valueOf(values[i]);
+    }
+    return this.addNumbers(parameterName, decimals);
+  }
+
+  /**
+   * Adds a {@code NUMBER} column.
+   *
+   * @param parameterName the name of the parameter in the statement
+   * @param values the values of all rows
+   * @return this instance
+   */
+  public ForallColumns addNumbers(String parameterName, double[] values) {
+    return this.add(parameterName, values, values.length, OracleTypes.NUMBER, 0, "DBMS_SQL.NUMBER_TABLE");
+  }
+
+  /**
+   * Adds a {@code NUMBER} column.
+   *
+   * @param parameterName the name of the parameter in the statement
+   * @param values the values of all rows, may contain {@code null}
+   * @return this instance
+   */
+  public ForallColumns addNumbers(String parameterName, BigDecimal[] values) {
+    return this.add(parameterName, values, values.length, OracleTypes.NUMBER, 0, "DBMS_SQL.NUMBER_TABLE");
+  }
+
+  /**
+   * Adds a {@code VARCHAR2} column.
+   *
+   * @param parameterName the name of the parameter in the statement
+   * @param values the values of all rows, may contain {@code null}
+   * @param maxLength the maximum length of a value, at most 32767
+   * @return this instance
+   */
+  public ForallColumns addStrings(String parameterName, String[] values, int maxLength) {
+    if (maxLength <= 0 || maxLength > 32767) {
+      throw new IllegalArgumentException("maxLength must be between 1 and 32767 but was: " + maxLength);
+    }
+    return this.add(parameterName, values, values.length, OracleTypes.VARCHAR, maxLength, "DBMS_SQL.VARCHAR2A");
+  }
+
+  private ForallColumns add(String parameterName, Object values, int length, int elementSqlType, int elementMaxLength, String plsqlType) {
+    Objects.requireNonNull(parameterName, "parameterName");
+    if (this.rowCount != -1 && this.rowCount != length) {
+      throw new IllegalArgumentException("column " + parameterName + " has " + length + " rows instead of " + this.rowCount);
+    }
+    for (Column column : this.columns) {
+      if (column.parameterName.equals(parameterName)) {
+        throw new IllegalArgumentException("duplicate column: " + parameterName);
+      }
+    }
+    this.columns.add(new Column(parameterName, values, elementSqlType, elementMaxLength, plsqlType));
+    this.rowCount = length;
+    return this;
+  }
+
+  /**
+   * Returns the number of rows.
+   *
+   * @return the number of rows, 0 if there are no columns
+   */
+  public int getRowCount() {
+    return Math.max(this.rowCount, 0);
+  }
+
+  List<Column> getColumns() {
+    return Collections.unmodifiableList(this.columns);
+  }
+
+  /**
+   * A single column, bound with
+   * {@link oracle.jdbc.OraclePreparedStatement#setPlsqlIndexTable(int, Object, int, int, int, int)}.
+   */
+  static final class Column {
+
+    final String parameterName;
+    final Object values;
+    final int elementSqlType;
+    final int elementMaxLength;
+    final String plsqlType;
+
+    Column(String parameterName, Object values, int elementSqlType, int elementMaxLength, String plsqlType) {
+      this.parameterName = parameterName;
+      this.values = values;
+      this.elementSqlType = elementSqlType;
+      this.elementMaxLength = elementMaxLength;
+      this.plsqlType = plsqlType;
+    }
+
+  }
+
+}
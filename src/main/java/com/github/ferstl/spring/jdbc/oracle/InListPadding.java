@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Expands {@link Collection} parameters into IN lists of bind variables
+ * padded to a power of two, repeating the last element.
+ *
+ * <p>Every distinct number of bind variables is a different SQL string with its
+ * own cursor. Padding limits the number of variants of a statement to about
+ * log<sub>2</sub> of the largest list size per collection parameter. Up to
+ * {@value #MAX_IN_LIST_SIZE} elements, the maximum size of an Oracle IN list,
+ * lists are padded at most to {@value #MAX_IN_LIST_SIZE} elements. Larger lists
+ * are not padded but expanded to their size, which Oracle rejects with
+ * ORA-01795, the same as without padding.</p>
+ *
+ * <p>Empty collections are expanded to a single {@code NULL} which makes
+ * {@code IN (NULL)} match no rows.</p>
+ *
+ * <p>The expanded SQL strings are cached per SQL string and bucket sizes.</p>
+ */
+final class InListPadding {
+
+  /**
+   * The maximum number of expressions in an Oracle IN list.
+   */
+  static final int MAX_IN_LIST_SIZE = 1000;
+
+  private final ConcurrentLruCache<ExpansionKey, Expansion> expansionCache;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param cacheLimit the maximum number of expanded SQL strings to cache
+   */
+  InListPadding(int cacheLimit) {
+    this.expansionCache = new ConcurrentLruCache<>(cacheLimit, ExpansionKey::expand);
+  }
+
+  /**
+   * Returns the number of bind variables for a collection.
+   *
+   * @param size the size of the collection
+   * @return the padded size, never smaller than {@code size} and at least 1,
+   *         {@code size} unchanged if it is larger than {@value #MAX_IN_LIST_SIZE}
+   */
+  static int bucketSize(int size) {
+    if (size <= 1) {
+      return 1;
+    }
+    if (size > MAX_IN_LIST_SIZE) {
+      // padding can't make an invalid IN list valid
+      return size;
+    }
+    return Math.min(Integer.highestOneBit(size - 1) << 1, MAX_IN_LIST_SIZE);
+  }
+
+  /**
+   * Expands the collection parameters of a SQL string.
+   *
+   * @param sql the SQL string
+   * @param bindingPlan the binding plan of {@code sql}
+   * @param parameterSource the parameter values
+   * @return the expanded SQL string and parameters, {@code null} if there are
+   *         no collection parameters
+   */
+  @Nullable
+  PaddedParameters pad(String sql, BindingPlan bindingPlan, SqlParameterSource parameterSource) {
+    int[] bucketSizes = null;
+    for (int i = 0; i < bindingPlan.getParameterCount(); i++) {
+      String parameterName = bindingPlan.getParameterName(i);
+      if (parameterSource.hasValue(parameterName)) {
+        Object value = parameterSource.getValue(parameterName);
+        if (value instanceof Collection) {
+          if (bucketSizes == null) {
+            bucketSizes = new int[bindingPlan.getParameterCount()];
+          }
+          bucketSizes[i] = bucketSize(((Collection<?>) value).size());
+        }
+      }
+    }
+    if (bucketSizes == null) {
+      return null;
+    }
+    Expansion expansion = this.expansionCache.get(new ExpansionKey(sql, bindingPlan, bucketSizes));
+    return new PaddedParameters(expansion, parameterSource);
+  }
+
+  /**
+   * The expanded SQL string and parameter values.
+   */
+  static final class PaddedParameters implements SqlParameterSource {
+
+    private final Expansion expansion;
+    private final SqlParameterSource delegate;
+    private final Map<String, PaddedValue> paddedValues;
+
+    PaddedParameters(Expansion expansion, SqlParameterSource delegate) {
+      this.expansion = expansion;
+      this.delegate = delegate;
+      this.paddedValues = new HashMap<>();
+      for (Map.Entry<String, Integer> entry : expansion.bucketSizes.entrySet()) {
+        String parameterName = entry.getKey();
+        Object[] elements = ((Collection<?>) delegate.getValue(parameterName)).toArray();
+        Object padding = elements.length > 0 ? elements[elements.length - 1] : null;
+        for (int i = 0; i < entry.getValue(); i++) {
+          Object element = i < elements.length ? elements[i] : padding;
+          this.paddedValues.put(BindingPlan.expandedParameterName(parameterName, i), new PaddedValue(parameterName, element));
+        }
+      }
+    }
+
+    /**
+     * Returns the expanded SQL string.
+     *
+     * @return the SQL string with padded IN lists
+     */
+    String getSql() {
+      return this.expansion.sql;
+    }
+
+    /**
+     * Returns the cache key for the expanded SQL string.
+     *
+     * @param cacheKey the cache key of the original SQL string
+     * @return the cache key that is unique for the bucket sizes
+     */
+    String getCacheKey(String cacheKey) {
+      return cacheKey + this.expansion.cacheKeySuffix;
+    }
+
+    @Override
+    public boolean hasValue(String paramName) {
+      return this.paddedValues.containsKey(paramName) || this.delegate.hasValue(paramName);
+    }
+
+    @Override
+    @Nullable
+    public Object getValue(String paramName) {
+      PaddedValue paddedValue = this.paddedValues.get(paramName);
+      if (paddedValue != null) {
+        return paddedValue.value;
+      }
+      return this.delegate.getValue(paramName);
+    }
+
+    @Override
+    public int getSqlType(String paramName) {
+      PaddedValue paddedValue = this.paddedValues.get(paramName);
+      return this.delegate.getSqlType(paddedValue != null ? paddedValue.parameterName : paramName);
+    }
+
+    @Override
+    @Nullable
+    public String getTypeName(String paramName) {
+      PaddedValue paddedValue = this.paddedValues.get(paramName);
+      return this.delegate.getTypeName(paddedValue != null ? paddedValue.parameterName : paramName);
+    }
+
+  }
+
+  static final class PaddedValue {
+
+    final String parameterName;
+    @Nullable
+    final Object value;
+
+    PaddedValue(String parameterName, @Nullable Object value) {
+      this.parameterName = parameterName;
+      this.value = value;
+    }
+
+  }
+
+  static final class Expansion {
+
+    final String sql;
+    final String cacheKeySuffix;
+    final Map<String, Integer> bucketSizes;
+
+    Expansion(String sql, String cacheKeySuffix, Map<String, Integer> bucketSizes) {
+      this.sql = sql;
+      this.cacheKeySuffix = cacheKeySuffix;
+      this.bucketSizes = bucketSizes;
+    }
+
+  }
+
+  static final class ExpansionKey {
+
+    private final String sql;
+    private final BindingPlan bindingPlan;
+    /**
+     * The bucket size of every parameter of the binding plan, 0 for
+     * parameters that are not expanded.
+     */
+    private final int[] bucketSizes;
+
+    ExpansionKey(String sql, BindingPlan bindingPlan, int[] bucketSizes) {
+      this.sql = sql;
+      this.bindingPlan = bindingPlan;
+      this.bucketSizes = bucketSizes;
+    }
+
+    Expansion expand() {
+      Map<String, Integer> sizes = new LinkedHashMap<>();
+      StringBuilder cacheKeySuffix = new StringBuilder();
+      for (int i = 0; i < this.bucketSizes.length; i++) {
+        if (this.bucketSizes[i] > 0) {
+          sizes.put(this.bindingPlan.getParameterName(i), this.bucketSizes[i]);
+        }
+        cacheKeySuffix.append(i == 0 ? '#' : ',').append(this.bucketSizes[i]);
+      }
+      return new Expansion(BindingPlan.expandParameters(this.sql, sizes), cacheKeySuffix.toString(), sizes);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof ExpansionKey)) {
+        return false;
+      }
+      ExpansionKey other = (ExpansionKey) obj;
+      return this.sql.equals(other.sql) && Arrays.equals(this.bucketSizes, other.bucketSizes);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * this.sql.hashCode() + Arrays.hashCode(this.bucketSizes);
+    }
+
+  }
+
+}
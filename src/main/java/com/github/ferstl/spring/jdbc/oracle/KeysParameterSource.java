@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+
+/**
+ * Adds a parameter for the keys, for example an array, to a parameter source.
+ */
+final class KeysParameterSource implements SqlParameterSource {
+
+  private final SqlParameterSource delegate;
+  private final String keysParameterName;
+  private final Object keys;
+
+  KeysParameterSource(SqlParameterSource delegate, String keysParameterName, Object keys) {
+    this.delegate = delegate;
+    this.keysParameterName = keysParameterName;
+    this.keys = keys;
+  }
+
+  @Override
+  public boolean hasValue(String paramName) {
+    return this.keysParameterName.equals(paramName) || this.delegate.hasValue(paramName);
+  }
+
+  @Override
+  @Nullable
+  public Object getValue(String paramName) {
+    if (this.keysParameterName.equals(paramName)) {
+      return this.keys;
+    }
+    return this.delegate.getValue(paramName);
+  }
+
+  @Override
+  public int getSqlType(String paramName) {
+    if (this.keysParameterName.equals(paramName)) {
+      return TYPE_UNKNOWN;
+    }
+    return this.delegate.getSqlType(paramName);
+  }
+
+  @Override
+  @Nullable
+  public String getTypeName(String paramName) {
+    if (this.keysParameterName.equals(paramName)) {
+      return null;
+    }
+    return this.delegate.getTypeName(paramName);
+  }
+
+}
@@ -17,16 +17,26 @@ package com.github.ferstl.spring.jdbc.oracle;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.util.Collection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 import javax.sql.DataSource;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.SqlProvider;
 import org.springframework.jdbc.core.SqlTypeValue;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -35,6 +45,9 @@ import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.jdbc.support.SqlValue;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
+import com.github.ferstl.spring.jdbc.oracle.BindingPlan.ValueBinder;
+import com.github.ferstl.spring.jdbc.oracle.InListPadding.PaddedParameters;
 import oracle.jdbc.OraclePreparedStatement;
 
 /**
@@ -43,14 +56,44 @@ import oracle.jdbc.OraclePreparedStatement;
  * <h3>Limitations</h3>
  * <ul>
  * <li>does not support {@link SqlValue}, instead {@link NamedSqlValue} has to be used</li>
- * <li>does not support collections, instead arrays with a {@link SqlOracleArrayValue}
- * or similar have to be used</li>
+ * <li>supports collections only if their element types are registered with
+ * an {@link ArrayTypeRegistry}, they are then bound as arrays, otherwise arrays
+ * with a {@link SqlOracleArrayValue} or similar have to be used</li>
  * <li>does not support {@link SqlTypeValue}</li>
  * <li>does not support binding {@link java.util.Calendar}</li>
  * </ul>
+ * <h3>Binding Plans</h3>
+ * <p>Instead of parsing the SQL a binding plan is compiled once per
+ * SQL string and kept in a cache whose size is controlled by
+ * {@link #setCacheLimit(int)}. Only the parameters that actually appear in
+ * the SQL string are bound.</p>
+ * <h3>Explicit Statement Caching</h3>
+ * <p>The methods taking a cache key in addition to the SQL string use OJDBC
+ * explicit statement caching the same way {@link CachedPreparedStatementCreator}
+ * does. The statement is obtained with
+ * {@link oracle.jdbc.OracleConnection#getStatementWithKey(String)} and returned
+ * to the cache with {@link OraclePreparedStatement#closeWithKey(String)}.
+ * The use of the cache can be observed with
+ * {@link #setStatementCacheListener(StatementCacheListener)}.</p>
+ * <h3>Collections</h3>
+ * <p>Collections are rejected unless they are bound as arrays with an
+ * {@link #setArrayTypeRegistry(ArrayTypeRegistry) ArrayTypeRegistry} or expanded
+ * into IN lists with {@link #setInListPadding(boolean)}.</p>
  */
 public final class OracleNamedParameterJdbcTemplate extends NamedParameterJdbcTemplate {
 
+  private volatile ConcurrentLruCache<String, BindingPlan> bindingPlanCache =
+          new ConcurrentLruCache<>(DEFAULT_CACHE_LIMIT, BindingPlan::compile);
+
+  @Nullable
+  private volatile ArrayTypeRegistry arrayTypeRegistry;
+
+  @Nullable
+  private volatile InListPadding inListPadding;
+
+  @Nullable
+  private volatile StatementCacheListener statementCacheListener;
+
   /**
    * Create a new NamedParameterJdbcTemplate for the given {@link DataSource}.
    * <p>Creates a classic Spring {@link org.springframework.jdbc.core.JdbcTemplate} and wraps it.
@@ -71,29 +114,365 @@ public final class OracleNamedParameterJdbcTemplate extends NamedParameterJdbcTe
     super(classicJdbcTemplate);
   }
 
+  /**
+   * Specify the maximum number of entries for this template's SQL cache.
+   * This applies to the cache of compiled binding plans.
+   * Default is 256. 0 indicates no caching, always compiling each statement.
+   */
+  @Override
+  public void setCacheLimit(int cacheLimit) {
+    super.setCacheLimit(cacheLimit);
+    this.bindingPlanCache = this.createBindingPlanCache(cacheLimit);
+    if (this.inListPadding != null) {
+      this.inListPadding = new InListPadding(cacheLimit);
+    }
+  }
+
+  /**
+   * Set the registry of the array types used to bind {@link java.util.Collection}
+   * parameters. Without a registry collections are rejected.
+   * <p>Binding plans compiled so far are discarded.
+   *
+   * @param arrayTypeRegistry the registry, {@code null} to reject collections
+   */
+  public void setArrayTypeRegistry(@Nullable ArrayTypeRegistry arrayTypeRegistry) {
+    this.arrayTypeRegistry = arrayTypeRegistry;
+    this.bindingPlanCache = this.createBindingPlanCache(getCacheLimit());
+  }
+
+  /**
+   * Return the registry of the array types used to bind {@link java.util.Collection}
+   * parameters.
+   *
+   * @return the registry, {@code null} if none is set
+   */
+  @Nullable
+  public ArrayTypeRegistry getArrayTypeRegistry() {
+    return this.arrayTypeRegistry;
+  }
+
+  /**
+   * Set whether {@link java.util.Collection} parameters are expanded into IN lists
+   * of bind variables, like Spring's {@code NamedParameterJdbcTemplate} does,
+   * but padded to a power of two by repeating the last element. This limits the
+   * number of SQL strings per statement for schemas without collection types.
+   * The expanded SQL strings are cached, the cache size is controlled by
+   * {@link #setCacheLimit(int)}.
+   * <p>Padding takes precedence over {@link #setArrayTypeRegistry(ArrayTypeRegistry)}.
+   * It applies to single statements only, batches do not support collections.
+   * <p>Default is {@code false}.
+   *
+   * @param inListPadding whether to expand collections into padded IN lists
+   */
+  public void setInListPadding(boolean inListPadding) {
+    this.inListPadding = inListPadding ? new InListPadding(getCacheLimit()) : null;
+  }
+
+  /**
+   * Return whether {@link java.util.Collection} parameters are expanded into
+   * padded IN lists.
+   *
+   * @return whether collections are expanded into padded IN lists
+   */
+  public boolean isInListPadding() {
+    return this.inListPadding != null;
+  }
+
+  private ConcurrentLruCache<String, BindingPlan> createBindingPlanCache(int cacheLimit) {
+    ArrayTypeRegistry registry = this.arrayTypeRegistry;
+    return new ConcurrentLruCache<>(cacheLimit, sql -> BindingPlan.compile(sql, registry));
+  }
+
+  /**
+   * Set the listener that is notified about the use of the OJDBC explicit
+   * statement cache by the methods taking a cache key.
+   *
+   * @param statementCacheListener the listener, {@code null} for none
+   * @see StatementCacheStatistics
+   */
+  public void setStatementCacheListener(@Nullable StatementCacheListener statementCacheListener) {
+    this.statementCacheListener = statementCacheListener;
+  }
+
+  /**
+   * Return the listener that is notified about the use of the OJDBC explicit
+   * statement cache.
+   *
+   * @return the listener, {@code null} if none is set
+   */
+  @Nullable
+  public StatementCacheListener getStatementCacheListener() {
+    return this.statementCacheListener;
+  }
+
   @Override
   public int update(String sql, SqlParameterSource parameterSource, KeyHolder generatedKeyHolder, @Nullable String[] keyColumnNames) {
-    boolean returnGeneratedKeys = keyColumnNames != null;
-    return getJdbcOperations().update(new NamedPreparedStatementCreator(sql, parameterSource, returnGeneratedKeys, keyColumnNames), generatedKeyHolder);
+    // like NamedParameterJdbcTemplate, without column names the driver decides what to return, the ROWID for Oracle
+    boolean returnGeneratedKeys = keyColumnNames == null;
+    BindingPlan bindingPlan = getBindingPlan(sql);
+    PaddedParameters paddedParameters = this.padInLists(sql, bindingPlan, parameterSource);
+    if (paddedParameters != null) {
+      String paddedSql = paddedParameters.getSql();
+      return getJdbcOperations().update(new NamedPreparedStatementCreator(paddedSql, getBindingPlan(paddedSql), paddedParameters, returnGeneratedKeys, keyColumnNames), generatedKeyHolder);
+    }
+    return getJdbcOperations().update(new NamedPreparedStatementCreator(sql, bindingPlan, parameterSource, returnGeneratedKeys, keyColumnNames), generatedKeyHolder);
   }
 
   @Override
   public int[] batchUpdate(String sql, SqlParameterSource[] batchArgs) {
 
-    return getJdbcOperations().batchUpdate(sql, new BatchPreparedStatementSetter() {
+    return getJdbcOperations().batchUpdate(sql, new NamedBatchPreparedStatementSetter(getBindingPlan(sql), batchArgs));
+  }
 
-      @Override
-      public void setValues(PreparedStatement ps, int i) throws SQLException {
-        SqlParameterSource parameterSource = batchArgs[i];
-        NamedPreparedStatementCreator satementSetter = new NamedPreparedStatementCreator(sql, parameterSource);
-        satementSetter.setValues(ps);
-      }
+  /**
+   * Issue a DML statement with a {@code RETURNING ... INTO} clause and map the
+   * returned rows, one row per affected row.
+   *
+   * @param <T> the result type
+   * @param sql the SQL containing named parameters and a {@code RETURNING ... INTO} clause
+   * @param parameterSource container of arguments to bind to the query
+   * @param returnParameters the parameters of the {@code INTO} clause
+   * @param rowMapper object that will map one object per returned row, the
+   *        columns are in the order of the return parameters
+   * @return the mapped returned rows
+   * @see ReturnParameters
+   */
+  public <T> List<T> updateReturning(String sql, SqlParameterSource parameterSource, ReturnParameters returnParameters,
+          RowMapper<T> rowMapper) {
+    Objects.requireNonNull(parameterSource, "parameterSource");
+    return this.batchUpdateReturning(sql, new SqlParameterSource[] {parameterSource}, returnParameters, rowMapper).get(0);
+  }
 
-      @Override
-      public int getBatchSize() {
-        return batchArgs.length;
-      }
-    });
+  /**
+   * Execute a DML statement with a {@code RETURNING ... INTO} clause for every
+   * row of a batch and map the returned rows.
+   *
+   * <p>The Oracle JDBC driver does not support return parameters in JDBC
+   * batches. The rows are therefore executed one after the other on a single
+   * statement, which still avoids preparing the statement more than once and
+   * selecting the values in a second round trip per row.</p>
+   *
+   * @param <T> the result type
+   * @param sql the SQL containing named parameters and a {@code RETURNING ... INTO} clause
+   * @param batchArgs the array of {@link SqlParameterSource} containing the batch of
+   *        arguments for the query
+   * @param returnParameters the parameters of the {@code INTO} clause
+   * @param rowMapper object that will map one object per returned row, the
+   *        columns are in the order of the return parameters
+   * @return the mapped returned rows of every row of the batch
+   * @see ReturnParameters
+   */
+  public <T> List<List<T>> batchUpdateReturning(String sql, SqlParameterSource[] batchArgs, ReturnParameters returnParameters,
+          RowMapper<T> rowMapper) {
+    return getJdbcOperations().execute(sql, new ReturningUpdateCallback<>(sql, getBindingPlan(sql), batchArgs, returnParameters, rowMapper));
+  }
+
+  /**
+   * Execute a batch using the supplied SQL statement with the batch of supplied arguments
+   * held in columns. The values are bound directly from the column arrays.
+   *
+   * @param sql the SQL statement to execute
+   * @param batchArgs the columns containing the batch of arguments for the query
+   * @return an array containing the numbers of rows affected by each update in the batch
+   */
+  public int[] batchUpdate(String sql, ColumnarBatchParameterSource batchArgs) {
+    return getJdbcOperations().batchUpdate(sql, new ColumnarBatchPreparedStatementSetter(getBindingPlan(sql), batchArgs));
+  }
+
+  /**
+   * Execute a batch using the supplied SQL statement with the batch of supplied arguments
+   * without materializing the whole batch in memory.
+   *
+   * @param sql the SQL statement to execute
+   * @param batchArgs the arguments for the query
+   * @param batchSize the number of rows after which {@link Statement#executeBatch()}
+   *        is called, has to be positive
+   * @return a summary of the update counts of all executed batches
+   * @see #batchUpdate(String, Iterator, int)
+   */
+  public BatchUpdateSummary batchUpdate(String sql, Iterable<? extends SqlParameterSource> batchArgs, int batchSize) {
+    Objects.requireNonNull(batchArgs, "batchArgs");
+    return this.batchUpdate(sql, batchArgs.iterator(), batchSize);
+  }
+
+  /**
+   * Execute a batch using the supplied SQL statement with the batch of supplied arguments
+   * without materializing the whole batch in memory. The stream is consumed but not closed.
+   *
+   * @param sql the SQL statement to execute
+   * @param batchArgs the arguments for the query
+   * @param batchSize the number of rows after which {@link Statement#executeBatch()}
+   *        is called, has to be positive
+   * @return a summary of the update counts of all executed batches
+   * @see #batchUpdate(String, Iterator, int)
+   */
+  public BatchUpdateSummary batchUpdate(String sql, Stream<? extends SqlParameterSource> batchArgs, int batchSize) {
+    Objects.requireNonNull(batchArgs, "batchArgs");
+    return this.batchUpdate(sql, batchArgs.iterator(), batchSize);
+  }
+
+  /**
+   * Execute a batch using the supplied SQL statement with the batch of supplied arguments
+   * without materializing the whole batch in memory.
+   *
+   * <p>The arguments are bound on a single statement and {@link Statement#executeBatch()}
+   * is called every {@code batchSize} rows and once more for the remaining rows.
+   * Values that have to be cleaned up are cleaned up after every executed batch.</p>
+   *
+   * @param sql the SQL statement to execute
+   * @param batchArgs the arguments for the query
+   * @param batchSize the number of rows after which {@link Statement#executeBatch()}
+   *        is called, has to be positive
+   * @return a summary of the update counts of all executed batches
+   */
+  public BatchUpdateSummary batchUpdate(String sql, Iterator<? extends SqlParameterSource> batchArgs, int batchSize) {
+    Objects.requireNonNull(batchArgs, "batchArgs");
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("batchSize must be positive but was: " + batchSize);
+    }
+    return getJdbcOperations().execute(sql, new ChunkedBatchUpdateCallback(getBindingPlan(sql), batchArgs, batchSize));
+  }
+
+  /**
+   * Query given SQL to create a prepared statement from SQL and a list of
+   * arguments to bind to the query, reading the ResultSet with a
+   * ResultSetExtractor. The statement is cached using OJDBC explicit statement caching.
+   *
+   * @param <T> the result type
+   * @param cacheKey the cache key of the statement, has to be unique, not {@code null}
+   * @param sql the SQL query to execute
+   * @param parameterSource container of arguments to bind to the query
+   * @param resultSetExtractor object that will extract results
+   * @return an arbitrary result object, as returned by the ResultSetExtractor
+   * @see CachedPreparedStatementCreator
+   */
+  @Nullable
+  public <T> T query(String cacheKey, String sql, SqlParameterSource parameterSource, ResultSetExtractor<T> resultSetExtractor) {
+    return getJdbcOperations().query(getPreparedStatementCreator(cacheKey, sql, parameterSource), resultSetExtractor);
+  }
+
+  /**
+   * Query given SQL to create a prepared statement from SQL and a list of
+   * arguments to bind to the query, reading the ResultSet on a per-row basis
+   * with a RowCallbackHandler. The statement is cached using OJDBC explicit statement caching.
+   *
+   * @param cacheKey the cache key of the statement, has to be unique, not {@code null}
+   * @param sql the SQL query to execute
+   * @param parameterSource container of arguments to bind to the query
+   * @param rowCallbackHandler object that will extract results, one row at a time
+   * @see CachedPreparedStatementCreator
+   */
+  public void query(String cacheKey, String sql, SqlParameterSource parameterSource, RowCallbackHandler rowCallbackHandler) {
+    getJdbcOperations().query(getPreparedStatementCreator(cacheKey, sql, parameterSource), rowCallbackHandler);
+  }
+
+  /**
+   * Query given SQL to create a prepared statement from SQL and a list
+   * of arguments to bind to the query, mapping each row to a Java object
+   * via a RowMapper. The statement is cached using OJDBC explicit statement caching.
+   *
+   * @param <T> the result type
+   * @param cacheKey the cache key of the statement, has to be unique, not {@code null}
+   * @param sql the SQL query to execute
+   * @param parameterSource container of arguments to bind to the query
+   * @param rowMapper object that will map one object per row
+   * @return the result List, containing mapped objects
+   * @see CachedPreparedStatementCreator
+   */
+  public <T> List<T> query(String cacheKey, String sql, SqlParameterSource parameterSource, RowMapper<T> rowMapper) {
+    return getJdbcOperations().query(getPreparedStatementCreator(cacheKey, sql, parameterSource), rowMapper);
+  }
+
+  /**
+   * Query given SQL to create a prepared statement from SQL and a list
+   * of arguments to bind to the query, mapping each row to a Java object
+   * via a RowMapper, and turning it into an iterable and closeable Stream.
+   * The statement is cached using OJDBC explicit statement caching and
+   * returned to the cache when the stream is closed.
+   *
+   * @param <T> the result type
+   * @param cacheKey the cache key of the statement, has to be unique, not {@code null}
+   * @param sql the SQL query to execute
+   * @param parameterSource container of arguments to bind to the query
+   * @param rowMapper object that will map one object per row
+   * @return the result Stream, containing mapped objects, needing to be
+   *         closed once fully processed (e.g. through a try-with-resources clause)
+   * @see CachedPreparedStatementCreator
+   */
+  public <T> Stream<T> queryForStream(String cacheKey, String sql, SqlParameterSource parameterSource, RowMapper<T> rowMapper) {
+    return getJdbcOperations().queryForStream(getPreparedStatementCreator(cacheKey, sql, parameterSource), rowMapper);
+  }
+
+  /**
+   * Issue an update via a prepared statement, binding the given arguments.
+   * The statement is cached using OJDBC explicit statement caching.
+   *
+   * @param cacheKey the cache key of the statement, has to be unique, not {@code null}
+   * @param sql the SQL containing named parameters
+   * @param parameterSource container of arguments and SQL types to bind to the query
+   * @return the number of rows affected
+   * @see CachedPreparedStatementCreator
+   */
+  public int update(String cacheKey, String sql, SqlParameterSource parameterSource) {
+    return getJdbcOperations().update(getPreparedStatementCreator(cacheKey, sql, parameterSource));
+  }
+
+  /**
+   * Execute a batch using the supplied SQL statement with the batch of supplied arguments.
+   * The statement is cached using OJDBC explicit statement caching.
+   *
+   * @param cacheKey the cache key of the statement, has to be unique, not {@code null}
+   * @param sql the SQL statement to execute
+   * @param batchArgs the array of {@link SqlParameterSource} containing the batch of
+   *        arguments for the query
+   * @return an array containing the numbers of rows affected by each update in the batch
+   * @see CachedPreparedStatementCreator
+   */
+  public int[] batchUpdate(String cacheKey, String sql, SqlParameterSource[] batchArgs) {
+    if (batchArgs.length == 0) {
+      return new int[0];
+    }
+    return getJdbcOperations().execute(new CachedPreparedStatementCreator(cacheKey, sql, null, this.statementCacheListener),
+            new NamedBatchUpdateCallback(new NamedBatchPreparedStatementSetter(getBindingPlan(sql), batchArgs)));
+  }
+
+  /**
+   * Build a {@link PreparedStatementCreator} based on the given SQL and named parameters
+   * that uses OJDBC explicit statement caching.
+   *
+   * @param cacheKey the cache key of the statement, has to be unique, not {@code null}
+   * @param sql the SQL statement to execute
+   * @param parameterSource container of arguments to bind
+   * @return the corresponding {@link PreparedStatementCreator}
+   * @see CachedPreparedStatementCreator
+   */
+  public PreparedStatementCreator getPreparedStatementCreator(String cacheKey, String sql, SqlParameterSource parameterSource) {
+    return getPreparedStatementCreator(cacheKey, sql, parameterSource, null);
+  }
+
+  /**
+   * Build a {@link PreparedStatementCreator} based on the given SQL and named parameters
+   * that uses OJDBC explicit statement caching and configures the statement once
+   * when it is prepared.
+   *
+   * @param cacheKey the cache key of the statement, has to be unique, not {@code null}
+   * @param sql the SQL statement to execute
+   * @param parameterSource container of arguments to bind
+   * @param initializer called once for a freshly prepared statement, {@code null} for none
+   * @return the corresponding {@link PreparedStatementCreator}
+   * @see CachedPreparedStatementCreator#CachedPreparedStatementCreator(String, String, StatementInitializer)
+   */
+  public PreparedStatementCreator getPreparedStatementCreator(String cacheKey, String sql, SqlParameterSource parameterSource,
+          @Nullable StatementInitializer initializer) {
+    BindingPlan bindingPlan = getBindingPlan(sql);
+    PaddedParameters paddedParameters = this.padInLists(sql, bindingPlan, parameterSource);
+    if (paddedParameters != null) {
+      String paddedSql = paddedParameters.getSql();
+      return new CachedNamedPreparedStatementCreator(paddedParameters.getCacheKey(cacheKey), paddedSql, getBindingPlan(paddedSql),
+              paddedParameters, initializer, this.statementCacheListener);
+    }
+    return new CachedNamedPreparedStatementCreator(cacheKey, sql, bindingPlan, parameterSource, initializer,
+            this.statementCacheListener);
   }
 
   /**
@@ -101,7 +480,42 @@ public final class OracleNamedParameterJdbcTemplate extends NamedParameterJdbcTe
    */
   @Override
   protected PreparedStatementCreator getPreparedStatementCreator(String sql, SqlParameterSource parameterSource) {
-    return new NamedPreparedStatementCreator(sql, parameterSource);
+    BindingPlan bindingPlan = getBindingPlan(sql);
+    PaddedParameters paddedParameters = this.padInLists(sql, bindingPlan, parameterSource);
+    if (paddedParameters != null) {
+      String paddedSql = paddedParameters.getSql();
+      return new NamedPreparedStatementCreator(paddedSql, getBindingPlan(paddedSql), paddedParameters);
+    }
+    return new NamedPreparedStatementCreator(sql, bindingPlan, parameterSource);
+  }
+
+  /**
+   * Expands the collection parameters into padded IN lists if enabled.
+   *
+   * @param sql the original SQL statement
+   * @param bindingPlan the binding plan of {@code sql}
+   * @param parameterSource the parameter values
+   * @return the expanded SQL statement and parameters, {@code null} if not
+   *         enabled or there are no collection parameters
+   */
+  @Nullable
+  private PaddedParameters padInLists(String sql, BindingPlan bindingPlan, SqlParameterSource parameterSource) {
+    InListPadding padding = this.inListPadding;
+    if (padding == null) {
+      return null;
+    }
+    return padding.pad(sql, bindingPlan, parameterSource);
+  }
+
+  /**
+   * Obtain a compiled binding plan for the given SQL statement.
+   * <p>The default implementation uses an LRU cache with an upper limit of 256 entries.
+   *
+   * @param sql the original SQL statement
+   * @return a representation of the parameters in the SQL statement
+   */
+  BindingPlan getBindingPlan(String sql) {
+    return this.bindingPlanCache.get(sql);
   }
 
   /**
@@ -114,12 +528,352 @@ public final class OracleNamedParameterJdbcTemplate extends NamedParameterJdbcTe
     throw new UnsupportedOperationException("parsing SQL is not supported");
   }
 
+  /**
+   * Binds the values of a {@link SqlParameterSource} according to a {@link BindingPlan}
+   * and keeps track of the values that have to be cleaned up.
+   */
+  abstract static class NamedParameterBinder implements ParameterDisposer {
+
+    /**
+     * The values bound so far that have to be cleaned up, {@code null} if there are none.
+     */
+    @Nullable
+    private List<SqlValue> valuesToCleanup;
+
+    void bindValues(OraclePreparedStatement statement, BindingPlan bindingPlan, SqlParameterSource parameterSource) throws SQLException {
+      for (int i = 0; i < bindingPlan.getParameterCount(); i++) {
+        String parameterName = bindingPlan.getParameterName(i);
+        if (this.isBoundByDriver(parameterName)) {
+          // a value in the source, for example a bean property, must not override the registration
+          continue;
+        }
+        if (!parameterSource.hasValue(parameterName)) {
+          throw new InvalidDataAccessApiUsageException("No value supplied for the SQL parameter '" + parameterName + "'");
+        }
+        int sqlType = parameterSource.getSqlType(parameterName);
+        Object value = parameterSource.getValue(parameterName);
+        if (value != null) {
+          ValueBinder binder = bindingPlan.getBinder(i, value);
+          Object bindValue = binder.prepare(value, parameterSource, parameterName);
+          if (binder.needsCleanup()) {
+            // register before binding so that partially bound values are cleaned up as well
+            this.registerForCleanup((SqlValue) bindValue);
+          }
+          binder.bind(statement, parameterName, bindValue, sqlType);
+        } else {
+          String typeName = parameterSource.getTypeName(parameterName);
+          setNull(statement, parameterName, sqlType, typeName);
+        }
+      }
+    }
+
+    /**
+     * Returns whether a parameter is not bound from the parameter source, for
+     * example because it is registered as a return parameter.
+     *
+     * @param parameterName the name of the parameter
+     * @return {@code true} if the parameter is not bound from the parameter
+     *         source, even if the source has a value for it
+     */
+    boolean isBoundByDriver(String parameterName) {
+      return false;
+    }
+
+    private void registerForCleanup(SqlValue value) {
+      if (this.valuesToCleanup == null) {
+        this.valuesToCleanup = new ArrayList<>(2);
+      }
+      this.valuesToCleanup.add(value);
+    }
+
+    private static void setNull(OraclePreparedStatement oracleStatement, String parameterName, int sqlType, String typeName) throws SQLException {
+      if (sqlType != SqlParameterSource.TYPE_UNKNOWN) {
+        if (typeName != null) {
+          oracleStatement.setNullAtName(parameterName, sqlType, typeName);
+        } else {
+          oracleStatement.setNullAtName(parameterName, sqlType);
+        }
+      } else {
+        // REVIEW: I'm not actually sure if Types.NULL is the correct type for
+        // null but there doesn't seem to be a setNullAtName without a type.
+        //
+        // We can't call
+        // statement.getParameterMetaData().getParameterType(i)
+        // because that doesn't take names and
+        // OracleParameterMetaData doesn't add any additional methods
+        // for named parameters.
+        // It might not even be possible to determine the type in an unambiguous
+        // way because a name can be used several times in a query for comparisons
+        // (or inserts) of columns of varying types
+        oracleStatement.setNullAtName(parameterName, Types.NULL);
+      }
+    }
+
+    @Override
+    public void cleanupParameters() {
+      if (this.valuesToCleanup == null) {
+        return;
+      }
+      for (SqlValue value : this.valuesToCleanup) {
+        value.cleanup();
+      }
+      this.valuesToCleanup = null;
+    }
+
+  }
+
+  /**
+   * Binds the rows of a batch using proprietary Oracle methods.
+   *
+   * <p>The {@link OraclePreparedStatement} is only unwrapped once per statement
+   * and no objects are allocated per row except for the tracking of values
+   * that have to be cleaned up.</p>
+   */
+  static final class NamedBatchPreparedStatementSetter extends NamedParameterBinder implements BatchPreparedStatementSetter {
+
+    private final BindingPlan bindingPlan;
+    private final SqlParameterSource[] batchArgs;
+
+    @Nullable
+    private PreparedStatement statement;
+
+    @Nullable
+    private OraclePreparedStatement oracleStatement;
+
+    NamedBatchPreparedStatementSetter(BindingPlan bindingPlan, SqlParameterSource[] batchArgs) {
+      Objects.requireNonNull(bindingPlan);
+      Objects.requireNonNull(batchArgs);
+      this.bindingPlan = bindingPlan;
+      this.batchArgs = batchArgs;
+    }
+
+    @Override
+    public void setValues(PreparedStatement ps, int i) throws SQLException {
+      if (ps != this.statement) {
+        this.oracleStatement = ps.unwrap(OraclePreparedStatement.class);
+        this.statement = ps;
+      }
+      this.bindValues(this.oracleStatement, this.bindingPlan, this.batchArgs[i]);
+    }
+
+    @Override
+    public int getBatchSize() {
+      return this.batchArgs.length;
+    }
+
+  }
+
+  /**
+   * Binds the rows of a {@link ColumnarBatchParameterSource}.
+   */
+  static final class ColumnarBatchPreparedStatementSetter implements BatchPreparedStatementSetter {
+
+    private final String[] parameterNames;
+
+    /**
+     * The column of every parameter of the binding plan.
+     */
+    private final ColumnarBatchParameterSource.Column[] columns;
+    private final int rowCount;
+
+    @Nullable
+    private PreparedStatement statement;
+
+    @Nullable
+    private OraclePreparedStatement oracleStatement;
+
+    ColumnarBatchPreparedStatementSetter(BindingPlan bindingPlan, ColumnarBatchParameterSource batchArgs) {
+      Objects.requireNonNull(bindingPlan);
+      Objects.requireNonNull(batchArgs);
+      int parameterCount = bindingPlan.getParameterCount();
+      this.parameterNames = new String[parameterCount];
+      this.columns = new ColumnarBatchParameterSource.Column[parameterCount];
+      for (int i = 0; i < parameterCount; i++) {
+        this.parameterNames[i] = bindingPlan.getParameterName(i);
+        this.columns[i] = batchArgs.getColumn(this.parameterNames[i]);
+        if (this.columns[i] == null) {
+          throw new InvalidDataAccessApiUsageException("No value supplied for the SQL parameter '" + this.parameterNames[i] + "'");
+        }
+      }
+      this.rowCount = batchArgs.getRowCount();
+    }
+
+    @Override
+    public void setValues(PreparedStatement ps, int i) throws SQLException {
+      if (ps != this.statement) {
+        this.oracleStatement = ps.unwrap(OraclePreparedStatement.class);
+        this.statement = ps;
+      }
+      for (int j = 0; j < this.columns.length; j++) {
+        this.columns[j].bind(this.oracleStatement, this.parameterNames[j], i);
+      }
+    }
+
+    @Override
+    public int getBatchSize() {
+      return this.rowCount;
+    }
+
+  }
+
+  /**
+   * Binds and executes all rows of a batch on a given statement.
+   */
+  static final class NamedBatchUpdateCallback implements PreparedStatementCallback<int[]> {
+
+    private final NamedBatchPreparedStatementSetter setter;
+
+    NamedBatchUpdateCallback(NamedBatchPreparedStatementSetter setter) {
+      Objects.requireNonNull(setter);
+      this.setter = setter;
+    }
+
+    @Override
+    public int[] doInPreparedStatement(PreparedStatement ps) throws SQLException {
+      try {
+        int batchSize = this.setter.getBatchSize();
+        for (int i = 0; i < batchSize; i++) {
+          this.setter.setValues(ps, i);
+          ps.addBatch();
+        }
+        return ps.executeBatch();
+      } finally {
+        this.setter.cleanupParameters();
+      }
+    }
+
+  }
+
+  /**
+   * Binds and executes the rows of a batch of unknown size in chunks.
+   */
+  static final class ChunkedBatchUpdateCallback extends NamedParameterBinder implements PreparedStatementCallback<BatchUpdateSummary> {
+
+    private final BindingPlan bindingPlan;
+    private final Iterator<? extends SqlParameterSource> batchArgs;
+    private final int batchSize;
+
+    private long batchCount;
+    private long rowCount;
+    private long updateCount;
+    private long successNoInfoCount;
+
+    ChunkedBatchUpdateCallback(BindingPlan bindingPlan, Iterator<? extends SqlParameterSource> batchArgs, int batchSize) {
+      Objects.requireNonNull(bindingPlan);
+      Objects.requireNonNull(batchArgs);
+      this.bindingPlan = bindingPlan;
+      this.batchArgs = batchArgs;
+      this.batchSize = batchSize;
+    }
+
+    @Override
+    public BatchUpdateSummary doInPreparedStatement(PreparedStatement ps) throws SQLException {
+      OraclePreparedStatement statement = ps.unwrap(OraclePreparedStatement.class);
+      try {
+        int rowsInBatch = 0;
+        while (this.batchArgs.hasNext()) {
+          this.bindValues(statement, this.bindingPlan, this.batchArgs.next());
+          ps.addBatch();
+          rowsInBatch += 1;
+          if (rowsInBatch == this.batchSize) {
+            this.executeBatch(ps, rowsInBatch);
+            rowsInBatch = 0;
+          }
+        }
+        if (rowsInBatch > 0) {
+          this.executeBatch(ps, rowsInBatch);
+        }
+      } finally {
+        this.cleanupParameters();
+      }
+      return new BatchUpdateSummary(this.batchCount, this.rowCount, this.updateCount, this.successNoInfoCount);
+    }
+
+    private void executeBatch(PreparedStatement ps, int rowsInBatch) throws SQLException {
+      int[] updateCounts = ps.executeBatch();
+      this.cleanupParameters();
+      this.batchCount += 1;
+      this.rowCount += rowsInBatch;
+      for (int count : updateCounts) {
+        if (count >= 0) {
+          this.updateCount += count;
+        } else if (count == Statement.SUCCESS_NO_INFO) {
+          this.successNoInfoCount += 1;
+        }
+      }
+    }
+
+  }
+
+  /**
+   * Executes the rows of a batch one after the other with return parameters
+   * and maps the returned rows.
+   */
+  static final class ReturningUpdateCallback<T> extends NamedParameterBinder implements PreparedStatementCallback<List<List<T>>> {
+
+    private final String sql;
+    private final BindingPlan bindingPlan;
+    private final SqlParameterSource[] batchArgs;
+    private final ReturnParameters returnParameters;
+    private final RowMapper<T> rowMapper;
+
+    ReturningUpdateCallback(String sql, BindingPlan bindingPlan, SqlParameterSource[] batchArgs,
+            ReturnParameters returnParameters, RowMapper<T> rowMapper) {
+      Objects.requireNonNull(sql);
+      Objects.requireNonNull(bindingPlan);
+      Objects.requireNonNull(batchArgs, "batchArgs");
+      Objects.requireNonNull(returnParameters, "returnParameters");
+      Objects.requireNonNull(rowMapper, "rowMapper");
+      this.sql = sql;
+      this.bindingPlan = bindingPlan;
+      this.batchArgs = batchArgs;
+      this.returnParameters = returnParameters;
+      this.rowMapper = rowMapper;
+    }
+
+    @Override
+    public List<List<T>> doInPreparedStatement(PreparedStatement ps) throws SQLException {
+      OraclePreparedStatement statement = ps.unwrap(OraclePreparedStatement.class);
+      this.returnParameters.register(statement, this.sql);
+      List<List<T>> results = new ArrayList<>(this.batchArgs.length);
+      try {
+        for (SqlParameterSource parameterSource : this.batchArgs) {
+          this.bindValues(statement, this.bindingPlan, parameterSource);
+          statement.executeUpdate();
+          this.cleanupParameters();
+          results.add(this.mapReturnedRows(statement));
+        }
+      } finally {
+        this.cleanupParameters();
+      }
+      return results;
+    }
+
+    @Override
+    boolean isBoundByDriver(String parameterName) {
+      return this.returnParameters.contains(parameterName);
+    }
+
+    private List<T> mapReturnedRows(OraclePreparedStatement statement) throws SQLException {
+      List<T> rows = new ArrayList<>(1);
+      try (ResultSet resultSet = statement.getReturnResultSet()) {
+        int rowNum = 0;
+        while (resultSet.next()) {
+          rows.add(this.rowMapper.mapRow(resultSet, rowNum++));
+        }
+      }
+      return rows;
+    }
+
+  }
+
   /**
    * Binds named parameters using proprietary Oracle methods.
    */
-  static final class NamedPreparedStatementCreator implements PreparedStatementCreator, PreparedStatementSetter, SqlProvider, ParameterDisposer {
+  static final class NamedPreparedStatementCreator extends NamedParameterBinder implements PreparedStatementCreator, PreparedStatementSetter, SqlProvider {
 
     private final String sql;
+    private final BindingPlan bindingPlan;
     private final SqlParameterSource parameterSource;
 
     private final boolean returnGeneratedKeys;
@@ -127,22 +881,27 @@ public final class OracleNamedParameterJdbcTemplate extends NamedParameterJdbcTe
     @Nullable
     private final String[] generatedKeysColumnNames;
 
-    NamedPreparedStatementCreator(String sql, SqlParameterSource parameterSource) {
+    NamedPreparedStatementCreator(String sql, BindingPlan bindingPlan, SqlParameterSource parameterSource) {
       Objects.requireNonNull(sql);
+      Objects.requireNonNull(bindingPlan);
       Objects.requireNonNull(parameterSource);
       this.sql = sql;
+      this.bindingPlan = bindingPlan;
       this.parameterSource = parameterSource;
       this.returnGeneratedKeys = false;
       this.generatedKeysColumnNames = null;
     }
 
-    NamedPreparedStatementCreator(String sql, SqlParameterSource parameterSource, boolean returnGeneratedKeys, String[] generatedKeysColumnNames) {
+    NamedPreparedStatementCreator(String sql, BindingPlan bindingPlan, SqlParameterSource parameterSource,
+            boolean returnGeneratedKeys, @Nullable String[] generatedKeysColumnNames) {
       Objects.requireNonNull(sql);
+      Objects.requireNonNull(bindingPlan);
       Objects.requireNonNull(parameterSource);
       this.sql = sql;
+      this.bindingPlan = bindingPlan;
       this.parameterSource = parameterSource;
-      this.returnGeneratedKeys = false;
-      this.generatedKeysColumnNames = null;
+      this.returnGeneratedKeys = returnGeneratedKeys;
+      this.generatedKeysColumnNames = generatedKeysColumnNames;
     }
 
     @Override
@@ -163,127 +922,65 @@ public final class OracleNamedParameterJdbcTemplate extends NamedParameterJdbcTe
     @Override
     public void setValues(PreparedStatement ps) throws SQLException {
       OraclePreparedStatement statement = ps.unwrap(OraclePreparedStatement.class);
-
-      for (String parameterName : this.parameterSource.getParameterNames()) {
-        int sqlType = this.parameterSource.getSqlType(parameterName);
-        Object value = this.parameterSource.getValue(parameterName);
-        validateValue(value);
-        if (value != null) {
-          setValue(statement, parameterName, value, sqlType);
-        } else {
-          String typeName = this.parameterSource.getTypeName(parameterName);
-          setNull(statement, parameterName, sqlType, typeName);
-        }
-      }
-
+      this.bindValues(statement, this.bindingPlan, this.parameterSource);
     }
 
-    private static void validateValue(Object value) {
-      if (value instanceof SqlValue && !(value instanceof NamedSqlValue)) {
-        // SqlValue does not support binding by name
-        throw new IllegalArgumentException("SqlValue not supported, use NamedSqlValue");
-      }
-      if (value instanceof SqlTypeValue) {
-        // SqlTypeValue does not support binding by name
-        throw new IllegalArgumentException("SqlTypeValue not supported, use NamedSqlValue");
-      }
-      if (value instanceof Collection) {
-        // ojdbc does not support binding Collection
-        throw new IllegalArgumentException("Collection not supported");
-      }
-    }
-
-    private static void setValue(OraclePreparedStatement oracleStatement, String parameterName, Object value, int sqlType) throws SQLException {
-      if (value instanceof NamedSqlValue) {
-        NamedSqlValue sqlValue = (NamedSqlValue) value;
-        sqlValue.setValue(oracleStatement, parameterName);
-      } else {
-        Object bindParameter = convertToBindable(value);
-        if (sqlType != SqlParameterSource.TYPE_UNKNOWN) {
-          oracleStatement.setObjectAtName(parameterName, bindParameter, sqlType);
-        } else {
-          oracleStatement.setObjectAtName(parameterName, bindParameter);
-        }
-      }
+    @Override
+    public String getSql() {
+      return this.sql;
     }
 
-    /**
-     * OJDBC does not support binding common Java types most notably
-     * {@link java.util.Date} this method converts some of the to
-     * bindable types.
-     *
-     * @param object the object to bind with may need conversion
-     * @return an equivalent value that hopefully ojdbc support
-     * @see org.springframework.jdbc.core.StatementCreatorUtils#setValue(PreparedStatement, int, int, String, Integer, Object)
-     */
-    private static Object convertToBindable(Object object) {
-      if (object instanceof java.util.Date) {
-        return convertToSqlTemporal((java.util.Date) object);
-      } else {
-        return object;
-      }
-    }
+  }
 
-    /**
-     * Converts a {@link java.util.Date} that is not a java.sql type
-     * to a {@link java.sql.Timestamp}.
-     *
-     * @param date the date to convert, not null
-     * @return The SQL Timestamp.
-     * @see org.springframework.jdbc.core.StatementCreatorUtils#isDateValue(Class)
-     */
-    private static Object convertToSqlTemporal(java.util.Date date) {
-      if (date instanceof java.sql.Date) {
-        return date;
-      } else if (date instanceof java.sql.Timestamp) {
-        return date;
-      } else if (date instanceof java.sql.Time) {
-        return date;
-      } else {
-        return copyDate(date);
-      }
-    }
+  /**
+   * Binds named parameters using proprietary Oracle methods on a statement
+   * from the OJDBC explicit statement cache.
+   */
+  static final class CachedNamedPreparedStatementCreator extends NamedParameterBinder implements PreparedStatementCreator, PreparedStatementSetter, SqlProvider {
 
-    private static Object copyDate(java.util.Date date) {
-      return new java.sql.Timestamp(date.getTime());
+    private final String key;
+    private final String sql;
+    private final BindingPlan bindingPlan;
+    private final SqlParameterSource parameterSource;
+    private final StatementInitializer initializer;
+    private final StatementCacheListener listener;
+
+    CachedNamedPreparedStatementCreator(String key, String sql, BindingPlan bindingPlan, SqlParameterSource parameterSource,
+            @Nullable StatementInitializer initializer, @Nullable StatementCacheListener listener) {
+      Objects.requireNonNull(key, "key");
+      Objects.requireNonNull(sql, "sql");
+      Objects.requireNonNull(bindingPlan);
+      Objects.requireNonNull(parameterSource);
+      this.key = key;
+      this.sql = sql;
+      this.bindingPlan = bindingPlan;
+      this.parameterSource = parameterSource;
+      this.initializer = initializer;
+      this.listener = listener;
     }
 
-    private static void setNull(OraclePreparedStatement oracleStatement, String parameterName, int sqlType, String typeName) throws SQLException {
-      if (sqlType != SqlParameterSource.TYPE_UNKNOWN) {
-        if (typeName != null) {
-          oracleStatement.setNullAtName(parameterName, sqlType, typeName);
-        } else {
-          oracleStatement.setNullAtName(parameterName, sqlType);
-        }
-      } else {
-        // REVIEW: I'm not actually sure if Types.NULL is the correct type for
-        // null but there doesn't seem to be a setNullAtName without a type.
-        //
-        // We can't call
-        // statement.getParameterMetaData().getParameterType(i)
-        // because that doesn't take names and
-        // OracleParameterMetaData doesn't add any additional methods
-        // for named parameters.
-        // It might not even be possible to determine the type in an unambiguous
-        // way because a name can be used several times in a query for comparisons
-        // (or inserts) of columns of varying types
-        oracleStatement.setNullAtName(parameterName, Types.NULL);
+    @Override
+    public PreparedStatement createPreparedStatement(Connection connection) throws SQLException {
+      PreparedStatement statement = CachedPreparedStatementCreator.createCachedStatement(connection, this.key, this.sql, this.initializer, this.listener);
+      try {
+        this.setValues(statement);
+      } catch (SQLException | RuntimeException e) {
+        // JdbcTemplate does not close a statement it never received
+        statement.close();
+        throw e;
       }
+      return statement;
     }
 
     @Override
-    public String getSql() {
-      return this.sql;
+    public void setValues(PreparedStatement ps) throws SQLException {
+      OraclePreparedStatement statement = ps.unwrap(OraclePreparedStatement.class);
+      this.bindValues(statement, this.bindingPlan, this.parameterSource);
     }
 
     @Override
-    public void cleanupParameters() {
-      for (String parameterName : this.parameterSource.getParameterNames()) {
-        Object value = this.parameterSource.getValue(parameterName);
-        if (value instanceof SqlValue) {
-          ((SqlValue) value).cleanup();
-        }
-      }
+    public String getSql() {
+      return this.sql;
     }
 
   }
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.lang.Nullable;
+
+import oracle.jdbc.OraclePreparedStatement;
+
+/**
+ * The parameters of a {@code RETURNING ... INTO} clause of a DML statement.
+ *
+ * <p>Oracle returns the values of the columns of every affected row in the
+ * parameters of the {@code INTO} clause. This avoids a second round trip
+ * for selecting generated keys or values computed by the database.</p>
+ *
+ * <pre><code>
+ * ReturnParameters returnParameters = new ReturnParameters()
+ *     .add("new_id", Types.NUMERIC)
+ *     .add("new_val", Types.VARCHAR, 50);
+ * List&lt;Long&gt; ids = namedJdbcTemplate.updateReturning(
+ *     "INSERT INTO test_table(id, val) VALUES(seq_test_table.nextval, :val) RETURNING id, val INTO :new_id, :new_val",
+ *     parameterSource, returnParameters, (rs, i) -&gt; rs.getLong(1));
+ * </code></pre>
+ *
+ * <p>The returned rows contain one column per return parameter in the order
+ * in which the parameters were added. Every return parameter may appear only
+ * once in the statement. A value for a return parameter in the parameter
+ * source, for example a bean property of the same name, is not bound.</p>
+ *
+ * @see OraclePreparedStatement#registerReturnParameter(int, int)
+ * @see OraclePreparedStatement#getReturnResultSet()
+ */
+public final class ReturnParameters {
+
+  private final List<ReturnParameter> parameters;
+
+  /**
+   * Creates an instance without parameters.
+   */
+  public ReturnParameters() {
+    this.parameters = new ArrayList<>(2);
+  }
+
+  /**
+   * Adds a return parameter.
+   *
+   * @param parameterName the name of the parameter in the {@code INTO} clause
+   * @param sqlType the SQL type of the returned values as defined in {@link java.sql.Types}
+   * @return this instance
+   */
+  public ReturnParameters add(String parameterName, int sqlType) {
+    return this.add(new ReturnParameter(parameterName, sqlType, -1, null));
+  }
+
+  /**
+   * Adds a return parameter of a character or binary type, for example
+   * {@link java.sql.Types#VARCHAR}.
+   *
+   * @param parameterName the name of the parameter in the {@code INTO} clause
+   * @param sqlType the SQL type of the returned values as defined in {@link java.sql.Types}
+   * @param maxSize the maximum size of the returned values in bytes or characters
+   * @return this instance
+   */
+  public ReturnParameters add(String parameterName, int sqlType, int maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize must be positive but was: " + maxSize);
+    }
+    return this.add(new ReturnParameter(parameterName, sqlType, maxSize, null));
+  }
+
+  /**
+   * Adds a return parameter of a user defined type.
+   *
+   * @param parameterName the name of the parameter in the {@code INTO} clause
+   * @param sqlType the SQL type of the returned values as defined in {@link java.sql.Types}
+   * @param typeName the fully qualified name of the SQL type
+   * @return this instance
+   */
+  public ReturnParameters add(String parameterName, int sqlType, String typeName) {
+    Objects.requireNonNull(typeName, "typeName");
+    return this.add(new ReturnParameter(parameterName, sqlType, -1, typeName));
+  }
+
+  private ReturnParameters add(ReturnParameter parameter) {
+    for (ReturnParameter each : this.parameters) {
+      if (each.name.equals(parameter.name)) {
+        throw new IllegalArgumentException("duplicate return parameter: " + parameter.name);
+      }
+    }
+    this.parameters.add(parameter);
+    return this;
+  }
+
+  /**
+   * Returns the number of return parameters.
+   *
+   * @return the number of return parameters
+   */
+  public int size() {
+    return this.parameters.size();
+  }
+
+  /**
+   * Returns whether a parameter is a return parameter.
+   *
+   * @param parameterName the name of the parameter
+   * @return {@code true} if the parameter has been added as a return parameter
+   */
+  boolean contains(String parameterName) {
+    for (ReturnParameter parameter : this.parameters) {
+      if (parameter.name.equals(parameterName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Registers the return parameters on a statement.
+   *
+   * @param statement the statement of {@code sql}
+   * @param sql the SQL string of the statement
+   * @throws SQLException if registering fails
+   */
+  void register(OraclePreparedStatement statement, String sql) throws SQLException {
+    int[] positions = this.resolvePositions(sql);
+    for (int i = 0; i < positions.length; i++) {
+      ReturnParameter parameter = this.parameters.get(i);
+      if (parameter.typeName != null) {
+        statement.registerReturnParameter(positions[i], parameter.sqlType, parameter.typeName);
+      } else if (parameter.maxSize > 0) {
+        statement.registerReturnParameter(positions[i], parameter.sqlType, parameter.maxSize);
+      } else {
+        statement.registerReturnParameter(positions[i], parameter.sqlType);
+      }
+    }
+  }
+
+  /**
+   * Resolves the position of every return parameter among the bind
+   * placeholders of a SQL string.
+   *
+   * @param sql the SQL string
+   * @return the 1 based position of every return parameter in the order in
+   *         which they were added
+   */
+  int[] resolvePositions(String sql) {
+    if (this.parameters.isEmpty()) {
+      throw new IllegalStateException("no return parameters");
+    }
+    List<String> occurrences = BindingPlan.parseParameterOccurrences(sql);
+    int[] positions = new int[this.parameters.size()];
+    for (int i = 0; i < positions.length; i++) {
+      String name = this.parameters.get(i).name;
+      int first = occurrences.indexOf(name);
+      if (first == -1) {
+        throw new IllegalArgumentException("return parameter " + name + " not found in: " + sql);
+      }
+      if (occurrences.lastIndexOf(name) != first) {
+        throw new IllegalArgumentException("return parameter " + name + " used more than once in: " + sql);
+      }
+      positions[i] = first + 1;
+    }
+    return positions;
+  }
+
+  static final class ReturnParameter {
+
+    final String name;
+    final int sqlType;
+    final int maxSize;
+    @Nullable
+    final String typeName;
+
+    ReturnParameter(String name, int sqlType, int maxSize, @Nullable String typeName) {
+      Objects.requireNonNull(name, "name");
+      this.name = name;
+      this.sqlType = sqlType;
+      this.maxSize = maxSize;
+      this.typeName = typeName;
+    }
+
+  }
+
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.lang.Nullable;
+
+/**
+ * Hands out the values of a database sequence that are fetched in blocks.
+ *
+ * <p>Instead of one {@code nextval} per inserted row a whole block of values
+ * is fetched in a single round trip with
+ * {@code SELECT seq.nextval FROM dual CONNECT BY LEVEL <= ?}. Knowing the
+ * keys before inserting allows inserting parent and child rows in batches
+ * without {@code RETURNING INTO}.</p>
+ *
+ * <pre><code> SequenceIdAllocator allocator = new SequenceIdAllocator(jdbcTemplate, "seq_test_table");
+ * long id = allocator.nextId();
+ * long[] childIds = allocator.nextIds(children.size());
+ * </code></pre>
+ *
+ * <h3>Striping</h3>
+ * <p>The values are handed out from several stripes, each with its own
+ * block, and a thread always uses the same stripe. Handing out a value is a
+ * single atomic increment, only fetching a new block locks the stripe. The
+ * values are unique but, like with a cached sequence on a RAC, not ordered
+ * across stripes and values that were fetched but not handed out are lost
+ * when the allocator is discarded.</p>
+ *
+ * <h3>Block Size</h3>
+ * <p>Every stripe starts with the {@link #setMinBlockSize(int) minimum block size}.
+ * If a block was used up in less than half the
+ * {@link #setTargetRefillInterval(long, TimeUnit) target refill interval} the
+ * next block is twice the size, up to the {@link #setMaxBlockSize(int) maximum block size}.
+ * If it took more than twice the interval the next block is half the size.</p>
+ */
+public final class SequenceIdAllocator {
+
+  private static final Pattern SEQUENCE_NAME = Pattern.compile("[A-Za-z][A-Za-z0-9_$#]*(\\.[A-Za-z][A-Za-z0-9_$#]*)?");
+
+  private final JdbcOperations jdbcOperations;
+  private final String sql;
+  private final Stripe[] stripes;
+
+  private volatile int minBlockSize;
+  private volatile int maxBlockSize;
+  private volatile long targetRefillNanos;
+
+  private final LongAdder roundTrips;
+  private final LongAdder fetchedIds;
+  private final LongAdder allocatedIds;
+  private final LongAdder fetchNanos;
+
+  /**
+   * Creates an allocator with one stripe per available processor.
+   *
+   * @param jdbcOperations the operations used to fetch the blocks
+   * @param sequenceName the name of the sequence, optionally qualified with the schema
+   */
+  public SequenceIdAllocator(JdbcOperations jdbcOperations, String sequenceName) {
+    this(jdbcOperations, sequenceName, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates an allocator.
+   *
+   * @param jdbcOperations the operations used to fetch the blocks
+   * @param sequenceName the name of the sequence, optionally qualified with the schema
+   * @param stripes the number of stripes, rounded up to a power of two
+   */
+  public SequenceIdAllocator(JdbcOperations jdbcOperations, String sequenceName, int stripes) {
+    Objects.requireNonNull(jdbcOperations, "jdbcOperations");
+    Objects.requireNonNull(sequenceName, "sequenceName");
+    if (!SEQUENCE_NAME.matcher(sequenceName).matches()) {
+      throw new IllegalArgumentException("invalid sequence name: " + sequenceName);
+    }
+    if (stripes <= 0) {
+      throw new IllegalArgumentException("stripes must be positive but was: " + stripes);
+    }
+    this.jdbcOperations = jdbcOperations;
+    this.sql = "SELECT " + sequenceName + ".nextval FROM dual CONNECT BY LEVEL <= ?";
+    this.stripes = new Stripe[stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1];
+    for (int i = 0; i < this.stripes.length; i++) {
+      this.stripes[i] = new Stripe();
+    }
+    this.minBlockSize = 16;
+    this.maxBlockSize = 1000;
+    this.targetRefillNanos = TimeUnit.SECONDS.toNanos(1L);
+    this.roundTrips = new LongAdder();
+    this.fetchedIds = new LongAdder();
+    this.allocatedIds = new LongAdder();
+    this.fetchNanos = new LongAdder();
+  }
+
+  /**
+   * Set the size of the first block of every stripe and the lower limit when
+   * shrinking blocks.
+   * <p>Default is 16.
+   *
+   * @param minBlockSize the minimum block size, has to be positive
+   */
+  public void setMinBlockSize(int minBlockSize) {
+    if (minBlockSize <= 0) {
+      throw new IllegalArgumentException("minBlockSize must be positive but was: " + minBlockSize);
+    }
+    this.minBlockSize = minBlockSize;
+  }
+
+  /**
+   * Set the upper limit when growing blocks.
+   * <p>Default is 1000.
+   *
+   * @param maxBlockSize the maximum block size, has to be positive
+   */
+  public void setMaxBlockSize(int maxBlockSize) {
+    if (maxBlockSize <= 0) {
+      throw new IllegalArgumentException("maxBlockSize must be positive but was: " + maxBlockSize);
+    }
+    this.maxBlockSize = maxBlockSize;
+  }
+
+  /**
+   * Set the interval in which a stripe should use up a block. Blocks grow
+   * when they are used up faster and shrink when they are used up slower.
+   * <p>Default is one second.
+   *
+   * @param interval the interval, has to be positive
+   * @param unit the unit of {@code interval}
+   */
+  public void setTargetRefillInterval(long interval, TimeUnit unit) {
+    if (interval <= 0L) {
+      throw new IllegalArgumentException("interval must be positive but was: " + interval);
+    }
+    this.targetRefillNanos = unit.toNanos(interval);
+  }
+
+  /**
+   * Returns the next value of the sequence, fetching a new block if the
+   * block of the stripe of the current thread is used up.
+   *
+   * @return the next value
+   */
+  public long nextId() {
+    Stripe stripe = this.stripes[(int) Thread.currentThread().getId() & (this.stripes.length - 1)];
+    while (true) {
+      Block block = stripe.block;
+      if (block != null) {
+        int index = block.next.getAndIncrement();
+        if (index < block.ids.length) {
+          this.allocatedIds.increment();
+          return block.ids[index];
+        }
+      }
+      this.refill(stripe, block);
+    }
+  }
+
+  /**
+   * Returns several values of the sequence. If {@code count} is at least the
+   * current block size of the stripe the values are fetched in a dedicated
+   * round trip.
+   *
+   * @param count the number of values, must not be negative
+   * @return the values
+   */
+  public long[] nextIds(int count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("count must not be negative but was: " + count);
+    }
+    Stripe stripe = this.stripes[(int) Thread.currentThread().getId() & (this.stripes.length - 1)];
+    if (count >= Math.max(stripe.blockSize, this.minBlockSize)) {
+      long[] ids = this.fetch(count);
+      this.allocatedIds.add(count);
+      return ids;
+    }
+    long[] ids = new long[count];
+    for (int i = 0; i < count; i++) {
+      ids[i] = this.nextId();
+    }
+    return ids;
+  }
+
+  private void refill(Stripe stripe, @Nullable Block exhausted) {
+    synchronized (stripe) {
+      if (stripe.block != exhausted) {
+        // another thread already refilled
+        return;
+      }
+      long now = System.nanoTime();
+      int blockSize;
+      if (exhausted == null) {
+        blockSize = this.minBlockSize;
+      } else {
+        long elapsed = now - stripe.lastRefillNanos;
+        long target = this.targetRefillNanos;
+        blockSize = stripe.blockSize;
+        if (elapsed < target / 2L) {
+          blockSize = (int) Math.min(blockSize * 2L, this.maxBlockSize);
+        } else if (elapsed > target * 2L) {
+          blockSize = blockSize / 2;
+        }
+        blockSize = Math.max(Math.min(blockSize, this.maxBlockSize), this.minBlockSize);
+      }
+      stripe.block = new Block(this.fetch(blockSize));
+      stripe.blockSize = blockSize;
+      stripe.lastRefillNanos = now;
+    }
+  }
+
+  private long[] fetch(int count) {
+    if (count == 0) {
+      return new long[0];
+    }
+    long start = System.nanoTime();
+    long[] ids = this.jdbcOperations.query(this.sql, ps -> {
+      ps.setFetchSize(count);
+      ps.setInt(1, count);
+    }, rs -> {
+      long[] values = new long[count];
+      int i = 0;
+      while (rs.next()) {
+        if (i == count) {
+          throw new IncorrectResultSizeDataAccessException(count, i + 1);
+        }
+        values[i++] = rs.getLong(1);
+      }
+      if (i != count) {
+        throw new IncorrectResultSizeDataAccessException(count, i);
+      }
+      return values;
+    });
+    this.fetchNanos.add(System.nanoTime() - start);
+    this.roundTrips.increment();
+    this.fetchedIds.add(count);
+    // values of a single block are handed out in ascending order
+    Arrays.sort(ids);
+    return ids;
+  }
+
+  /**
+   * Returns the statistics of the allocator. The counters are read
+   * individually while other threads may continue to update them so the
+   * values may be slightly skewed.
+   *
+   * @return a snapshot of the statistics
+   */
+  public Statistics getStatistics() {
+    return new Statistics(this.roundTrips.sum(), this.fetchedIds.sum(), this.allocatedIds.sum(), this.fetchNanos.sum());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return "SequenceIdAllocator[" + this.sql + ", " + this.getStatistics() + ']';
+  }
+
+  static final class Stripe {
+
+    @Nullable
+    volatile Block block;
+
+    // guarded by this
+    int blockSize;
+
+    // guarded by this
+    long lastRefillNanos;
+
+  }
+
+  static final class Block {
+
+    final long[] ids;
+    final AtomicInteger next;
+
+    Block(long[] ids) {
+      this.ids = ids;
+      this.next = new AtomicInteger();
+    }
+
+  }
+
+  /**
+   * An immutable snapshot of the statistics of a {@link SequenceIdAllocator}.
+   */
+  public static final class Statistics {
+
+    private final long roundTripCount;
+    private final long fetchedIdCount;
+    private final long allocatedIdCount;
+    private final long fetchNanos;
+
+    Statistics(long roundTripCount, long fetchedIdCount, long allocatedIdCount, long fetchNanos) {
+      this.roundTripCount = roundTripCount;
+      this.fetchedIdCount = fetchedIdCount;
+      this.allocatedIdCount = allocatedIdCount;
+      this.fetchNanos = fetchNanos;
+    }
+
+    /**
+     * Returns the number of round trips to fetch blocks.
+     *
+     * @return the number of round trips
+     */
+    public long getRoundTripCount() {
+      return this.roundTripCount;
+    }
+
+    /**
+     * Returns the number of values fetched from the sequence.
+     *
+     * @return the number of fetched values
+     */
+    public long getFetchedIdCount() {
+      return this.fetchedIdCount;
+    }
+
+    /**
+     * Returns the number of values handed out.
+     *
+     * @return the number of handed out values
+     */
+    public long getAllocatedIdCount() {
+      return this.allocatedIdCount;
+    }
+
+    /**
+     * Returns the total time spent fetching blocks.
+     *
+     * @return the fetch time in nanoseconds
+     */
+    public long getFetchNanos() {
+      return this.fetchNanos;
+    }
+
+    /**
+     * Returns the average number of values fetched per round trip.
+     *
+     * @return the average block size, 0.0 if there were no round trips
+     */
+    public double getAverageBlockSize() {
+      return this.roundTripCount == 0L ? 0.0d : (double) this.fetchedIdCount / this.roundTripCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+      return "Statistics[roundTrips=" + this.roundTripCount
+              + ", fetchedIds=" + this.fetchedIdCount
+              + ", allocatedIds=" + this.allocatedIdCount
+              + ", fetchNanos=" + this.fetchNanos + ']';
+    }
+
+  }
+
+}
@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.dao.CleanupFailureDataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import oracle.jdbc.OracleConnection;
+import oracle.jdbc.OraclePreparedStatement;
+
+/**
+ * A thread-safe alternative to {@link SqlOracleArrayValue} that
+ * can be bound any number of times, to several statements, batch rows and
+ * from several threads.
+ *
+ * <p>A {@link java.sql.Array} is created once per physical connection and
+ * shared by all statements that bind the value on that connection. Every
+ * bind acquires a reference and the array is freed once the last reference
+ * is released. {@link OracleNamedParameterJdbcTemplate} tracks and releases
+ * the references of every bind individually. When the value is bound
+ * directly, for example through a {@code JdbcTemplate}, every
+ * {@link #cleanup()} releases the reference of the most recent bind of the
+ * current thread, so every bind needs one cleanup and nested statements have
+ * to be cleaned up in reverse order, which {@code JdbcTemplate} does.</p>
+ *
+ * <p>The array is created outside of any lock, only threads binding the
+ * value on the same connection wait for its creation.</p>
+ *
+ * <p>A {@link #transactionScoped() transaction scoped} value additionally
+ * keeps the array until the current Spring transaction completes, so a
+ * large array that several queries of a unit of work use is created only
+ * once.</p>
+ *
+ * <pre><code> SharedSqlOracleArrayValue ids = new SharedSqlOracleArrayValue("MYARRAYTYPE", idArray).transactionScoped();
+ * namedParameterJdbcTemplate.query(FIRST_QUERY, new MapSqlParameterSource("ids", ids), rowMapper);
+ * namedParameterJdbcTemplate.query(SECOND_QUERY, new MapSqlParameterSource("ids", ids), rowMapper);
+ * </code></pre>
+ *
+ * <p>The values are not copied and must not be modified after construction.</p>
+ *
+ * @see SqlOracleArrayValue
+ */
+public final class SharedSqlOracleArrayValue implements NamedSqlValue {
+
+  /**
+   * Either an {@code Object[]} or an array of primitives, both are supported by
+   * {@link OracleConnection#createOracleArray(String, Object)}.
+   */
+  private final Object values;
+
+  private final String typeName;
+
+  private final boolean transactionScoped;
+
+  private final ArrayTypeDescriptorCache descriptorCache;
+
+  /**
+   * The created arrays by physical connection, guarded by itself.
+   */
+  private final Map<OracleConnection, SharedArray> arrays;
+
+  /**
+   * The arrays acquired by the current thread through {@link #setValue(PreparedStatement, String)}
+   * that have not been released yet, one per bind, the most recent bind first.
+   */
+  private final ThreadLocal<Deque<SharedArray>> acquired;
+
+  /**
+   * Constructor that takes two parameters, one parameter with the array of values passed in to
+   * the statement and one that takes the type name.
+   *
+   * @param typeName the type name
+   * @param values the array containing the values
+   */
+  public SharedSqlOracleArrayValue(String typeName, Object... values) {
+    this(typeName, (Object) values, false, null);
+  }
+
+  /**
+   * Constructor for an array of {@code int} values. The values are passed to
+   * the driver without boxing.
+   *
+   * @param typeName the type name
+   * @param values the array containing the values
+   */
+  public SharedSqlOracleArrayValue(String typeName, int[] values) {
+    this(typeName, (Object) values, false, null);
+  }
+
+  /**
+   * Constructor for an array of {@code long} values. The values are passed to
+   * the driver without boxing.
+   *
+   * @param typeName the type name
+   * @param values the array containing the values
+   */
+  public SharedSqlOracleArrayValue(String typeName, long[] values) {
+    this(typeName, (Object) values, false, null);
+  }
+
+  /**
+   * Constructor for an array of {@code double} values. The values are passed to
+   * the driver without boxing.
+   *
+   * @param typeName the type name
+   * @param values the array containing the values
+   */
+  public SharedSqlOracleArrayValue(String typeName, double[] values) {
+    this(typeName, (Object) values, false, null);
+  }
+
+  private SharedSqlOracleArrayValue(String typeName, Object values, boolean transactionScoped,
+          @Nullable ArrayTypeDescriptorCache descriptorCache) {
+    Objects.requireNonNull(typeName, "typeName");
+    Objects.requireNonNull(values, "values");
+    this.typeName = typeName;
+    this.values = values;
+    this.transactionScoped = transactionScoped;
+    this.descriptorCache = descriptorCache;
+    this.arrays = new HashMap<>();
+    this.acquired = ThreadLocal.withInitial(ArrayDeque::new);
+  }
+
+  /**
+   * Returns a value with the same type and values that keeps a created array
+   * until the current Spring transaction completes. Outside of a transaction
+   * the returned value behaves like this value.
+   *
+   * @return a transaction scoped value
+   */
+  public SharedSqlOracleArrayValue transactionScoped() {
+    if (this.transactionScoped) {
+      return this;
+    }
+    return new SharedSqlOracleArrayValue(this.typeName, this.values, true, this.descriptorCache);
+  }
+
+  /**
+   * Returns a value with the same type and values that creates its arrays
+   * through a descriptor cache.
+   *
+   * @param descriptorCache the descriptor cache, not {@code null}
+   * @return a value that uses the descriptor cache
+   */
+  public SharedSqlOracleArrayValue withDescriptorCache(ArrayTypeDescriptorCache descriptorCache) {
+    Objects.requireNonNull(descriptorCache, "descriptorCache");
+    return new SharedSqlOracleArrayValue(this.typeName, this.values, this.transactionScoped, descriptorCache);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setValue(PreparedStatement ps, int paramIndex) throws SQLException {
+    SharedArray sharedArray = this.acquireArray(ps.getConnection());
+    this.acquired.get().addFirst(sharedArray);
+    ps.setArray(paramIndex, sharedArray.awaitArray());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setValue(PreparedStatement ps, String paramName) throws SQLException {
+    SharedArray sharedArray = this.acquireArray(ps.getConnection());
+    this.acquired.get().addFirst(sharedArray);
+    ps.unwrap(OraclePreparedStatement.class).setArrayAtName(paramName, sharedArray.awaitArray());
+  }
+
+  /**
+   * Returns a value that binds the same array but tracks its own references,
+   * used by {@link OracleNamedParameterJdbcTemplate} for every bind.
+   *
+   * @return a value whose {@link NamedSqlValue#cleanup()} releases only the
+   *         references acquired through it
+   */
+  NamedSqlValue newBinding() {
+    return new Binding();
+  }
+
+  private SharedArray acquireArray(Connection connection) throws SQLException {
+    OracleConnection oracleConnection = connection.unwrap(OracleConnection.class);
+    SharedArray sharedArray;
+    boolean create = false;
+    synchronized (this.arrays) {
+      sharedArray = this.arrays.get(oracleConnection);
+      if (sharedArray == null) {
+        sharedArray = new SharedArray(oracleConnection);
+        this.arrays.put(oracleConnection, sharedArray);
+        create = true;
+      }
+      sharedArray.references += 1;
+    }
+    try {
+      if (create) {
+        sharedArray.created.complete(this.createArray(oracleConnection));
+      } else {
+        // only waits if another thread is creating the array on the same connection
+        sharedArray.awaitArray();
+      }
+    } catch (SQLException | RuntimeException e) {
+      if (create) {
+        synchronized (this.arrays) {
+          // let the next bind try again
+          this.arrays.remove(oracleConnection, sharedArray);
+        }
+        sharedArray.created.completeExceptionally(e);
+      }
+      this.release(sharedArray);
+      throw e;
+    }
+    if (this.transactionScoped) {
+      this.bindToTransaction(sharedArray);
+    }
+    return sharedArray;
+  }
+
+  private Array createArray(OracleConnection connection) throws SQLException {
+    if (this.descriptorCache != null) {
+      return this.descriptorCache.createArray(connection, this.typeName, this.values);
+    }
+    return connection.createOracleArray(this.typeName, this.values);
+  }
+
+  private void bindToTransaction(SharedArray sharedArray) {
+    synchronized (this.arrays) {
+      if (sharedArray.transactionBound || !TransactionSynchronizationManager.isSynchronizationActive()) {
+        return;
+      }
+      // the transaction holds its own reference until it completes
+      sharedArray.references += 1;
+      sharedArray.transactionBound = true;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+      @Override
+      public void afterCompletion(int status) {
+        SharedSqlOracleArrayValue.this.release(sharedArray);
+      }
+    });
+  }
+
+  /**
+   * Releases the reference of the most recent bind of this value by the
+   * current thread.
+   */
+  @Override
+  public void cleanup() {
+    Deque<SharedArray> binds = this.acquired.get();
+    SharedArray sharedArray = binds.pollFirst();
+    if (binds.isEmpty()) {
+      this.acquired.remove();
+    }
+    if (sharedArray != null) {
+      this.release(sharedArray);
+    }
+  }
+
+  private void releaseAll(List<SharedArray> sharedArrays) {
+    CleanupFailureDataAccessException failure = null;
+    for (SharedArray sharedArray : sharedArrays) {
+      try {
+        this.release(sharedArray);
+      } catch (CleanupFailureDataAccessException e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private void release(SharedArray sharedArray) {
+    synchronized (this.arrays) {
+      sharedArray.references -= 1;
+      if (sharedArray.references > 0) {
+        return;
+      }
+      this.arrays.remove(sharedArray.connection, sharedArray);
+    }
+    if (sharedArray.created.isCompletedExceptionally()) {
+      // creation failed, nothing to free
+      return;
+    }
+    Array array = sharedArray.created.join();
+    // https://docs.oracle.com/javase/tutorial/jdbc/basics/array.html#releasing_array
+    try {
+      array.free();
+    } catch (SQLException e) {
+      throw new CleanupFailureDataAccessException("could not free array", e);
+    }
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return the number of elements of the array
+   */
+  public int getLength() {
+    return java.lang.reflect.Array.getLength(this.values);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    if (this.values instanceof int[]) {
+      return Arrays.toString((int[]) this.values);
+    }
+    if (this.values instanceof long[]) {
+      return Arrays.toString((long[]) this.values);
+    }
+    if (this.values instanceof double[]) {
+      return Arrays.toString((double[]) this.values);
+    }
+    return Arrays.toString((Object[]) this.values);
+  }
+
+  /**
+   * An array created on a connection together with its reference count.
+   */
+  static final class SharedArray {
+
+    final OracleConnection connection;
+
+    /**
+     * Completed by the thread that creates the array.
+     */
+    final CompletableFuture<Array> created;
+
+    // guarded by the arrays map
+    int references;
+
+    // guarded by the arrays map
+    boolean transactionBound;
+
+    SharedArray(OracleConnection connection) {
+      this.connection = connection;
+      this.created = new CompletableFuture<>();
+    }
+
+    /**
+     * Returns the array, waiting for its creation by another thread if necessary.
+     *
+     * @return the created array
+     * @throws SQLException if creating the array failed
+     */
+    Array awaitArray() throws SQLException {
+      try {
+        return this.created.join();
+      } catch (CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof SQLException) {
+          throw (SQLException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        throw e;
+      }
+    }
+
+  }
+
+  /**
+   * Binds the shared array and releases only the references acquired
+   * through this instance.
+   */
+  final class Binding implements NamedSqlValue {
+
+    private final List<SharedArray> arrays = new ArrayList<>(1);
+
+    @Override
+    public void setValue(PreparedStatement ps, int paramIndex) throws SQLException {
+      SharedArray sharedArray = SharedSqlOracleArrayValue.this.acquireArray(ps.getConnection());
+      this.arrays.add(sharedArray);
+      ps.setArray(paramIndex, sharedArray.awaitArray());
+    }
+
+    @Override
+    public void setValue(PreparedStatement ps, String paramName) throws SQLException {
+      SharedArray sharedArray = SharedSqlOracleArrayValue.this.acquireArray(ps.getConnection());
+      this.arrays.add(sharedArray);
+      ps.unwrap(OraclePreparedStatement.class).setArrayAtName(paramName, sharedArray.awaitArray());
+    }
+
+    @Override
+    public void cleanup() {
+      List<SharedArray> acquiredArrays = new ArrayList<>(this.arrays);
+      this.arrays.clear();
+      SharedSqlOracleArrayValue.this.releaseAll(acquiredArrays);
+    }
+
+    @Override
+    public String toString() {
+      return SharedSqlOracleArrayValue.this.toString();
+    }
+
+  }
+
+}
@@ -20,6 +20,12 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import org.springframework.dao.CleanupFailureDataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
@@ -72,14 +78,23 @@ import oracle.jdbc.OraclePreparedStatement;
  * <p>This class can be combined with {@link OracleNamedParameterJdbcTemplate} for named parameter
  * support.
  *
+ * <p>For numeric collection types {@code int[]}, {@code long[]} and {@code double[]}
+ * values, or the {@code of} factory methods, avoid boxing every element.
+ *
  * @see <a href="https://docs.oracle.com/en/database/oracle/oracle-database/21/jajdb/oracle/jdbc/OracleConnection.html#createOracleArray_java_lang_String_java_lang_Object_">OracleConnection#createOracleArray</a>
  */
 public final class SqlOracleArrayValue implements NamedSqlValue {
 
-  private final Object[] values;
+  /**
+   * Either an {@code Object[]} or an array of primitives, both are supported by
+   * {@link OracleConnection#createOracleArray(String, Object)}.
+   */
+  private final Object values;
 
   private final String typeName;
 
+  private final ArrayTypeDescriptorCache descriptorCache;
+
   private Array array;
 
   /**
@@ -92,6 +107,113 @@ public final class SqlOracleArrayValue implements NamedSqlValue {
   public SqlOracleArrayValue(String typeName, Object... values) {
     this.values = values;
     this.typeName = typeName;
+    this.descriptorCache = null;
+  }
+
+  /**
+   * Constructor for an array of {@code int} values. The values are passed to
+   * the driver without boxing. The array is not copied.
+   *
+   * @param typeName the type name
+   * @param values the array containing the values
+   */
+  public SqlOracleArrayValue(String typeName, int[] values) {
+    this.values = values;
+    this.typeName = typeName;
+    this.descriptorCache = null;
+  }
+
+  /**
+   * Constructor for an array of {@code long} values. The values are passed to
+   * the driver without boxing. The array is not copied.
+   *
+   * @param typeName the type name
+   * @param values the array containing the values
+   */
+  public SqlOracleArrayValue(String typeName, long[] values) {
+    this.values = values;
+    this.typeName = typeName;
+    this.descriptorCache = null;
+  }
+
+  /**
+   * Constructor for an array of {@code double} values. The values are passed to
+   * the driver without boxing. The array is not copied.
+   *
+   * @param typeName the type name
+   * @param values the array containing the values
+   */
+  public SqlOracleArrayValue(String typeName, double[] values) {
+    this.values = values;
+    this.typeName = typeName;
+    this.descriptorCache = null;
+  }
+
+  private SqlOracleArrayValue(String typeName, Object values, ArrayTypeDescriptorCache descriptorCache) {
+    this.values = values;
+    this.typeName = typeName;
+    this.descriptorCache = descriptorCache;
+  }
+
+  /**
+   * Returns a value with the same type and values that creates its array
+   * through a descriptor cache.
+   *
+   * @param descriptorCache the descriptor cache, not {@code null}
+   * @return a value that uses the descriptor cache
+   */
+  public SqlOracleArrayValue withDescriptorCache(ArrayTypeDescriptorCache descriptorCache) {
+    Objects.requireNonNull(descriptorCache, "descriptorCache");
+    return new SqlOracleArrayValue(this.typeName, this.values, descriptorCache);
+  }
+
+  /**
+   * Creates an array value from the {@code int} values of a stream.
+   *
+   * @param typeName the type name
+   * @param values the values, will be consumed
+   * @return the array value
+   */
+  public static SqlOracleArrayValue of(String typeName, IntStream values) {
+    return new SqlOracleArrayValue(typeName, values.toArray());
+  }
+
+  /**
+   * Creates an array value from the {@code long} values of a stream.
+   *
+   * @param typeName the type name
+   * @param values the values, will be consumed
+   * @return the array value
+   */
+  public static SqlOracleArrayValue of(String typeName, LongStream values) {
+    return new SqlOracleArrayValue(typeName, values.toArray());
+  }
+
+  /**
+   * Creates an array value from the {@code double} values of a stream.
+   *
+   * @param typeName the type name
+   * @param values the values, will be consumed
+   * @return the array value
+   */
+  public static SqlOracleArrayValue of(String typeName, DoubleStream values) {
+    return new SqlOracleArrayValue(typeName, values.toArray());
+  }
+
+  /**
+   * Creates an array value for a collection type of {@code RAW(16)} from
+   * {@link UUID}s. Every UUID is written straight into its {@code RAW(16)}
+   * form, the same as with {@link UuidOracleData}, without intermediate arrays.
+   *
+   * <pre><code> CREATE TYPE RAW16_TABLE_TYPE AS TABLE OF RAW(16);</code></pre>
+   *
+   * @param typeName the type name
+   * @param uuids the UUIDs, may contain {@code null}
+   * @return the array value
+   */
+  public static SqlOracleArrayValue ofUuids(String typeName, Collection<UUID> uuids) {
+    Objects.requireNonNull(uuids, "uuids");
+    return new SqlOracleArrayValue(typeName, (Object[]) UuidUtils.toByteArrays(uuids));
   }
 
   /**
@@ -116,7 +238,11 @@ public final class SqlOracleArrayValue implements NamedSqlValue {
     if (this.array != null) {
       throw new InvalidDataAccessApiUsageException("Value bound more than once");
     }
-    this.array = conn.unwrap(OracleConnection.class).createOracleArray(this.typeName, this.values);
+    if (this.descriptorCache != null) {
+      this.array = this.descriptorCache.createArray(conn, this.typeName, this.values);
+    } else {
+      this.array = conn.unwrap(OracleConnection.class).createOracleArray(this.typeName, this.values);
+    }
     return this.array;
   }
 
@@ -139,12 +265,30 @@ public final class SqlOracleArrayValue implements NamedSqlValue {
     }
   }
 
+  /**
+   * Returns the number of elements.
+   *
+   * @return the number of elements of the array
+   */
+  public int getLength() {
+    return java.lang.reflect.Array.getLength(this.values);
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public String toString() {
-    return Arrays.toString(this.values);
+    if (this.values instanceof int[]) {
+      return Arrays.toString((int[]) this.values);
+    }
+    if (this.values instanceof long[]) {
+      return Arrays.toString((long[]) this.values);
+    }
+    if (this.values instanceof double[]) {
+      return Arrays.toString((double[]) this.values);
+    }
+    return Arrays.toString((Object[]) this.values);
   }
 
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Struct;
+import java.util.Collection;
+import java.util.Objects;
+
+import org.springframework.dao.CleanupFailureDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+
+import oracle.jdbc.OracleConnection;
+import oracle.jdbc.OraclePreparedStatement;
+
+/**
+ * Implementation of {@link NamedSqlValue} that binds a collection of Java
+ * objects as an array of an Oracle object type.
+ *
+ * <p>Unlike {@link SqlOracleArrayValue}, which supports only scalar element
+ * types, this allows writing thousands of rows with a single execution of a
+ * statement selecting from the array:</p>
+ *
+ * <pre><code>
+ * CREATE TYPE person_type AS OBJECT (id NUMBER(19), name VARCHAR2(100));
+ * CREATE TYPE person_table_type IS TABLE OF person_type;
+ *
+ * StructMapper&lt;Person&gt; mapper = StructMapper.ofBean("PERSON_TYPE", Person.class, "id", "name");
+ * namedJdbcTemplate.update("MERGE INTO person p USING (SELECT id, name FROM TABLE(:rows)) r ON (p.id = r.id) "
+ *     + "WHEN MATCHED THEN UPDATE SET p.name = r.name "
+ *     + "WHEN NOT MATCHED THEN INSERT (id, name) VALUES (r.id, r.name)",
+ *     new MapSqlParameterSource("rows", new SqlOracleStructArrayValue&lt;&gt;("PERSON_TABLE_TYPE", mapper, persons)));
+ * </code></pre>
+ *
+ * <p>Like {@link SqlOracleArrayValue} a value can be bound only once.</p>
+ *
+ * @param <T> the type of the elements
+ * @see StructMapper
+ */
+public final class SqlOracleStructArrayValue<T> implements NamedSqlValue {
+
+  private final String typeName;
+  private final StructMapper<? super T> mapper;
+  private final Collection<? extends T> values;
+  private Array array;
+
+  /**
+   * Creates a value for a collection of objects.
+   *
+   * @param typeName the name of the Oracle collection type
+   * @param mapper maps the elements to the attributes of the element object type
+   * @param values the elements, not copied
+   */
+  public SqlOracleStructArrayValue(String typeName, StructMapper<? super T> mapper, Collection<? extends T> values) {
+    Objects.requireNonNull(typeName, "typeName");
+    Objects.requireNonNull(mapper, "mapper");
+    Objects.requireNonNull(values, "values");
+    this.typeName = typeName;
+    this.mapper = mapper;
+    this.values = values;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setValue(PreparedStatement ps, int paramIndex) throws SQLException {
+    Array array = this.createArray(ps.getConnection());
+    ps.setArray(paramIndex, array);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setValue(PreparedStatement ps, String paramName) throws SQLException {
+    Array array = this.createArray(ps.getConnection());
+    ps.unwrap(OraclePreparedStatement.class).setArrayAtName(paramName, array);
+  }
+
+  private Array createArray(Connection conn) throws SQLException {
+    if (this.array != null) {
+      throw new InvalidDataAccessApiUsageException("Value bound more than once");
+    }
+    OracleConnection oracleConnection = conn.unwrap(OracleConnection.class);
+    String structTypeName = this.mapper.getTypeName();
+    Struct[] structs = new Struct[this.values.size()];
+    int i = 0;
+    for (T value : this.values) {
+      structs[i++] = value != null ? oracleConnection.createStruct(structTypeName, this.mapper.toAttributes(value)) : null;
+    }
+    this.array = oracleConnection.createOracleArray(this.typeName, structs);
+    return this.array;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void cleanup() {
+    if (this.array == null) {
+      // #cleanup may be called twice in case of exceptions
+      // avoid calling #free twice
+      return;
+    }
+    try {
+      this.array.free();
+      this.array = null;
+    } catch (SQLException e) {
+      throw new CleanupFailureDataAccessException("could not free array", e);
+    }
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return the number of elements of the array
+   */
+  public int getLength() {
+    return this.values.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return this.typeName + this.values;
+  }
+
+}
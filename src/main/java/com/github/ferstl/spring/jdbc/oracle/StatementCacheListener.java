@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+/**
+ * Receives events about the use of the OJDBC explicit statement cache.
+ *
+ * <p>Implementations are called on the thread that uses the statement and
+ * have to be thread safe and fast. {@link StatementCacheStatistics} is an
+ * implementation that collects counters per cache key.</p>
+ *
+ * @see CachedPreparedStatementCreator
+ * @see CachedCallableStatementCreator
+ * @see OracleNamedParameterJdbcTemplate#setStatementCacheListener(StatementCacheListener)
+ */
+public interface StatementCacheListener {
+
+  /**
+   * Called when a statement was found in the explicit statement cache.
+   *
+   * @param key the cache key of the statement
+   */
+  void cacheHit(String key);
+
+  /**
+   * Called when no statement was found in the explicit statement cache
+   * and a new statement was prepared.
+   *
+   * @param key the cache key of the statement
+   * @param preparationNanos the time in nanoseconds it took to prepare
+   *        and initialize the statement
+   */
+  void cacheMiss(String key, long preparationNanos);
+
+  /**
+   * Called when a statement was returned to the explicit statement cache.
+   *
+   * @param key the cache key of the statement
+   */
+  void returnedToCache(String key);
+
+}
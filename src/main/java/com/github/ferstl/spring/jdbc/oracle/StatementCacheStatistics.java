@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link StatementCacheListener} that counts hits, misses, preparation time
+ * and returns to the cache per cache key.
+ *
+ * <p>A low hit ratio for a key that is used frequently indicates that the
+ * explicit statement cache of the connections is too small. As every
+ * connection has its own cache a key misses at least once per connection.</p>
+ *
+ * <pre><code> StatementCacheStatistics statistics = new StatementCacheStatistics();
+ * namedJdbcTemplate.setStatementCacheListener(statistics);
+ * // ...
+ * Map&lt;String, StatementCacheStatistics.KeyStatistics&gt; snapshot = statistics.snapshot();
+ * </code></pre>
+ */
+public final class StatementCacheStatistics implements StatementCacheListener {
+
+  private final ConcurrentMap<String, Counters> counters = new ConcurrentHashMap<>();
+
+  private Counters getCounters(String key) {
+    Counters keyCounters = this.counters.get(key);
+    if (keyCounters == null) {
+      keyCounters = this.counters.computeIfAbsent(key, k -> new Counters());
+    }
+    return keyCounters;
+  }
+
+  @Override
+  public void cacheHit(String key) {
+    this.getCounters(key).hits.increment();
+  }
+
+  @Override
+  public void cacheMiss(String key, long preparationNanos) {
+    Counters keyCounters = this.getCounters(key);
+    keyCounters.misses.increment();
+    keyCounters.preparationNanos.add(preparationNanos);
+  }
+
+  @Override
+  public void returnedToCache(String key) {
+    this.getCounters(key).returns.increment();
+  }
+
+  /**
+   * Returns the statistics of a single cache key.
+   *
+   * @param key the cache key
+   * @return the statistics of the key, {@code null} if the key has not been used
+   */
+  @Nullable
+  public KeyStatistics getStatistics(String key) {
+    Counters keyCounters = this.counters.get(key);
+    return keyCounters != null ? keyCounters.snapshot() : null;
+  }
+
+  /**
+   * Returns the statistics of all cache keys that have been used. The
+   * counters of a key are read individually while other threads may
+   * continue to update them so the values of a key may be slightly skewed.
+   *
+   * @return the statistics by cache key, sorted by cache key
+   */
+  public Map<String, KeyStatistics> snapshot() {
+    Map<String, KeyStatistics> snapshot = new TreeMap<>();
+    for (Entry<String, Counters> entry : this.counters.entrySet()) {
+      snapshot.put(entry.getKey(), entry.getValue().snapshot());
+    }
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  /**
+   * Removes the statistics of all cache keys.
+   */
+  public void reset() {
+    this.counters.clear();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return "StatementCacheStatistics" + this.snapshot();
+  }
+
+  static final class Counters {
+
+    final LongAdder hits = new LongAdder();
+    final LongAdder misses = new LongAdder();
+    final LongAdder preparationNanos = new LongAdder();
+    final LongAdder returns = new LongAdder();
+
+    KeyStatistics snapshot() {
+      return new KeyStatistics(this.hits.sum(), this.misses.sum(), this.preparationNanos.sum(), this.returns.sum());
+    }
+
+  }
+
+  /**
+   * An immutable snapshot of the statistics of a single cache key.
+   */
+  public static final class KeyStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long preparationNanos;
+    private final long returnCount;
+
+    KeyStatistics(long hitCount, long missCount, long preparationNanos, long returnCount) {
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+      this.preparationNanos = preparationNanos;
+      this.returnCount = returnCount;
+    }
+
+    /**
+     * Returns the number of times the statement was found in the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+      return this.hitCount;
+    }
+
+    /**
+     * Returns the number of times the statement had to be prepared.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+      return this.missCount;
+    }
+
+    /**
+     * Returns the total time spent preparing and initializing the statement
+     * on cache misses.
+     *
+     * @return the preparation time in nanoseconds
+     */
+    public long getPreparationNanos() {
+      return this.preparationNanos;
+    }
+
+    /**
+     * Returns the number of times the statement was returned to the cache.
+     *
+     * @return the number of returns to the cache
+     */
+    public long getReturnCount() {
+      return this.returnCount;
+    }
+
+    /**
+     * Returns the ratio of cache hits to all lookups.
+     *
+     * @return the hit ratio between 0.0 and 1.0, 0.0 if there were no lookups
+     */
+    public double getHitRatio() {
+      long lookups = this.hitCount + this.missCount;
+      return lookups == 0L ? 0.0d : (double) this.hitCount / lookups;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+      return "KeyStatistics[hits=" + this.hitCount
+              + ", misses=" + this.missCount
+              + ", preparationNanos=" + this.preparationNanos
+              + ", returns=" + this.returnCount + ']';
+    }
+
+  }
+
+}
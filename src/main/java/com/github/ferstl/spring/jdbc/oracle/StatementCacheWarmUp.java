@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.lang.Nullable;
+
+import oracle.jdbc.OracleConnection;
+import oracle.jdbc.OraclePreparedStatement;
+
+/**
+ * A registry of statements that should be in the OJDBC explicit statement
+ * cache of every connection.
+ *
+ * <p>Priming a connection prepares every registered statement that is not
+ * yet cached, fetches its result set metadata, which causes Oracle to parse
+ * and describe a query, and returns it to the explicit statement cache. The
+ * first request on a connection then no longer pays for the parse and
+ * describe.</p>
+ *
+ * <pre><code> StatementCacheWarmUp warmUp = new StatementCacheWarmUp()
+ *     .register("findUser", "SELECT * FROM users WHERE id = :id")
+ *     .register("findOrders", "SELECT * FROM orders WHERE user_id = :id");
+ * DataSource dataSource = new StatementCacheWarmingDataSource(pool, warmUp);
+ * </code></pre>
+ *
+ * <p>The same cache keys have to be used by the application, for example
+ * with {@link CachedPreparedStatementCreator} or the methods of
+ * {@link OracleNamedParameterJdbcTemplate} taking a cache key.</p>
+ *
+ * @see StatementCacheWarmingDataSource
+ */
+public final class StatementCacheWarmUp {
+
+  private final List<CachedPreparedStatementCreator> creators = new CopyOnWriteArrayList<>();
+
+  /**
+   * Registers a statement.
+   *
+   * @param key the cache key of the statement, not {@code null}
+   * @param sql the SQL of the statement, not {@code null}
+   * @return this registry
+   */
+  public StatementCacheWarmUp register(String key, String sql) {
+    return this.register(new CachedPreparedStatementCreator(key, sql));
+  }
+
+  /**
+   * Registers a statement that is configured once when it is prepared.
+   *
+   * @param key the cache key of the statement, not {@code null}
+   * @param sql the SQL of the statement, not {@code null}
+   * @param initializer called once for a freshly prepared statement,
+   *        {@code null} for none
+   * @return this registry
+   */
+  public StatementCacheWarmUp register(String key, String sql, @Nullable StatementInitializer initializer) {
+    return this.register(new CachedPreparedStatementCreator(key, sql, initializer));
+  }
+
+  /**
+   * Registers the statement of a statement creator.
+   *
+   * @param creator the creator of the statement, not {@code null}
+   * @return this registry
+   */
+  public StatementCacheWarmUp register(CachedPreparedStatementCreator creator) {
+    Objects.requireNonNull(creator, "creator");
+    this.creators.add(creator);
+    return this;
+  }
+
+  /**
+   * Primes the explicit statement cache of a connection with all registered
+   * statements that are not yet cached.
+   *
+   * @param connection the connection to prime, not {@code null}
+   * @return the number of statements that were prepared
+   * @throws SQLException if preparing a statement fails
+   */
+  public int prime(Connection connection) throws SQLException {
+    OracleConnection oracleConnection = connection.unwrap(OracleConnection.class);
+    int prepared = 0;
+    for (CachedPreparedStatementCreator creator : this.creators) {
+      PreparedStatement cached = oracleConnection.getStatementWithKey(creator.getKey());
+      if (cached != null) {
+        cached.unwrap(OraclePreparedStatement.class).closeWithKey(creator.getKey());
+        continue;
+      }
+      try (PreparedStatement statement = creator.createPreparedStatement(connection)) {
+        // parses and describes queries, returns null for DML
+        statement.getMetaData();
+      }
+      prepared += 1;
+    }
+    return prepared;
+  }
+
+  /**
+   * Opens connections in parallel and primes them. All connections are held
+   * until every connection has been primed so that a pool hands out
+   * different connections. The number of connections must therefore not
+   * exceed the maximum size of the pool.
+   *
+   * @param dataSource the data source from which to get the connections, not {@code null}
+   * @param connections the number of connections to prime
+   * @param executor the executor on which to open and prime the connections, not {@code null}
+   * @return the number of statements that were prepared over all connections
+   * @throws SQLException if opening or priming a connection fails
+   */
+  public int warmUp(DataSource dataSource, int connections, Executor executor) throws SQLException {
+    Objects.requireNonNull(dataSource, "dataSource");
+    Objects.requireNonNull(executor, "executor");
+    if (connections < 0) {
+      throw new IllegalArgumentException("connections must not be negative but was: " + connections);
+    }
+
+    AtomicInteger prepared = new AtomicInteger();
+    List<CompletableFuture<Connection>> futures = new ArrayList<>(connections);
+    for (int i = 0; i < connections; i++) {
+      futures.add(CompletableFuture.supplyAsync(() -> this.openAndPrime(dataSource, prepared), executor));
+    }
+
+    Throwable failure = null;
+    List<Connection> primed = new ArrayList<>(connections);
+    for (CompletableFuture<Connection> future : futures) {
+      try {
+        primed.add(future.join());
+      } catch (CompletionException e) {
+        failure = addFailure(failure, e.getCause());
+      }
+    }
+    for (Connection connection : primed) {
+      try {
+        connection.close();
+      } catch (SQLException e) {
+        failure = addFailure(failure, e);
+      }
+    }
+    if (failure != null) {
+      throwFailure(failure);
+    }
+    return prepared.get();
+  }
+
+  private Connection openAndPrime(DataSource dataSource, AtomicInteger prepared) {
+    try {
+      Connection connection = dataSource.getConnection();
+      try {
+        prepared.addAndGet(this.prime(connection));
+      } catch (SQLException | RuntimeException e) {
+        connection.close();
+        throw e;
+      }
+      return connection;
+    } catch (SQLException e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  private static Throwable addFailure(@Nullable Throwable failure, Throwable cause) {
+    if (failure == null) {
+      return cause;
+    }
+    failure.addSuppressed(cause);
+    return failure;
+  }
+
+  private static void throwFailure(Throwable failure) throws SQLException {
+    if (failure instanceof SQLException) {
+      throw (SQLException) failure;
+    }
+    if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    }
+    if (failure instanceof Error) {
+      throw (Error) failure;
+    }
+    throw new SQLException("warm up failed", failure);
+  }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.Nullable;
+
+import oracle.jdbc.OracleConnection;
+
+/**
+ * A {@link DataSource} that primes the OJDBC explicit statement cache of
+ * every new physical connection with the statements of a
+ * {@link StatementCacheWarmUp}.
+ *
+ * <p>Physical connections are recognized through
+ * {@link Connection#unwrap(Class)} with {@link OracleConnection} so this works
+ * with any connection pool, including HikariCP, Commons DBCP, Tomcat JDBC and
+ * UCP. A connection is primed the first time it is handed out, connections
+ * that have been primed before only cost a lookup.</p>
+ *
+ * <p>If {@link #setStartupConnections(int)} is set the given number of
+ * connections are opened and primed in parallel when the bean is
+ * initialized, so that the first requests after a restart do not have to
+ * parse and describe statements.</p>
+ *
+ * @see StatementCacheWarmUp
+ */
+public class StatementCacheWarmingDataSource extends DelegatingDataSource {
+
+  private final StatementCacheWarmUp warmUp;
+
+  private final Set<OracleConnection> primedConnections =
+          Collections.newSetFromMap(new WeakHashMap<>());
+
+  private int startupConnections;
+
+  @Nullable
+  private volatile ArrayTypeDescriptorCache arrayTypeDescriptorCache;
+
+  /**
+   * Create a new StatementCacheWarmingDataSource.
+   *
+   * @param targetDataSource the target DataSource
+   * @param warmUp the statements with which to prime connections
+   */
+  public StatementCacheWarmingDataSource(DataSource targetDataSource, StatementCacheWarmUp warmUp) {
+    super(targetDataSource);
+    Objects.requireNonNull(warmUp, "warmUp");
+    this.warmUp = warmUp;
+  }
+
+  /**
+   * Set the number of connections to open and prime in parallel when the
+   * bean is initialized. Must not exceed the maximum size of the pool.
+   * Default is 0, meaning connections are only primed when they are first
+   * used.
+   *
+   * @param startupConnections the number of connections to prime at startup
+   */
+  public void setStartupConnections(int startupConnections) {
+    if (startupConnections < 0) {
+      throw new IllegalArgumentException("startupConnections must not be negative but was: " + startupConnections);
+    }
+    this.startupConnections = startupConnections;
+  }
+
+  /**
+   * Return the number of connections to open and prime at startup.
+   *
+   * @return the number of connections to prime at startup
+   */
+  public int getStartupConnections() {
+    return this.startupConnections;
+  }
+
+  /**
+   * Set the descriptor cache whose collection types are resolved on every
+   * new physical connection in addition to priming the statement cache.
+   *
+   * @param arrayTypeDescriptorCache the descriptor cache, {@code null} for none
+   */
+  public void setArrayTypeDescriptorCache(@Nullable ArrayTypeDescriptorCache arrayTypeDescriptorCache) {
+    this.arrayTypeDescriptorCache = arrayTypeDescriptorCache;
+  }
+
+  /**
+   * Return the descriptor cache whose collection types are resolved on every
+   * new physical connection.
+   *
+   * @return the descriptor cache, {@code null} if none is set
+   */
+  @Nullable
+  public ArrayTypeDescriptorCache getArrayTypeDescriptorCache() {
+    return this.arrayTypeDescriptorCache;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    super.afterPropertiesSet();
+    if (this.startupConnections > 0) {
+      try {
+        this.warmUp();
+      } catch (SQLException e) {
+        throw new IllegalStateException("could not warm up statement cache", e);
+      }
+    }
+  }
+
+  /**
+   * Opens {@link #getStartupConnections()} connections in parallel and
+   * primes them, including the collection types of the
+   * {@link #setArrayTypeDescriptorCache(ArrayTypeDescriptorCache) descriptor cache}.
+   *
+   * @throws SQLException if opening or priming a connection fails
+   */
+  public void warmUp() throws SQLException {
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(this.startupConnections, 1), runnable -> {
+      Thread thread = new Thread(runnable, "statement-cache-warm-up");
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      // connections from this data source are primed when they are handed out
+      this.warmUp.warmUp(this, this.startupConnections, executor);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return this.primeIfNew(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return this.primeIfNew(super.getConnection(username, password));
+  }
+
+  private Connection primeIfNew(Connection connection) throws SQLException {
+    try {
+      OracleConnection physicalConnection = connection.unwrap(OracleConnection.class);
+      boolean added;
+      synchronized (this.primedConnections) {
+        added = this.primedConnections.add(physicalConnection);
+      }
+      if (added) {
+        try {
+          this.warmUp.prime(connection);
+          ArrayTypeDescriptorCache descriptorCache = this.arrayTypeDescriptorCache;
+          if (descriptorCache != null) {
+            descriptorCache.warmUp(connection);
+          }
+        } catch (SQLException | RuntimeException e) {
+          synchronized (this.primedConnections) {
+            this.primedConnections.remove(physicalConnection);
+          }
+          throw e;
+        }
+      }
+    } catch (SQLException | RuntimeException e) {
+      connection.close();
+      throw e;
+    }
+    return connection;
+  }
+
+}
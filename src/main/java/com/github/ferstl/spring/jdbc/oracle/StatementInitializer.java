@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.sql.SQLException;
+import java.util.Objects;
+
+import oracle.jdbc.OraclePreparedStatement;
+
+/**
+ * Configures a statement once after it has been prepared.
+ *
+ * <p>Statements from the OJDBC explicit statement cache keep their state
+ * between uses. An initializer is therefore only called for statements that
+ * are freshly prepared and not for statements that are returned from the
+ * cache. As a consequence a cache key should always be used with the same
+ * initializer.</p>
+ *
+ * <pre><code> StatementInitializer initializer = StatementInitializer.fetchSize(500)
+ *     .andThen(StatementInitializer.defineColumnTypes(Types.NUMERIC, Types.VARCHAR));
+ * jdbcTemplate.query(new CachedPreparedStatementCreator(key, sql, initializer), rowMapper);
+ * </code></pre>
+ *
+ * @see CachedPreparedStatementCreator
+ * @see CachedCallableStatementCreator
+ */
+@FunctionalInterface
+public interface StatementInitializer {
+
+  /**
+   * Configures a freshly prepared statement.
+   *
+   * @param statement the statement to configure
+   * @throws SQLException if a SQLException is encountered while configuring the statement
+   */
+  void initialize(OraclePreparedStatement statement) throws SQLException;
+
+  /**
+   * Returns an initializer that first calls this initializer and then the given one.
+   *
+   * @param after the initializer to call after this one, not {@code null}
+   * @return the combined initializer
+   */
+  default StatementInitializer andThen(StatementInitializer after) {
+    Objects.requireNonNull(after, "after");
+    return statement -> {
+      this.initialize(statement);
+      after.initialize(statement);
+    };
+  }
+
+  /**
+   * Returns an initializer that sets the fetch size.
+   *
+   * @param rows the number of rows to fetch per round trip
+   * @return the initializer
+   * @see java.sql.Statement#setFetchSize(int)
+   */
+  static StatementInitializer fetchSize(int rows) {
+    return statement -> statement.setFetchSize(rows);
+  }
+
+  /**
+   * Returns an initializer that sets the Oracle row prefetch.
+   *
+   * @param rows the number of rows to prefetch
+   * @return the initializer
+   * @see oracle.jdbc.OracleStatement#setRowPrefetch(int)
+   */
+  static StatementInitializer rowPrefetch(int rows) {
+    return statement -> statement.setRowPrefetch(rows);
+  }
+
+  /**
+   * Returns an initializer that sets the LOB prefetch size.
+   *
+   * @param size the number of bytes or characters of a LOB to prefetch
+   * @return the initializer
+   * @see oracle.jdbc.OracleStatement#setLobPrefetchSize(int)
+   */
+  static StatementInitializer lobPrefetchSize(int size) {
+    return statement -> statement.setLobPrefetchSize(size);
+  }
+
+  /**
+   * Returns an initializer that sets the query timeout.
+   *
+   * @param seconds the query timeout in seconds, 0 for no timeout
+   * @return the initializer
+   * @see java.sql.Statement#setQueryTimeout(int)
+   */
+  static StatementInitializer queryTimeout(int seconds) {
+    return statement -> statement.setQueryTimeout(seconds);
+  }
+
+  /**
+   * Returns an initializer that defines the types of all columns of the
+   * result set. This avoids a describe round trip and allows the driver
+   * to size the fetch buffers for the actual types.
+   *
+   * @param sqlTypes the SQL types from {@link java.sql.Types} or
+   *        {@link oracle.jdbc.OracleTypes} of the columns in order, not {@code null}
+   * @return the initializer
+   * @see oracle.jdbc.OracleStatement#defineColumnType(int, int)
+   */
+  static StatementInitializer defineColumnTypes(int... sqlTypes) {
+    Objects.requireNonNull(sqlTypes, "sqlTypes");
+    int[] types = sqlTypes.clone();
+    return statement -> {
+      for (int i = 0; i < types.length; i++) {
+        statement.defineColumnType(i + 1, types[i]);
+      }
+    };
+  }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Maps Java objects to the attributes of an Oracle object type.
+ *
+ * <p>The attribute accessors are resolved once when the mapper is created and
+ * then reused for every object. Attribute values are converted to types
+ * supported by {@link java.sql.Connection#createStruct(String, Object[])}:
+ * {@link UUID} to {@code RAW(16)}, {@link LocalDate} to {@link java.sql.Date}
+ * and {@link LocalDateTime} to {@link Timestamp}.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @param <T> the type of the mapped objects
+ * @see SqlOracleStructArrayValue
+ */
+public final class StructMapper<T> {
+
+  private final String typeName;
+  private final Function<? super T, ?>[] attributes;
+
+  private StructMapper(String typeName, Function<? super T, ?>[] attributes) {
+    this.typeName = typeName;
+    this.attributes = attributes;
+  }
+
+  /**
+   * Creates a mapper from attribute accessors.
+   *
+   * @param <T> the type of the mapped objects
+   * @param typeName the name of the Oracle object type
+   * @param attributes the accessors of the attributes in the order of the
+   *        attributes of the object type
+   * @return the mapper
+   */
+  @SafeVarargs
+  public static <T> StructMapper<T> of(String typeName, Function<? super T, ?>... attributes) {
+    Objects.requireNonNull(typeName, "typeName");
+    if (attributes.length == 0) {
+      throw new IllegalArgumentException("no attributes");
+    }
+    return new StructMapper<>(typeName, attributes.clone());
+  }
+
+  /**
+   * Creates a mapper from the properties of a bean.
+   *
+   * @param <T> the type of the mapped objects
+   * @param typeName the name of the Oracle object type
+   * @param beanType the bean class
+   * @param propertyNames the names of the bean properties in the order of the
+   *        attributes of the object type
+   * @return the mapper
+   * @throws IllegalArgumentException if a property does not exist or is not readable
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> StructMapper<T> ofBean(String typeName, Class<T> beanType, String... propertyNames) {
+    Objects.requireNonNull(typeName, "typeName");
+    if (propertyNames.length == 0) {
+      throw new IllegalArgumentException("no attributes");
+    }
+    Function<? super T, ?>[] attributes = new Function[propertyNames.length];
+    for (int i = 0; i < propertyNames.length; i++) {
+      PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(beanType, propertyNames[i]);
+      if (descriptor == null || descriptor.getReadMethod() == null) {
+        throw new IllegalArgumentException("no readable property " + propertyNames[i] + " on " + beanType.getName());
+      }
+      Method readMethod = descriptor.getReadMethod();
+      ReflectionUtils.makeAccessible(readMethod);
+      attributes[i] = bean -> invoke(readMethod, bean);
+    }
+    return new StructMapper<>(typeName, attributes);
+  }
+
+  private static Object invoke(Method readMethod, Object bean) {
+    try {
+      return readMethod.invoke(bean);
+    } catch (InvocationTargetException e) {
+      ReflectionUtils.rethrowRuntimeException(e.getTargetException());
+      return null;
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("could not read " + readMethod, e);
+    }
+  }
+
+  /**
+   * Returns the name of the Oracle object type.
+   *
+   * @return the name of the object type
+   */
+  public String getTypeName() {
+    return this.typeName;
+  }
+
+  /**
+   * Returns the converted attribute values of an object.
+   *
+   * @param value the object to map, not {@code null}
+   * @return the attribute values in the order of the attributes of the object type
+   */
+  Object[] toAttributes(T value) {
+    Object[] attributeValues = new Object[this.attributes.length];
+    for (int i = 0; i < this.attributes.length; i++) {
+      attributeValues[i] = convert(this.attributes[i].apply(value));
+    }
+    return attributeValues;
+  }
+
+  private static Object convert(Object attribute) {
+    if (attribute instanceof UUID) {
+      return UuidUtils.toByteArray((UUID) attribute);
+    }
+    if (attribute instanceof LocalDate) {
+      return java.sql.Date.valueOf((LocalDate) attribute);
+    }
+    if (attribute instanceof LocalDateTime) {
+      return Timestamp.valueOf((LocalDateTime) attribute);
+    }
+    return attribute;
+  }
+
+}
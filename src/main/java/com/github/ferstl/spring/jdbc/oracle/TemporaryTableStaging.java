@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.lang.Nullable;
+
+/**
+ * Runs queries against a large set of keys by staging the keys in a global
+ * temporary table instead of binding them as a single array.
+ *
+ * <p>An array holds all keys in client and server memory at once. For key sets
+ * in the millions the keys are instead inserted in chunks of
+ * {@link #setBatchSize(int) batch size} keys into a global temporary table, the
+ * query joins against the table and the table is cleared afterwards. Inserting,
+ * querying and clearing happen on the same connection so the rows are only ever
+ * visible to the session that inserted them.</p>
+ *
+ * <p>The query contains {@link #KEYS_PLACEHOLDER} where the subquery returning
+ * the keys goes, for example
+ * {@code SELECT * FROM some_table WHERE id IN ({keys})}. If an
+ * {@link #setArrayTypeRegistry(ArrayTypeRegistry) ArrayTypeRegistry} is
+ * available, key sets up to the {@link #setThreshold(int) threshold} are bound
+ * as an array in {@code TABLE(:staging_keys)} instead and larger key sets are
+ * staged with one {@code INSERT ... SELECT column_value FROM TABLE(:chunk)}
+ * per chunk. Without a registry the keys are staged with a JDBC batch insert
+ * per chunk.</p>
+ *
+ * <p>The temporary table needs a single key column, for example:</p>
+ * <pre><code>
+ * CREATE GLOBAL TEMPORARY TABLE key_staging (key_value NUMBER(19)) ON COMMIT PRESERVE ROWS;
+ * </code></pre>
+ * <p>With {@code ON COMMIT DELETE ROWS} the queries have to run in a
+ * transaction. The table and column names are used in SQL strings as they are
+ * and must not come from user input.</p>
+ *
+ * <p>Instances are thread-safe once configured.</p>
+ */
+public final class TemporaryTableStaging {
+
+  /**
+   * The placeholder in a query that is replaced with the subquery returning the
+   * keys.
+   */
+  public static final String KEYS_PLACEHOLDER = "{keys}";
+
+  /**
+   * The name of the array parameter if the keys are not staged.
+   */
+  static final String KEYS_PARAMETER = "staging_keys";
+
+  private static final String KEY_PARAMETER = "key";
+
+  private static final String CHUNK_PARAMETER = "chunk";
+
+  private static final int DEFAULT_BATCH_SIZE = 1000;
+
+  private static final int DEFAULT_THRESHOLD = 10_000;
+
+  private final OracleNamedParameterJdbcTemplate namedTemplate;
+  private final String insertSql;
+  private final String arrayInsertSql;
+  private final String deleteSql;
+  private final String stagedSubquery;
+
+  private int batchSize = DEFAULT_BATCH_SIZE;
+  private int threshold = DEFAULT_THRESHOLD;
+
+  @Nullable
+  private ArrayTypeRegistry arrayTypeRegistry;
+
+  /**
+   * Creates a staging facility for a {@link JdbcTemplate}.
+   *
+   * @param jdbcOperations the template through which connections are obtained
+   * @param tableName the name of the global temporary table
+   * @param columnName the name of the key column of the table
+   */
+  public TemporaryTableStaging(JdbcOperations jdbcOperations, String tableName, String columnName) {
+    this(new OracleNamedParameterJdbcTemplate(Objects.requireNonNull(jdbcOperations, "jdbcOperations")), tableName, columnName);
+  }
+
+  /**
+   * Creates a staging facility for a {@link NamedParameterJdbcOperations} like
+   * the {@link OracleNamedParameterJdbcTemplate}.
+   *
+   * <p>An {@link OracleNamedParameterJdbcTemplate} is used as it is, including
+   * its {@link OracleNamedParameterJdbcTemplate#getArrayTypeRegistry() array type registry}.
+   * Any other implementation only provides its {@link JdbcOperations}.</p>
+   *
+   * @param namedParameterJdbcOperations the template through which connections are obtained
+   * @param tableName the name of the global temporary table
+   * @param columnName the name of the key column of the table
+   */
+  public TemporaryTableStaging(NamedParameterJdbcOperations namedParameterJdbcOperations, String tableName, String columnName) {
+    Objects.requireNonNull(namedParameterJdbcOperations, "namedParameterJdbcOperations");
+    Objects.requireNonNull(tableName, "tableName");
+    Objects.requireNonNull(columnName, "columnName");
+    if (namedParameterJdbcOperations instanceof OracleNamedParameterJdbcTemplate) {
+      this.namedTemplate = (OracleNamedParameterJdbcTemplate) namedParameterJdbcOperations;
+    } else {
+      this.namedTemplate = new OracleNamedParameterJdbcTemplate(namedParameterJdbcOperations.getJdbcOperations());
+    }
+    this.insertSql = "INSERT INTO " + tableName + " (" + columnName + ") VALUES (:" + KEY_PARAMETER + ")";
+    this.arrayInsertSql = "INSERT INTO " + tableName + " (" + columnName + ") SELECT column_value FROM TABLE(:" + CHUNK_PARAMETER + ")";
+    this.deleteSql = "DELETE FROM " + tableName;
+    this.stagedSubquery = "SELECT " + columnName + " FROM " + tableName;
+  }
+
+  /**
+   * Sets the number of keys inserted per round trip, either as one array or
+   * as one JDBC batch.
+   * <p>Default is 1000.
+   *
+   * @param batchSize the number of keys per round trip, has to be positive
+   */
+  public void setBatchSize(int batchSize) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("batchSize must be positive but was: " + batchSize);
+    }
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Sets the number of keys up to which the keys are bound as an array
+   * instead of being staged. Only applies if an {@link ArrayTypeRegistry}
+   * is available.
+   * <p>Default is 10000.
+   *
+   * @param threshold the largest number of keys bound as an array
+   */
+  public void setThreshold(int threshold) {
+    this.threshold = threshold;
+  }
+
+  /**
+   * Sets the registry of the array types used to bind the keys as an array.
+   * Without a registry the one of the template is used.
+   *
+   * @param arrayTypeRegistry the registry, {@code null} to use the one of the template
+   */
+  public void setArrayTypeRegistry(@Nullable ArrayTypeRegistry arrayTypeRegistry) {
+    this.arrayTypeRegistry = arrayTypeRegistry;
+  }
+
+  /**
+   * Returns whether a number of keys is staged.
+   *
+   * @param keyCount the number of keys
+   * @return {@code true} if the keys are staged in the temporary table,
+   *         {@code false} if they are bound as an array
+   */
+  public boolean isStaged(int keyCount) {
+    return this.getArrayTypeRegistry() == null || keyCount > this.threshold;
+  }
+
+  /**
+   * Queries a set of keys, mapping each row to a Java object.
+   *
+   * @param <T> the result type
+   * @param sql the SQL query containing {@link #KEYS_PLACEHOLDER} and named parameters
+   * @param keys the keys
+   * @param parameterSource the values of the other named parameters
+   * @param rowMapper object that will map one object per row
+   * @return the result List, containing mapped objects
+   */
+  public <T> List<T> query(String sql, Collection<?> keys, SqlParameterSource parameterSource, RowMapper<T> rowMapper) {
+    return this.execute(sql, keys, parameterSource, new RowMapperResultSetExtractor<>(rowMapper));
+  }
+
+  /**
+   * Queries a set of keys, mapping each row to a Java object.
+   *
+   * @param <T> the result type
+   * @param sql the SQL query containing {@link #KEYS_PLACEHOLDER}
+   * @param keys the keys
+   * @param rowMapper object that will map one object per row
+   * @return the result List, containing mapped objects
+   */
+  public <T> List<T> query(String sql, Collection<?> keys, RowMapper<T> rowMapper) {
+    return this.query(sql, keys, EmptySqlParameterSource.INSTANCE, rowMapper);
+  }
+
+  /**
+   * Queries a set of keys, reading the result on a per-row basis.
+   *
+   * @param sql the SQL query containing {@link #KEYS_PLACEHOLDER} and named parameters
+   * @param keys the keys
+   * @param parameterSource the values of the other named parameters
+   * @param rowCallbackHandler object that will extract results, one row at a time
+   */
+  public void query(String sql, Collection<?> keys, SqlParameterSource parameterSource, RowCallbackHandler rowCallbackHandler) {
+    this.execute(sql, keys, parameterSource, (ResultSet resultSet) -> {
+      while (resultSet.next()) {
+        rowCallbackHandler.processRow(resultSet);
+      }
+      return null;
+    });
+  }
+
+  @Nullable
+  private ArrayTypeRegistry getArrayTypeRegistry() {
+    ArrayTypeRegistry registry = this.arrayTypeRegistry;
+    return registry != null ? registry : this.namedTemplate.getArrayTypeRegistry();
+  }
+
+  @Nullable
+  private <T> T execute(String sql, Collection<?> keys, SqlParameterSource parameterSource, ResultSetExtractor<T> resultSetExtractor) {
+    if (!sql.contains(KEYS_PLACEHOLDER)) {
+      throw new IllegalArgumentException("SQL does not contain " + KEYS_PLACEHOLDER + ": " + sql);
+    }
+    ArrayTypeRegistry registry = this.getArrayTypeRegistry();
+    if (!this.isStaged(keys.size())) {
+      String arraySql = sql.replace(KEYS_PLACEHOLDER, "SELECT column_value FROM TABLE(:" + KEYS_PARAMETER + ")");
+      SqlParameterSource keysParameterSource = new KeysParameterSource(parameterSource, KEYS_PARAMETER, registry.toArrayValue(keys, null));
+      return this.namedTemplate.query(arraySql, keysParameterSource, resultSetExtractor);
+    }
+    String stagedSql = sql.replace(KEYS_PLACEHOLDER, this.stagedSubquery);
+    // all statements have to run in the same session
+    return this.namedTemplate.getJdbcOperations().execute((ConnectionCallback<T>) connection -> {
+      Throwable failure = null;
+      try {
+        if (registry != null) {
+          this.stageArrays(connection, keys, registry);
+        } else {
+          this.stageBatches(connection, keys);
+        }
+        return this.query(connection, stagedSql, parameterSource, resultSetExtractor);
+      } catch (SQLException | RuntimeException | Error e) {
+        failure = e;
+        throw e;
+      } finally {
+        this.clear(connection, failure);
+      }
+    });
+  }
+
+  private void stageArrays(Connection connection, Collection<?> keys, ArrayTypeRegistry registry) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(this.arrayInsertSql)) {
+      List<Object> chunk = new ArrayList<>(Math.min(this.batchSize, keys.size()));
+      Iterator<?> iterator = keys.iterator();
+      while (iterator.hasNext()) {
+        chunk.add(iterator.next());
+        if (chunk.size() == this.batchSize || !iterator.hasNext()) {
+          SqlOracleArrayValue value = registry.toArrayValue(chunk, null);
+          try {
+            value.setValue(statement, CHUNK_PARAMETER);
+            statement.executeUpdate();
+          } finally {
+            value.cleanup();
+          }
+          chunk.clear();
+        }
+      }
+    }
+  }
+
+  private void stageBatches(Connection connection, Collection<?> keys) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(this.insertSql)) {
+      new OracleNamedParameterJdbcTemplate.ChunkedBatchUpdateCallback(this.namedTemplate.getBindingPlan(this.insertSql),
+              new KeyIterator(keys.iterator()), this.batchSize).doInPreparedStatement(statement);
+    }
+  }
+
+  @Nullable
+  private <T> T query(Connection connection, String sql, SqlParameterSource parameterSource, ResultSetExtractor<T> resultSetExtractor) throws SQLException {
+    PreparedStatementCreator creator = this.namedTemplate.getPreparedStatementCreator(sql, parameterSource);
+    try (PreparedStatement statement = creator.createPreparedStatement(connection)) {
+      this.applyStatementSettings(statement);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSetExtractor.extractData(resultSet);
+      }
+    } finally {
+      if (creator instanceof ParameterDisposer) {
+        ((ParameterDisposer) creator).cleanupParameters();
+      }
+    }
+  }
+
+  private void applyStatementSettings(PreparedStatement statement) throws SQLException {
+    JdbcOperations jdbcOperations = this.namedTemplate.getJdbcOperations();
+    if (!(jdbcOperations instanceof JdbcTemplate)) {
+      return;
+    }
+    JdbcTemplate jdbcTemplate = (JdbcTemplate) jdbcOperations;
+    if (jdbcTemplate.getFetchSize() != -1) {
+      statement.setFetchSize(jdbcTemplate.getFetchSize());
+    }
+    if (jdbcTemplate.getMaxRows() != -1) {
+      statement.setMaxRows(jdbcTemplate.getMaxRows());
+    }
+    DataSourceUtils.applyTimeout(statement, jdbcTemplate.getDataSource(), jdbcTemplate.getQueryTimeout());
+  }
+
+  private void clear(Connection connection, @Nullable Throwable failure) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(this.deleteSql)) {
+      statement.executeUpdate();
+    } catch (SQLException | RuntimeException e) {
+      if (failure == null) {
+        throw e;
+      }
+      // don't hide the original failure
+      failure.addSuppressed(e);
+    }
+  }
+
+  /**
+   * Presents every key as a parameter source for the insert statement without
+   * materializing them.
+   */
+  static final class KeyIterator implements Iterator<SqlParameterSource> {
+
+    private final Iterator<?> keys;
+
+    KeyIterator(Iterator<?> keys) {
+      this.keys = keys;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.keys.hasNext();
+    }
+
+    @Override
+    public SqlParameterSource next() {
+      return new KeysParameterSource(EmptySqlParameterSource.INSTANCE, KEY_PARAMETER, this.keys.next());
+    }
+
+  }
+
+}
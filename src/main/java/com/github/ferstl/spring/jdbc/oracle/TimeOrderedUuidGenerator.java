@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates time ordered version 7 UUIDs as defined in RFC 9562.
+ *
+ * <p>The first 48 bits are the Unix time in milliseconds so keys generated
+ * later sort after keys generated earlier. Inserts into an index on a
+ * {@code RAW(16)} column therefore go to the right most leaf blocks instead
+ * of being scattered across the whole index as with random version 4 UUIDs.</p>
+ *
+ * <p>The remaining bits are taken from {@link ThreadLocalRandom} so threads
+ * do not contend on a shared {@link java.security.SecureRandom} like
+ * {@link UUID#randomUUID()} does. The UUIDs are unique but not unguessable,
+ * they must not be used as secrets. The 12 bits following the timestamp are
+ * a counter per thread that starts at a random value every millisecond,
+ * UUIDs generated by the same thread are therefore strictly increasing.</p>
+ *
+ * <pre><code> UuidOracleData id = UuidOracleData.timeOrdered();
+ * jdbcTemplate.update("INSERT INTO table_name(uuid_row) VALUES(?)", id);
+ * </code></pre>
+ *
+ * <p>Instances are thread safe.</p>
+ */
+public final class TimeOrderedUuidGenerator {
+
+  private static final TimeOrderedUuidGenerator INSTANCE = new TimeOrderedUuidGenerator();
+
+  private static final long VERSION_7 = 0x7000L;
+  private static final long VARIANT = 0x8000000000000000L;
+  private static final int MAX_COUNTER = 0xFFF;
+
+  private final LongSupplier clock;
+  private final ThreadLocal<State> state;
+
+  /**
+   * Creates a generator that uses the system clock.
+   */
+  public TimeOrderedUuidGenerator() {
+    this(System::currentTimeMillis);
+  }
+
+  TimeOrderedUuidGenerator(LongSupplier clock) {
+    Objects.requireNonNull(clock, "clock");
+    this.clock = clock;
+    this.state = ThreadLocal.withInitial(State::new);
+  }
+
+  /**
+   * Returns a shared generator that uses the system clock.
+   *
+   * @return the shared generator
+   */
+  public static TimeOrderedUuidGenerator getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Generates a UUID.
+   *
+   * @return a new version 7 UUID
+   */
+  public UUID generate() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return new UUID(this.mostSignificantBits(random), leastSignificantBits(random));
+  }
+
+  /**
+   * Generates a UUID in the {@code RAW(16)} form.
+   *
+   * @return the 16 bytes of a new version 7 UUID in network order
+   */
+  public byte[] generateRaw() {
+    byte[] raw = new byte[16];
+    this.generateInto(raw, 0);
+    return raw;
+  }
+
+  /**
+   * Writes a new UUID in the {@code RAW(16)} form into an array.
+   *
+   * @param target the array into which to write
+   * @param offset the index of {@code target} at which to start writing
+   * @throws IllegalArgumentException if there are not at least 16 bytes
+   *                                  in {@code target} after {@code offset}
+   */
+  public void generateInto(byte[] target, int offset) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    UuidUtils.storeAt(this.mostSignificantBits(random), target, offset);
+    UuidUtils.storeAt(leastSignificantBits(random), target, offset + 8);
+  }
+
+  private long mostSignificantBits(ThreadLocalRandom random) {
+    State threadState = this.state.get();
+    long millis = this.clock.getAsLong();
+    if (millis > threadState.millis) {
+      threadState.millis = millis;
+      // leave room for incrementing within the same millisecond
+      threadState.counter = random.nextInt(MAX_COUNTER / 2 + 1);
+    } else if (threadState.counter < MAX_COUNTER) {
+      // same millisecond or the clock went backwards
+      threadState.counter += 1;
+    } else {
+      // counter overflow, borrow from the next millisecond
+      threadState.millis += 1L;
+      threadState.counter = random.nextInt(MAX_COUNTER / 2 + 1);
+    }
+    return (threadState.millis << 16) | VERSION_7 | threadState.counter;
+  }
+
+  private static long leastSignificantBits(ThreadLocalRandom random) {
+    return VARIANT | (random.nextLong() >>> 2);
+  }
+
+  /**
+   * The timestamp and counter of the last UUID generated by a thread.
+   */
+  static final class State {
+
+    long millis = Long.MIN_VALUE;
+    int counter;
+
+  }
+
+}
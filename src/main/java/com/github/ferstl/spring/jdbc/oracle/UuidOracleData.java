@@ -23,6 +23,12 @@ public final class UuidOracleData implements OracleData {
 
   private final UUID uuid;
 
+  /**
+   * The {@code RAW(16)} form of {@link #uuid} if it was generated in that form,
+   * {@code null} otherwise.
+   */
+  private final byte[] raw;
+
   /**
    * Constructs a {@link UuidOracleData}.
    *
@@ -30,10 +36,41 @@ public final class UuidOracleData implements OracleData {
    */
   public UuidOracleData(UUID uuid) {
     this.uuid = uuid;
+    this.raw = null;
+  }
+
+  private UuidOracleData(byte[] raw) {
+    this.uuid = UuidUtils.fromByteArray(raw);
+    this.raw = raw;
+  }
+
+  /**
+   * Constructs a {@link UuidOracleData} with a new time ordered UUID from the
+   * shared {@link TimeOrderedUuidGenerator}.
+   *
+   * @return the {@link UuidOracleData}, never {@code null}
+   * @see TimeOrderedUuidGenerator#getInstance()
+   */
+  public static UuidOracleData timeOrdered() {
+    return timeOrdered(TimeOrderedUuidGenerator.getInstance());
+  }
+
+  /**
+   * Constructs a {@link UuidOracleData} with a new time ordered UUID.
+   *
+   * @param generator the generator of the UUID, not {@code null}
+   * @return the {@link UuidOracleData}, never {@code null}
+   */
+  public static UuidOracleData timeOrdered(TimeOrderedUuidGenerator generator) {
+    return new UuidOracleData(generator.generateRaw());
   }
 
   @Override
   public Object toJDBCObject(Connection connection) throws SQLException {
+    if (this.raw != null) {
+      // only read by the driver
+      return this.raw;
+    }
     return UuidUtils.toByteArray(this.uuid);
   }
 
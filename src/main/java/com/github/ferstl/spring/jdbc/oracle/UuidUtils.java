@@ -1,5 +1,6 @@
 package com.github.ferstl.spring.jdbc.oracle;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -50,6 +51,29 @@ final class UuidUtils {
     }
   }
 
+  /**
+   * Converts the 128 bit values of several {@link UUID}s to {@code byte[16]}s.
+   *
+   * @param uuids the UUIDs to convert, may contain {@code null}
+   * @return the byte[16] representations of the values of {@code uuids} in
+   *         iteration order, {@code null} for {@code null} elements
+   */
+  static byte[][] toByteArrays(Collection<UUID> uuids) {
+    // size() and iteration can disagree for concurrently modified collections
+    Object[] values = uuids.toArray();
+    byte[][] raws = new byte[values.length][];
+    for (int i = 0; i < values.length; i++) {
+      UUID uuid = (UUID) values[i];
+      if (uuid != null) {
+        byte[] raw = new byte[16];
+        storeAt(uuid.getMostSignificantBits(), raw, 0);
+        storeAt(uuid.getLeastSignificantBits(), raw, 8);
+        raws[i] = raw;
+      }
+    }
+    return raws;
+  }
+
   /**
    * Reads a 64 bit value from a {@code byte[]} using network order.
    *
@@ -90,7 +114,7 @@ final class UuidUtils {
    *                                  {@code b} starting at {@code start}
    * @throws NullPointerException if {@code b} is {@code null}
    */
-  private static void storeAt(long l, byte[] b, int start) {
+  static void storeAt(long l, byte[] b, int start) {
     if (start < 0) {
       throw new IllegalArgumentException("start is negative");
     }
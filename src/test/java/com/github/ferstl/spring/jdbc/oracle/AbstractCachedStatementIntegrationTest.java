@@ -17,18 +17,36 @@ package com.github.ferstl.spring.jdbc.oracle;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.sql.CallableStatement;
+import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.sql.DataSource;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.CallableStatementCallback;
+import org.springframework.jdbc.core.CallableStatementCreator;
 import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 /**
- * Integration test that uses {@link CachedPreparedStatementCreator}.
+ * Integration test that uses {@link CachedPreparedStatementCreator} and {@link CachedCallableStatementCreator}.
  */
 public abstract class AbstractCachedStatementIntegrationTest extends AbstractOracleJdbcTemplateIntegrationTest {
 
+  @Autowired
+  private OracleNamedParameterJdbcTemplate onpJdbcTemplate;
+
+  @Autowired
+  private DataSource dataSource;
+
   @Test
   public void executeTwice(){
     String key = "key";
@@ -44,4 +62,53 @@ public abstract class AbstractCachedStatementIntegrationTest extends AbstractOra
     assertEquals(Collections.singletonList(1), result);
   }
 
+  @Test
+  public void executeNamedTwice() {
+    String key = "namedKey";
+    String sql = "SELECT :value FROM dual";
+
+    SqlParameterSource parameterSource = new MapSqlParameterSource("value", 1);
+    RowMapper<Integer> rowMapper = (rs, i) -> rs.getInt(1);
+
+    List<Integer> result = this.onpJdbcTemplate.query(key, sql, parameterSource, rowMapper);
+    assertEquals(Collections.singletonList(1), result);
+
+    result = this.onpJdbcTemplate.query(key, sql, parameterSource, rowMapper);
+    assertEquals(Collections.singletonList(1), result);
+  }
+
+  @Test
+  public void callTwice() {
+    String key = "callKey";
+    String sql = "BEGIN ? := ? + 1; END;";
+
+    CallableStatementCreator statementCreator = new CachedCallableStatementCreator(key, sql);
+    CallableStatementCallback<Integer> callback = (CallableStatement cs) -> {
+      cs.registerOutParameter(1, Types.INTEGER);
+      cs.setInt(2, 41);
+      cs.execute();
+      return cs.getInt(1);
+    };
+
+    assertEquals(Integer.valueOf(42), this.jdbcTemplate.execute(statementCreator, callback));
+    assertEquals(Integer.valueOf(42), this.jdbcTemplate.execute(statementCreator, callback));
+  }
+
+  @Test
+  public void warmUp() throws SQLException {
+    String key = "warmUpKey";
+    String sql = "SELECT 1 FROM dual";
+
+    StatementCacheWarmUp warmUp = new StatementCacheWarmUp().register(key, sql);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      warmUp.warmUp(this.dataSource, 1, executor);
+    } finally {
+      executor.shutdown();
+    }
+
+    List<Integer> result = this.jdbcTemplate.query(new CachedPreparedStatementCreator(key, sql), (rs, i) -> rs.getInt(1));
+    assertEquals(Collections.singletonList(1), result);
+  }
+
 }
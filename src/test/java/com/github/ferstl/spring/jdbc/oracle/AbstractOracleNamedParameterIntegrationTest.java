@@ -20,12 +20,14 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -71,6 +73,18 @@ public abstract class AbstractOracleNamedParameterIntegrationTest extends Abstra
     assertThat(result, matchesRowCounts(this.nrOfDeletes));
   }
 
+  @Test
+  public void deleteWithColumns() {
+    int[] values = new int[this.nrOfDeletes];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i + 1;
+    }
+
+    int[] result = this.onpJdbcTemplate.batchUpdate(DELETE_SQL, new ColumnarBatchParameterSource(values.length).addInts("value", values));
+
+    assertThat(result, matchesRowCounts(this.nrOfDeletes));
+  }
+
   @Test
   public void inlistsAny() {
     Map<String, Object> parameters = Collections.singletonMap("ids", new SqlOracleArrayValue("TEST_ARRAY_TYPE", 1, 2, 3));
@@ -95,6 +109,120 @@ public abstract class AbstractOracleNamedParameterIntegrationTest extends Abstra
     assertEquals(Arrays.asList("Value_00002", "Value_00003", "Value_00004"), values);
   }
 
+  @Test
+  public void inlistsShared() {
+    SharedSqlOracleArrayValue ids = new SharedSqlOracleArrayValue("TEST_ARRAY_TYPE", new int[] {1, 2, 3}).transactionScoped();
+    String sql = "SELECT val "
+            + "FROM test_table "
+            + "WHERE id IN(SELECT column_value FROM table(:ids))";
+
+    for (int i = 0; i < 2; i++) {
+      List<String> values = this.onpJdbcTemplate.query(sql, new MapSqlParameterSource("ids", ids), (rs, rowNum) -> rs.getString(1));
+      assertEquals(Arrays.asList("Value_00002", "Value_00003", "Value_00004"), values);
+    }
+  }
+
+  @Test
+  public void inlistsCollection() {
+    this.onpJdbcTemplate.setArrayTypeRegistry(new ArrayTypeRegistry().registerNumberType("TEST_ARRAY_TYPE"));
+    String sql = "SELECT val "
+            + "FROM test_table "
+            + "WHERE id IN(SELECT column_value FROM table(:ids))";
+
+    try {
+      List<String> values = this.onpJdbcTemplate.query(sql, new MapSqlParameterSource("ids", Arrays.asList(1, 2, 3)), (rs, rowNum) -> rs.getString(1));
+      assertEquals(Arrays.asList("Value_00002", "Value_00003", "Value_00004"), values);
+    } finally {
+      this.onpJdbcTemplate.setArrayTypeRegistry(null);
+    }
+  }
+
+  @Test
+  public void inlistsPadded() {
+    this.onpJdbcTemplate.setInListPadding(true);
+    String sql = "SELECT val "
+            + "FROM test_table "
+            + "WHERE id IN(:ids) "
+            + "ORDER BY id";
+
+    try {
+      List<String> values = this.onpJdbcTemplate.query(sql, new MapSqlParameterSource("ids", Arrays.asList(1, 2, 3)), (rs, rowNum) -> rs.getString(1));
+      assertEquals(Arrays.asList("Value_00002", "Value_00003", "Value_00004"), values);
+    } finally {
+      this.onpJdbcTemplate.setInListPadding(false);
+    }
+  }
+
+  @Test
+  public void inlistsCardinality() {
+    ArrayCardinalitySql sql = ArrayCardinalitySql.hinted("ids", "SELECT val "
+            + "FROM test_table "
+            + "WHERE id IN(SELECT /*+ CARDINALITY(t " + ArrayCardinalitySql.CARDINALITY_PLACEHOLDER + ") */ column_value FROM table(:ids) t)");
+    MapSqlParameterSource parameterSource = new MapSqlParameterSource("ids", new SqlOracleArrayValue("TEST_ARRAY_TYPE", new int[] {1, 2, 3}));
+
+    List<String> values = this.onpJdbcTemplate.query(sql.getSql(parameterSource), parameterSource, (rs, rowNum) -> rs.getString(1));
+    assertEquals(Arrays.asList("Value_00002", "Value_00003", "Value_00004"), values);
+  }
+
+  @Test
+  public void inlistsStaged() {
+    TemporaryTableStaging staging = new TemporaryTableStaging(this.onpJdbcTemplate, "test_key_staging", "key_value");
+    staging.setBatchSize(2);
+    String sql = "SELECT val "
+            + "FROM test_table "
+            + "WHERE id IN(" + TemporaryTableStaging.KEYS_PLACEHOLDER + ") "
+            + "ORDER BY id";
+
+    List<String> values = staging.query(sql, Arrays.asList(1, 2, 3), (rs, rowNum) -> rs.getString(1));
+    assertEquals(Arrays.asList("Value_00002", "Value_00003", "Value_00004"), values);
+  }
+
+  @Test
+  public void inlistsStagedArrays() {
+    TemporaryTableStaging staging = new TemporaryTableStaging(this.onpJdbcTemplate, "test_key_staging", "key_value");
+    staging.setArrayTypeRegistry(new ArrayTypeRegistry().registerNumberType("TEST_ARRAY_TYPE"));
+    staging.setThreshold(0);
+    staging.setBatchSize(2);
+    String sql = "SELECT val "
+            + "FROM test_table "
+            + "WHERE id IN(" + TemporaryTableStaging.KEYS_PLACEHOLDER + ") "
+            + "ORDER BY id";
+
+    List<String> values = staging.query(sql, Arrays.asList(1, 2, 3), (rs, rowNum) -> rs.getString(1));
+    assertEquals(Arrays.asList("Value_00002", "Value_00003", "Value_00004"), values);
+  }
+
+  @Test
+  public void inlistsChunked() {
+    ChunkedKeyFetcher fetcher = new ChunkedKeyFetcher(this.onpJdbcTemplate, "TEST_ARRAY_TYPE", 2);
+    String sql = "SELECT val "
+            + "FROM test_table "
+            + "WHERE id IN(SELECT column_value FROM table(:keys)) "
+            + "ORDER BY id";
+
+    try (Stream<String> values = fetcher.stream(sql, Arrays.asList(1, 2, 3), (rs, rowNum) -> rs.getString(1))) {
+      assertEquals(Arrays.asList("Value_00002", "Value_00003", "Value_00004"), values.collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  public void structArray() {
+    StructMapper<Map<String, Object>> mapper = StructMapper.of("TEST_ROW_TYPE", row -> row.get("id"), row -> row.get("val"));
+    Map<String, Object> row1 = new HashMap<>(2);
+    row1.put("id", 2);
+    row1.put("val", "two");
+    Map<String, Object> row2 = new HashMap<>(2);
+    row2.put("id", 1);
+    row2.put("val", "one");
+    SqlOracleStructArrayValue<Map<String, Object>> rows = new SqlOracleStructArrayValue<>("TEST_ROW_TABLE_TYPE", mapper, Arrays.asList(row1, row2));
+    String sql = "SELECT r.val "
+            + "FROM table(:rows) r "
+            + "ORDER BY r.id";
+
+    List<String> values = this.onpJdbcTemplate.query(sql, new MapSqlParameterSource("rows", rows), (rs, rowNum) -> rs.getString(1));
+    assertEquals(Arrays.asList("one", "two"), values);
+  }
+
   @Test
   public void batchUpdate() {
 
@@ -114,6 +242,66 @@ public abstract class AbstractOracleNamedParameterIntegrationTest extends Abstra
     assertArrayEquals(new int[] {10, 20}, updateCount);
   }
 
+  @Test
+  public void updateReturning() {
+    ReturnParameters returnParameters = new ReturnParameters()
+            .add("new_id", Types.NUMERIC)
+            .add("new_val", Types.VARCHAR, 50);
+
+    List<String> returned = this.onpJdbcTemplate.updateReturning("INSERT INTO test_table(id, val, numval) "
+            + "VALUES(seq_test_table.nextval, :val, 0) "
+            + "RETURNING id, val INTO :new_id, :new_val",
+            new MapSqlParameterSource("val", "inserted"), returnParameters, (rs, rowNum) -> rs.getLong(1) + ":" + rs.getString(2));
+
+    assertEquals(Collections.singletonList("10001:inserted"), returned);
+  }
+
+  @Test
+  public void batchUpdateReturning() {
+    Map<String, Object> map1 = new HashMap<>(2);
+    map1.put("low", 1);
+    map1.put("high", 2);
+
+    Map<String, Object> map2 = new HashMap<>(2);
+    map2.put("low", 5);
+    map2.put("high", 5);
+
+    List<List<Integer>> returned = this.onpJdbcTemplate.batchUpdateReturning("UPDATE test_table "
+            + "SET numval = - numval "
+            + "WHERE id BETWEEN :low AND :high "
+            + "RETURNING numval INTO :new_numval",
+            new SqlParameterSource[] {new MapSqlParameterSource(map1), new MapSqlParameterSource(map2)},
+            new ReturnParameters().add("new_numval", Types.NUMERIC), (rs, rowNum) -> rs.getInt(1));
+
+    assertEquals(2, returned.size());
+    assertEquals(Arrays.asList(-2, -1), returned.get(0).stream().sorted().collect(Collectors.toList()));
+    assertEquals(Collections.singletonList(-5), returned.get(1));
+  }
+
+  @Test
+  public void sequenceIdAllocator() {
+    SequenceIdAllocator allocator = new SequenceIdAllocator(this.jdbcTemplate, "seq_test_table", 1);
+    allocator.setMinBlockSize(20);
+
+    long[] ids = allocator.nextIds(50);
+    long first = allocator.nextId();
+
+    assertEquals(50L, Arrays.stream(ids).distinct().filter(id -> id > 10000L).count());
+    assertEquals(first + 1L, allocator.nextId());
+    assertEquals(2L, allocator.getStatistics().getRoundTripCount());
+  }
+
+  @Test
+  public void batchUpdateStream() {
+    Stream<SqlParameterSource> batchArgs = Arrays.stream(createParamSources(this.nrOfDeletes));
+
+    BatchUpdateSummary summary = this.onpJdbcTemplate.batchUpdate(DELETE_SQL, batchArgs, this.batchSize);
+
+    assertEquals(3L, summary.getBatchCount());
+    assertEquals(this.nrOfDeletes, summary.getRowCount());
+    assertEquals(this.nrOfDeletes, summary.getUpdateCount());
+  }
+
   @Test
   public void queryForStream() {
     Map<String, Object> map = Collections.singletonMap("end", 10);
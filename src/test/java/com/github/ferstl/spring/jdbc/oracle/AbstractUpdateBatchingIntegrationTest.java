@@ -184,6 +184,25 @@ public abstract class AbstractUpdateBatchingIntegrationTest extends AbstractOrac
     this.verifyUpdates(0);
   }
 
+  @Test
+  public void updateWithForall() {
+    int nrOfUpdates = this.batchSize + 2;
+    int[] newValues = new int[nrOfUpdates];
+    int[] oldValues = new int[nrOfUpdates];
+    for (int i = 0; i < nrOfUpdates; i++) {
+      newValues[i] = Integer.MAX_VALUE;
+      oldValues[i] = i + 11;
+    }
+
+    int[] result = new ForallBulkDml(this.jdbcTemplate).execute("UPDATE test_table t SET t.numval = :newval WHERE t.numval = :oldval",
+            new ForallColumns()
+                .addNumbers("newval", newValues)
+                .addNumbers("oldval", oldValues));
+
+    assertThat(result, matchesRowCounts(nrOfUpdates));
+    this.verifyUpdates(nrOfUpdates);
+  }
+
   private void verifyUpdates(int nrOfUpdates) {
     assertEquals((Integer) nrOfUpdates, this.jdbcTemplate.queryForObject(SINGLE_ROW_VERIFY_SQL, Integer.class, Integer.MAX_VALUE));
   }
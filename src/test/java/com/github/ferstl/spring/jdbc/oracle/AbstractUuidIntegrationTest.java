@@ -3,6 +3,9 @@ package com.github.ferstl.spring.jdbc.oracle;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
 
@@ -37,4 +40,25 @@ public abstract class AbstractUuidIntegrationTest extends AbstractOracleJdbcTemp
     assertEquals(uuid, readBack);
   }
 
+  @Test
+  public void timeOrderedBindParameter() {
+    UuidOracleData oracleData = UuidOracleData.timeOrdered();
+    UUID readBack = this.jdbcTemplate.queryForObject("SELECT CAST(? AS RAW(16)) FROM dual", (rs, i) -> {
+      UuidOracleData readData = (UuidOracleData) rs.unwrap(OracleResultSet.class).getObject(1, UUID_ORACLE_DATA_FACTORY);
+      return readData.getUuid();
+    }, oracleData);
+    assertEquals(oracleData.getUuid(), readBack);
+    assertEquals(7, readBack.version());
+  }
+
+  @Test
+  public void uuidArray() {
+    List<UUID> uuids = Arrays.asList(UUID.randomUUID(), UuidOracleData.timeOrdered().getUuid());
+    List<UUID> readBack = this.jdbcTemplate.query("SELECT column_value FROM table(?)", (rs, i) -> {
+      UuidOracleData oracleData = (UuidOracleData) rs.unwrap(OracleResultSet.class).getObject(1, UUID_ORACLE_DATA_FACTORY);
+      return oracleData.getUuid();
+    }, SqlOracleArrayValue.ofUuids("TEST_RAW16_TABLE_TYPE", uuids));
+    assertEquals(new HashSet<>(uuids), new HashSet<>(readBack));
+  }
+
 }
@@ -0,0 +1,55 @@
+package com.github.ferstl.spring.jdbc.oracle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+public class ArrayCardinalitySqlTest {
+
+  private static final String SQL = "SELECT /*+ CARDINALITY(t {cardinality}) */ column_value FROM TABLE(:ids) t";
+
+  @Test
+  public void hinted() {
+    ArrayCardinalitySql sql = ArrayCardinalitySql.hinted("ids", SQL);
+
+    assertEquals("SELECT /*+ CARDINALITY(t 1) */ column_value FROM TABLE(:ids) t", sql.getSql(0));
+    assertEquals("SELECT /*+ CARDINALITY(t 8) */ column_value FROM TABLE(:ids) t", sql.getSql(5));
+    assertSame(sql.getSql(5), sql.getSql(8));
+    assertEquals("SELECT /*+ CARDINALITY(t 16) */ column_value FROM TABLE(:ids) t", sql.getSql(9));
+  }
+
+  @Test
+  public void lengthOfParameter() {
+    ArrayCardinalitySql sql = ArrayCardinalitySql.hinted("ids", SQL);
+
+    assertEquals(sql.getSql(4), sql.getSql(new MapSqlParameterSource("ids", new SqlOracleArrayValue("TYPE", new long[] {1L, 2L, 3L}))));
+    assertEquals(sql.getSql(2), sql.getSql(new MapSqlParameterSource("ids", new SharedSqlOracleArrayValue("TYPE", 1, 2))));
+    assertEquals(sql.getSql(2), sql.getSql(new MapSqlParameterSource("ids", Arrays.asList(1, 2))));
+    assertThrows(IllegalArgumentException.class, () -> sql.getSql(new MapSqlParameterSource("ids", 1)));
+  }
+
+  @Test
+  public void variants() {
+    Map<Integer, String> variants = new TreeMap<>();
+    variants.put(10, "small");
+    variants.put(1000, "large");
+    ArrayCardinalitySql sql = ArrayCardinalitySql.variants("ids", variants);
+
+    assertEquals("small", sql.getSql(10));
+    assertEquals("large", sql.getSql(11));
+    assertEquals("large", sql.getSql(100000));
+  }
+
+  @Test
+  public void placeholderMissing() {
+    assertThrows(IllegalArgumentException.class, () -> ArrayCardinalitySql.hinted("ids", "SELECT column_value FROM TABLE(:ids)"));
+  }
+
+}
@@ -0,0 +1,107 @@
+package com.github.ferstl.spring.jdbc.oracle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Array;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.ferstl.spring.jdbc.oracle.ArrayTypeDescriptorCache.TypeStatistics;
+
+import oracle.jdbc.OracleConnection;
+import oracle.jdbc.OraclePreparedStatement;
+
+public class ArrayTypeDescriptorCacheTest {
+
+  private static final String TYPE_NAME = "TEST_ARRAY_TYPE";
+
+  private OracleConnection connection;
+  private Array array;
+
+  @BeforeEach
+  public void setUp() throws SQLException {
+    this.connection = mockConnection();
+    this.array = mock(Array.class);
+    when(this.connection.createOracleArray(eq(TYPE_NAME), any())).thenReturn(this.array);
+  }
+
+  @Test
+  public void missThenHit() throws SQLException {
+    ArrayTypeDescriptorCache descriptorCache = new ArrayTypeDescriptorCache();
+    assertNull(descriptorCache.getStatistics(TYPE_NAME));
+
+    long[] values = new long[] {1L, 2L};
+    assertEquals(this.array, descriptorCache.createArray(this.connection, TYPE_NAME, values));
+    assertEquals(this.array, descriptorCache.createArray(this.connection, TYPE_NAME, values));
+    descriptorCache.createArray(mockConnection(), TYPE_NAME, values);
+
+    TypeStatistics statistics = descriptorCache.getStatistics(TYPE_NAME);
+    assertEquals(1L, statistics.getHitCount());
+    assertEquals(2L, statistics.getMissCount());
+    assertEquals(0L, statistics.getWarmUpCount());
+  }
+
+  @Test
+  public void warmUp() throws SQLException {
+    ArrayTypeDescriptorCache descriptorCache = new ArrayTypeDescriptorCache(TYPE_NAME);
+
+    assertEquals(1, descriptorCache.warmUp(this.connection));
+    assertEquals(0, descriptorCache.warmUp(this.connection));
+    verify(this.array).free();
+
+    descriptorCache.createArray(this.connection, TYPE_NAME, new int[] {1});
+
+    TypeStatistics statistics = descriptorCache.getStatistics(TYPE_NAME);
+    assertEquals(1L, statistics.getHitCount());
+    assertEquals(0L, statistics.getMissCount());
+    assertEquals(1L, statistics.getWarmUpCount());
+  }
+
+  @Test
+  public void warmUpOnNewConnection() throws SQLException {
+    ArrayTypeDescriptorCache descriptorCache = new ArrayTypeDescriptorCache(TYPE_NAME);
+    DataSource target = mock(DataSource.class);
+    when(target.getConnection()).thenReturn(this.connection);
+
+    StatementCacheWarmingDataSource dataSource = new StatementCacheWarmingDataSource(target, new StatementCacheWarmUp());
+    dataSource.setArrayTypeDescriptorCache(descriptorCache);
+    dataSource.getConnection();
+    dataSource.getConnection();
+
+    verify(this.connection, times(1)).createOracleArray(eq(TYPE_NAME), any());
+    assertEquals(1L, descriptorCache.getStatistics(TYPE_NAME).getWarmUpCount());
+  }
+
+  @Test
+  public void valuesUseDescriptorCache() throws SQLException {
+    ArrayTypeDescriptorCache descriptorCache = new ArrayTypeDescriptorCache();
+    OraclePreparedStatement statement = mock(OraclePreparedStatement.class);
+    when(statement.getConnection()).thenReturn(this.connection);
+    when(statement.unwrap(OraclePreparedStatement.class)).thenReturn(statement);
+
+    new SqlOracleArrayValue(TYPE_NAME, 1L, 2L).withDescriptorCache(descriptorCache).setValue(statement, "ids");
+    new SharedSqlOracleArrayValue(TYPE_NAME, new long[] {1L, 2L}).withDescriptorCache(descriptorCache).setValue(statement, "ids");
+
+    TypeStatistics statistics = descriptorCache.getStatistics(TYPE_NAME);
+    assertEquals(1L, statistics.getMissCount());
+    assertEquals(1L, statistics.getHitCount());
+  }
+
+  private static OracleConnection mockConnection() throws SQLException {
+    OracleConnection connection = mock(OracleConnection.class);
+    when(connection.unwrap(OracleConnection.class)).thenReturn(connection);
+    return connection;
+  }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.SqlValue;
+
+import com.github.ferstl.spring.jdbc.oracle.OracleNamedParameterJdbcTemplate.NamedBatchPreparedStatementSetter;
+
+import oracle.jdbc.OraclePreparedStatement;
+
+/**
+ * Compares the cost of binding a row with
+ * {@link OraclePreparedStatement#setObjectAtName(String, Object)}, as done
+ * before binding plans were introduced, with binding through a
+ * {@link BindingPlan} that uses type specific {@code set*AtName} methods.
+ *
+ * <p>The stubbed statement does not model the type inference OJDBC does in
+ * {@code setObjectAtName}, the benchmark measures only the overhead of this
+ * library.</p>
+ *
+ * <p>Run {@link #main(String[])} or {@code org.openjdk.jmh.Main BindingBenchmark}
+ * with the test classpath.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BindingBenchmark {
+
+  private static final String SQL = "INSERT INTO test_table(id, val, numval) VALUES(:id, :val, :numval)";
+
+  private SqlParameterSource parameterSource;
+
+  private NamedBatchPreparedStatementSetter batchSetter;
+
+  private OraclePreparedStatement statement;
+
+  @Setup
+  public void setUp(Blackhole blackhole) {
+    this.parameterSource = new MapSqlParameterSource()
+            .addValue("id", 1L)
+            .addValue("val", "Value_00001")
+            .addValue("numval", BigDecimal.valueOf(42L));
+    this.batchSetter = new NamedBatchPreparedStatementSetter(BindingPlan.compile(SQL), new SqlParameterSource[] {this.parameterSource});
+    this.statement = new BlackholeOraclePreparedStatement(blackhole);
+  }
+
+  /**
+   * The binding as it was done before binding plans were introduced.
+   */
+  @Benchmark
+  public void setObjectAtName() throws SQLException {
+    for (String parameterName : this.parameterSource.getParameterNames()) {
+      int sqlType = this.parameterSource.getSqlType(parameterName);
+      Object value = this.parameterSource.getValue(parameterName);
+      if (value instanceof SqlValue || value instanceof SqlTypeValue || value instanceof Collection) {
+        throw new IllegalArgumentException();
+      }
+      if (value instanceof java.util.Date && !(value instanceof java.sql.Timestamp)) {
+        value = new java.sql.Timestamp(((java.util.Date) value).getTime());
+      }
+      if (sqlType != SqlParameterSource.TYPE_UNKNOWN) {
+        this.statement.setObjectAtName(parameterName, value, sqlType);
+      } else {
+        this.statement.setObjectAtName(parameterName, value);
+      }
+    }
+  }
+
+  @Benchmark
+  public void bindingPlan() throws SQLException {
+    this.batchSetter.setValues(this.statement, 0);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+            .include(BindingBenchmark.class.getSimpleName())
+            .build())
+        .run();
+  }
+
+  /**
+   * Consumes all bound values so that binding is not optimized away.
+   */
+  static final class BlackholeOraclePreparedStatement extends StubOraclePreparedStatement {
+
+    private final Blackhole blackhole;
+
+    BlackholeOraclePreparedStatement(Blackhole blackhole) {
+      this.blackhole = blackhole;
+    }
+
+    @Override
+    public void setObjectAtName(String parameterName, Object value) {
+      this.blackhole.consume(parameterName);
+      this.blackhole.consume(value);
+    }
+
+    @Override
+    public void setLongAtName(String parameterName, long value) {
+      this.blackhole.consume(parameterName);
+      this.blackhole.consume(value);
+    }
+
+    @Override
+    public void setStringAtName(String parameterName, String value) {
+      this.blackhole.consume(parameterName);
+      this.blackhole.consume(value);
+    }
+
+    @Override
+    public void setBigDecimalAtName(String parameterName, BigDecimal value) {
+      this.blackhole.consume(parameterName);
+      this.blackhole.consume(value);
+    }
+
+  }
+
+}
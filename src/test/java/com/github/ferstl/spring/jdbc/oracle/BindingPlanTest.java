@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.github.ferstl.spring.jdbc.oracle.BindingPlan.ValueBinder;
+
+import oracle.jdbc.OraclePreparedStatement;
+
+/**
+ * JUnit tests for {@link BindingPlan}.
+ */
+public class BindingPlanTest {
+
+  @Test
+  public void parameterNames() {
+    assertEquals(Arrays.asList("ten", "twenty"),
+            BindingPlan.parseParameterNames("SELECT 1 FROM dual WHERE 10 = :ten or 20 = :twenty"));
+    assertEquals(Arrays.asList("arg", "arg2"),
+            BindingPlan.parseParameterNames("SELECT 1 FROM dual WHERE 10 = :arg or 20 = :arg2 "));
+    assertEquals(Arrays.asList("a_1$", "b#"),
+            BindingPlan.parseParameterNames("SELECT 1 FROM dual WHERE 10 = :a_1$ or 20 = :b#"));
+  }
+
+  @Test
+  public void repetition() {
+    assertEquals(Collections.singletonList("ten"),
+            BindingPlan.parseParameterNames("SELECT 1 FROM dual WHERE 10 = :ten or 0 < :ten"));
+  }
+
+  @Test
+  public void ignoreLiteralsAndComments() {
+    String sql = "SELECT 'a :b', q'[:c]', nq'{:d}', \":e\" -- :f\n"
+            + "/* :g */ FROM dual WHERE 1 = :h";
+    assertEquals(Collections.singletonList("h"), BindingPlan.parseParameterNames(sql));
+  }
+
+  @Test
+  public void expandParameters() {
+    String sql = "SELECT ':ids' FROM dual WHERE 1 IN (:ids) AND 2 = :two OR 3 IN (:ids)";
+    assertEquals("SELECT ':ids' FROM dual WHERE 1 IN (:ids__0, :ids__1) AND 2 = :two OR 3 IN (:ids__0, :ids__1)",
+            BindingPlan.expandParameters(sql, Collections.singletonMap("ids", 2)));
+  }
+
+  @Test
+  public void ignoreAssignments() {
+    String sql = "BEGIN l_value := :value; END;";
+    assertEquals(Collections.singletonList("value"), BindingPlan.parseParameterNames(sql));
+  }
+
+  @Test
+  public void binderCachedPerType() {
+    BindingPlan plan = BindingPlan.compile("SELECT 1 FROM dual WHERE 1 = :value");
+
+    ValueBinder integerBinder = plan.getBinder(0, 1);
+    assertSame(integerBinder, plan.getBinder(0, 2));
+
+    ValueBinder dateBinder = plan.getBinder(0, new java.util.Date());
+    assertNotSame(integerBinder, dateBinder);
+  }
+
+  @Test
+  public void typedBinders() throws SQLException {
+    OraclePreparedStatement statement = mock(OraclePreparedStatement.class);
+    int unknown = SqlParameterSource.TYPE_UNKNOWN;
+
+    BindingPlan.resolveBinder(Long.class).bind(statement, "long", 1L, unknown);
+    BindingPlan.resolveBinder(String.class).bind(statement, "string", "value", unknown);
+    BindingPlan.resolveBinder(BigDecimal.class).bind(statement, "decimal", BigDecimal.TEN, unknown);
+    BindingPlan.resolveBinder(java.util.Date.class).bind(statement, "date", new java.util.Date(0L), unknown);
+    BindingPlan.resolveBinder(UUID.class).bind(statement, "uuid", new UUID(0L, 1L), unknown);
+
+    verify(statement).setLongAtName("long", 1L);
+    verify(statement).setStringAtName("string", "value");
+    verify(statement).setBigDecimalAtName("decimal", BigDecimal.TEN);
+    verify(statement).setTimestampAtName("date", new Timestamp(0L));
+    verify(statement).setBytesAtName(eq("uuid"), any(byte[].class));
+  }
+
+  @Test
+  public void explicitSqlType() throws SQLException {
+    OraclePreparedStatement statement = mock(OraclePreparedStatement.class);
+
+    BindingPlan.resolveBinder(Long.class).bind(statement, "long", 1L, Types.VARCHAR);
+
+    verify(statement).setObjectAtName("long", 1L, Types.VARCHAR);
+  }
+
+}
@@ -0,0 +1,90 @@
+package com.github.ferstl.spring.jdbc.oracle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.CallableStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.CallableStatementCallback;
+import org.springframework.jdbc.core.CallableStatementCreator;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlProvider;
+
+import oracle.jdbc.OracleCallableStatement;
+import oracle.jdbc.OracleConnection;
+
+public class CachedCallableStatementCreatorTest {
+
+  private static final String KEY = "key";
+  private static final String SQL = "BEGIN ? := ? + 1; END;";
+
+  private JdbcOperations jdbcOperations;
+  private OracleConnection connection;
+  private OracleCallableStatement callableStatement;
+
+  @BeforeEach
+  public void setUp() throws SQLException {
+    DataSource dataSource = mock(DataSource.class);
+    this.connection = mock(OracleConnection.class);
+    when(dataSource.getConnection()).thenReturn(this.connection);
+    when(connection.unwrap(OracleConnection.class)).thenReturn(this.connection);
+
+    this.callableStatement = mock(OracleCallableStatement.class);
+    when(this.callableStatement.unwrap(OracleCallableStatement.class)).thenReturn(this.callableStatement);
+    when(this.callableStatement.getInt(1)).thenReturn(42);
+
+    this.jdbcOperations = new JdbcTemplate(dataSource);
+  }
+
+  @Test
+  public void notCached() throws SQLException {
+    when(this.connection.getCallWithKey(KEY)).thenReturn(null);
+    when(this.connection.prepareCall(SQL)).thenReturn(this.callableStatement);
+
+    CallableStatementCreator creator = new CachedCallableStatementCreator(KEY, SQL);
+    assertEquals(Integer.valueOf(42), this.jdbcOperations.execute(creator, plusOne()));
+    assertEquals(SQL, ((SqlProvider) creator).getSql());
+
+    verify(this.connection).getCallWithKey(KEY);
+    verify(this.connection).prepareCall(SQL);
+    verify(this.callableStatement).registerOutParameter(1, Types.INTEGER);
+    verify(this.callableStatement).setInt(2, 41);
+    verify(this.callableStatement).closeWithKey(KEY);
+    verify(this.callableStatement, never()).close();
+  }
+
+  @Test
+  public void cached() throws SQLException {
+    when(this.connection.getCallWithKey(KEY)).thenReturn(this.callableStatement);
+
+    CallableStatementCreator creator = new CachedCallableStatementCreator(KEY, SQL);
+    assertEquals(Integer.valueOf(42), this.jdbcOperations.execute(creator, plusOne()));
+
+    verify(this.connection).getCallWithKey(KEY);
+    verify(this.connection, never()).prepareCall(SQL);
+    verify(this.callableStatement, times(1)).unwrap(OracleCallableStatement.class);
+    verify(this.callableStatement).closeWithKey(KEY);
+    verify(this.callableStatement, never()).close();
+  }
+
+  private static CallableStatementCallback<Integer> plusOne() {
+    return (CallableStatement cs) -> {
+      cs.registerOutParameter(1, Types.INTEGER);
+      cs.setInt(2, 41);
+      cs.execute();
+      return cs.getInt(1);
+    };
+  }
+
+}
@@ -1,13 +1,21 @@
 package com.github.ferstl.spring.jdbc.oracle;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Collections;
 import java.util.List;
 
@@ -19,6 +27,10 @@ import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.github.ferstl.spring.jdbc.oracle.StatementCacheStatistics.KeyStatistics;
 
 import oracle.jdbc.OracleConnection;
 import oracle.jdbc.OraclePreparedStatement;
@@ -93,4 +105,192 @@ public class CachedPreparedStatementCreatorTest {
     verify(preparedStatement, never()).close();
   }
 
+  @Test
+  public void namedCached() throws SQLException {
+    String key = "key";
+    String sql = "SELECT 1 FROM dual WHERE 1 = :one";
+
+    ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.next()).thenReturn(true, false);
+    when(resultSet.getInt(1)).thenReturn(1);
+
+    OraclePreparedStatement preparedStatement = mock(OraclePreparedStatement.class);
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(preparedStatement);
+    when(preparedStatement.executeQuery()).thenReturn(resultSet);
+
+    when(this.connection.getStatementWithKey(key)).thenReturn(preparedStatement);
+
+    OracleNamedParameterJdbcTemplate namedJdbcTemplate = new OracleNamedParameterJdbcTemplate(this.jdbcOperations);
+    List<Integer> result = namedJdbcTemplate.query(key, sql, new MapSqlParameterSource("one", 1), (rs, i) -> rs.getInt(1));
+    assertEquals(Collections.singletonList(1), result);
+
+    verify(this.connection).getStatementWithKey(key);
+    verify(preparedStatement).setIntAtName("one", 1);
+    verify(preparedStatement).closeWithKey(key);
+    verify(this.connection, never()).prepareStatement(sql);
+    verify(preparedStatement, never()).close();
+  }
+
+  @Test
+  public void namedBatchNotCached() throws SQLException {
+    String key = "key";
+    String sql = "DELETE FROM test_table WHERE numval = :value";
+
+    OraclePreparedStatement preparedStatement = mock(OraclePreparedStatement.class);
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(preparedStatement);
+    when(preparedStatement.executeBatch()).thenReturn(new int[] {1, 1});
+
+    when(this.connection.getStatementWithKey(key)).thenReturn(null);
+    when(this.connection.prepareStatement(sql)).thenReturn(preparedStatement);
+
+    OracleNamedParameterJdbcTemplate namedJdbcTemplate = new OracleNamedParameterJdbcTemplate(this.jdbcOperations);
+    int[] result = namedJdbcTemplate.batchUpdate(key, sql,
+            new SqlParameterSource[] {new MapSqlParameterSource("value", 1), new MapSqlParameterSource("value", 2)});
+    assertArrayEquals(new int[] {1, 1}, result);
+
+    verify(preparedStatement).setIntAtName("value", 1);
+    verify(preparedStatement).setIntAtName("value", 2);
+    verify(preparedStatement, times(2)).addBatch();
+    verify(preparedStatement).closeWithKey(key);
+    verify(preparedStatement, never()).close();
+  }
+
+  @Test
+  public void initializerOnPrepare() throws SQLException {
+    String key = "key";
+    String sql = "SELECT 1 FROM dual";
+
+    ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.next()).thenReturn(true, false);
+    when(resultSet.getInt(1)).thenReturn(1);
+
+    OraclePreparedStatement preparedStatement = mock(OraclePreparedStatement.class);
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(preparedStatement);
+    when(preparedStatement.executeQuery()).thenReturn(resultSet);
+
+    when(this.connection.getStatementWithKey(key)).thenReturn(null);
+    when(this.connection.prepareStatement(sql)).thenReturn(preparedStatement);
+
+    StatementInitializer initializer = StatementInitializer.fetchSize(500)
+            .andThen(StatementInitializer.rowPrefetch(500))
+            .andThen(StatementInitializer.lobPrefetchSize(4000))
+            .andThen(StatementInitializer.queryTimeout(10))
+            .andThen(StatementInitializer.defineColumnTypes(Types.INTEGER));
+    PreparedStatementCreator creator = new CachedPreparedStatementCreator(key, sql, initializer);
+    List<Integer> result = this.jdbcOperations.query(creator, (rs, i) -> rs.getInt(1));
+    assertEquals(Collections.singletonList(1), result);
+
+    verify(preparedStatement).setFetchSize(500);
+    verify(preparedStatement).setRowPrefetch(500);
+    verify(preparedStatement).setLobPrefetchSize(4000);
+    verify(preparedStatement).setQueryTimeout(10);
+    verify(preparedStatement).defineColumnType(1, Types.INTEGER);
+    verify(preparedStatement).closeWithKey(key);
+  }
+
+  @Test
+  public void noInitializerOnCacheHit() throws SQLException {
+    String key = "key";
+    String sql = "SELECT 1 FROM dual";
+
+    ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.next()).thenReturn(true, false);
+    when(resultSet.getInt(1)).thenReturn(1);
+
+    OraclePreparedStatement preparedStatement = mock(OraclePreparedStatement.class);
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(preparedStatement);
+    when(preparedStatement.executeQuery()).thenReturn(resultSet);
+
+    when(this.connection.getStatementWithKey(key)).thenReturn(preparedStatement);
+
+    PreparedStatementCreator creator = new CachedPreparedStatementCreator(key, sql, StatementInitializer.fetchSize(500));
+    List<Integer> result = this.jdbcOperations.query(creator, (rs, i) -> rs.getInt(1));
+    assertEquals(Collections.singletonList(1), result);
+
+    verify(preparedStatement, never()).setFetchSize(500);
+    verify(preparedStatement).closeWithKey(key);
+  }
+
+  @Test
+  public void initializerFailureClosesStatement() throws SQLException {
+    String key = "key";
+    String sql = "SELECT 1 FROM dual";
+
+    OraclePreparedStatement preparedStatement = mock(OraclePreparedStatement.class);
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(preparedStatement);
+    doThrow(new SQLException("invalid fetch size")).when(preparedStatement).setFetchSize(-1);
+
+    when(this.connection.getStatementWithKey(key)).thenReturn(null);
+    when(this.connection.prepareStatement(sql)).thenReturn(preparedStatement);
+
+    PreparedStatementCreator creator = new CachedPreparedStatementCreator(key, sql, StatementInitializer.fetchSize(-1));
+    assertThrows(SQLException.class, () -> creator.createPreparedStatement(this.connection));
+
+    verify(preparedStatement).close();
+    verify(preparedStatement, never()).closeWithKey(key);
+  }
+
+  @Test
+  public void statistics() throws SQLException {
+    String key = "key";
+    String sql = "SELECT 1 FROM dual WHERE 1 = :one";
+
+    ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.next()).thenReturn(true, false, true, false);
+    when(resultSet.getInt(1)).thenReturn(1);
+
+    OraclePreparedStatement preparedStatement = mock(OraclePreparedStatement.class);
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(preparedStatement);
+    when(preparedStatement.executeQuery()).thenReturn(resultSet);
+
+    when(this.connection.getStatementWithKey(key)).thenReturn(null, preparedStatement);
+    when(this.connection.prepareStatement(sql)).thenReturn(preparedStatement);
+
+    StatementCacheStatistics statistics = new StatementCacheStatistics();
+    assertNull(statistics.getStatistics(key));
+
+    OracleNamedParameterJdbcTemplate namedJdbcTemplate = new OracleNamedParameterJdbcTemplate(this.jdbcOperations);
+    namedJdbcTemplate.setStatementCacheListener(statistics);
+    SqlParameterSource parameterSource = new MapSqlParameterSource("one", 1);
+    namedJdbcTemplate.query(key, sql, parameterSource, (rs, i) -> rs.getInt(1));
+    namedJdbcTemplate.query(key, sql, parameterSource, (rs, i) -> rs.getInt(1));
+
+    KeyStatistics keyStatistics = statistics.getStatistics(key);
+    assertEquals(1L, keyStatistics.getHitCount());
+    assertEquals(1L, keyStatistics.getMissCount());
+    assertEquals(2L, keyStatistics.getReturnCount());
+    assertEquals(0.5d, keyStatistics.getHitRatio());
+    assertEquals(Collections.singleton(key), statistics.snapshot().keySet());
+
+    statistics.reset();
+    assertNull(statistics.getStatistics(key));
+  }
+
+  @Test
+  public void unwrapOnce() throws SQLException {
+    String key = "key";
+    String sql = "SELECT 1 FROM dual WHERE 1 = :one";
+
+    PreparedStatement poolStatement = mock(PreparedStatement.class);
+    OraclePreparedStatement oracleStatement = mock(OraclePreparedStatement.class);
+    when(poolStatement.unwrap(OraclePreparedStatement.class)).thenReturn(oracleStatement);
+
+    when(this.connection.getStatementWithKey(key)).thenReturn(poolStatement);
+
+    PreparedStatement statement = new CachedPreparedStatementCreator(key, sql).createPreparedStatement(this.connection);
+    OraclePreparedStatement unwrapped = statement.unwrap(OraclePreparedStatement.class);
+    assertSame(statement, unwrapped);
+    unwrapped.setIntAtName("one", 1);
+    unwrapped.setIntAtName("one", 2);
+    statement.setFetchSize(10);
+    statement.close();
+
+    verify(poolStatement, times(1)).unwrap(OraclePreparedStatement.class);
+    verify(oracleStatement).setIntAtName("one", 1);
+    verify(oracleStatement).setIntAtName("one", 2);
+    verify(poolStatement).setFetchSize(10);
+    verify(oracleStatement).closeWithKey(key);
+    verify(poolStatement, never()).close();
+  }
+
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.ferstl.spring.jdbc.oracle.CachedPreparedStatementCreator.CachedPreparedStatement;
+
+import oracle.jdbc.OraclePreparedStatement;
+
+/**
+ * Measures the per call overhead of {@link CachedPreparedStatement} for
+ * Oracle specific methods compared to the raw statement and to unwrapping
+ * through several layers of connection pool proxies on every call, as done
+ * before the Oracle statement was resolved once.
+ *
+ * <p>The pool proxies are modeled with {@link Proxy} layers that delegate
+ * every method including {@code unwrap}.</p>
+ *
+ * <p>Run {@link #main(String[])} or {@code org.openjdk.jmh.Main CachedStatementBenchmark}
+ * with the test classpath.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CachedStatementBenchmark {
+
+  private static final int PROXY_LAYERS = 3;
+
+  private OraclePreparedStatement rawStatement;
+
+  private PreparedStatement poolStatement;
+
+  private CachedPreparedStatement cachedStatement;
+
+  @Setup
+  public void setUp() throws SQLException {
+    this.rawStatement = new StubOraclePreparedStatement();
+    PreparedStatement statement = this.rawStatement;
+    for (int i = 0; i < PROXY_LAYERS; i++) {
+      statement = poolProxy(statement);
+    }
+    this.poolStatement = statement;
+    this.cachedStatement = new CachedPreparedStatement("key", this.poolStatement, null);
+  }
+
+  @Benchmark
+  public void raw() throws SQLException {
+    this.rawStatement.setIntAtName("id", 1);
+  }
+
+  @Benchmark
+  public void unwrapEveryCall() throws SQLException {
+    this.poolStatement.unwrap(OraclePreparedStatement.class).setIntAtName("id", 1);
+  }
+
+  @Benchmark
+  public void cached() throws SQLException {
+    this.cachedStatement.setIntAtName("id", 1);
+  }
+
+  @Benchmark
+  public void closeUnwrapEveryCall() throws SQLException {
+    this.poolStatement.unwrap(OraclePreparedStatement.class).closeWithKey("key");
+  }
+
+  @Benchmark
+  public void closeCached() throws SQLException {
+    this.cachedStatement.close();
+  }
+
+  private static PreparedStatement poolProxy(PreparedStatement target) {
+    return (PreparedStatement) Proxy.newProxyInstance(CachedStatementBenchmark.class.getClassLoader(),
+            new Class<?>[] {PreparedStatement.class}, (proxy, method, args) -> {
+              if (method.getName().equals("unwrap") && ((Class<?>) args[0]).isInstance(proxy)) {
+                return proxy;
+              }
+              try {
+                return method.invoke(target, args);
+              } catch (InvocationTargetException e) {
+                throw e.getCause();
+              }
+            });
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+            .include(CachedStatementBenchmark.class.getSimpleName())
+            .build())
+            .run();
+  }
+
+}
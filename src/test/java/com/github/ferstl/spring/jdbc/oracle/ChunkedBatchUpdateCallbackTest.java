@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.github.ferstl.spring.jdbc.oracle.OracleNamedParameterJdbcTemplate.ChunkedBatchUpdateCallback;
+
+import oracle.jdbc.OraclePreparedStatement;
+
+/**
+ * JUnit tests for {@link ChunkedBatchUpdateCallback}.
+ */
+public class ChunkedBatchUpdateCallbackTest {
+
+  @Test
+  public void executeInChunks() throws SQLException {
+    OraclePreparedStatement statement = mock(OraclePreparedStatement.class);
+    when(statement.unwrap(OraclePreparedStatement.class)).thenReturn(statement);
+    when(statement.executeBatch()).thenReturn(new int[] {1, 1}, new int[] {1, Statement.SUCCESS_NO_INFO}, new int[] {0});
+
+    ChunkedBatchUpdateCallback callback = new ChunkedBatchUpdateCallback(
+            BindingPlan.compile("DELETE FROM test_table WHERE numval = :value"),
+            IntStream.range(0, 5).mapToObj(i -> (SqlParameterSource) new MapSqlParameterSource("value", i)).iterator(),
+            2);
+    BatchUpdateSummary summary = callback.doInPreparedStatement(statement);
+
+    verify(statement, times(1)).unwrap(OraclePreparedStatement.class);
+    verify(statement, times(5)).addBatch();
+    verify(statement, times(3)).executeBatch();
+    verify(statement).setIntAtName("value", 4);
+
+    assertEquals(3L, summary.getBatchCount());
+    assertEquals(5L, summary.getRowCount());
+    assertEquals(3L, summary.getUpdateCount());
+    assertEquals(1L, summary.getSuccessNoInfoCount());
+  }
+
+  @Test
+  public void cleanupAfterEveryChunk() throws SQLException {
+    OraclePreparedStatement statement = mock(OraclePreparedStatement.class);
+    when(statement.unwrap(OraclePreparedStatement.class)).thenReturn(statement);
+    when(statement.executeBatch()).thenReturn(new int[] {1});
+
+    NamedSqlValue first = mock(NamedSqlValue.class);
+    NamedSqlValue second = mock(NamedSqlValue.class);
+    ChunkedBatchUpdateCallback callback = new ChunkedBatchUpdateCallback(
+            BindingPlan.compile("DELETE FROM test_table WHERE id IN (SELECT column_value FROM table(:ids))"),
+            Arrays.<SqlParameterSource>asList(new MapSqlParameterSource("ids", first), new MapSqlParameterSource("ids", second)).iterator(),
+            1);
+    callback.doInPreparedStatement(statement);
+
+    verify(first, times(1)).cleanup();
+    verify(second, times(1)).cleanup();
+  }
+
+}
@@ -0,0 +1,141 @@
+package com.github.ferstl.spring.jdbc.oracle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+
+import oracle.jdbc.OracleConnection;
+import oracle.jdbc.OraclePreparedStatement;
+
+public class ChunkedKeyFetcherTest {
+
+  private static final String SQL = "SELECT id FROM test_table WHERE id IN (SELECT column_value FROM TABLE(:keys))";
+  private static final List<Object> KEYS = Arrays.asList(1, 2, 3, 4, 5);
+
+  private JdbcOperations jdbcOperations;
+  private ChunkedKeyFetcher fetcher;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    this.jdbcOperations = mock(JdbcOperations.class);
+    // every key of a chunk is returned as a row
+    when(this.jdbcOperations.query(any(PreparedStatementCreator.class), any(RowMapper.class)))
+            .thenAnswer(invocation -> boundKeys(invocation.getArgument(0)));
+    this.fetcher = new ChunkedKeyFetcher(new OracleNamedParameterJdbcTemplate(this.jdbcOperations), "NUMBER_TABLE", 2);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void sequential() {
+    try (Stream<Object> rows = this.fetcher.stream(SQL, KEYS, (rs, rowNum) -> null)) {
+      verifyNoInteractions(this.jdbcOperations);
+      assertEquals(KEYS, rows.collect(Collectors.toList()));
+    }
+    verify(this.jdbcOperations, times(3)).query(any(PreparedStatementCreator.class), any(RowMapper.class));
+  }
+
+  @Test
+  public void parallel() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    this.fetcher.setExecutor(executor);
+    this.fetcher.setParallelism(2);
+    try (Stream<Object> rows = this.fetcher.stream(SQL, KEYS, (rs, rowNum) -> null)) {
+      assertEquals(KEYS, rows.collect(Collectors.toList()));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void parallelFailure() {
+    when(this.jdbcOperations.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenThrow(new DataRetrievalFailureException("failed"));
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    this.fetcher.setExecutor(executor);
+    try (Stream<Object> rows = this.fetcher.stream(SQL, KEYS, (rs, rowNum) -> null)) {
+      assertThrows(DataRetrievalFailureException.class, rows::count);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void closeCancelsPendingChunks() {
+    List<Runnable> tasks = new ArrayList<>();
+    List<List<?>> fetched = new ArrayList<>();
+    List<List<?>> chunks = Arrays.asList(Arrays.asList(1), Arrays.asList(2), Arrays.asList(3));
+    ChunkedKeyFetcher.ParallelChunkIterator<Object> results = new ChunkedKeyFetcher.ParallelChunkIterator<>(chunks.iterator(),
+            chunk -> {
+              fetched.add(chunk);
+              return new ArrayList<>();
+            }, tasks::add, 2);
+
+    assertTrue(results.hasNext());
+    results.close();
+    tasks.forEach(Runnable::run);
+
+    assertEquals(2, tasks.size());
+    assertEquals(Collections.emptyList(), fetched);
+    assertFalse(results.hasNext());
+  }
+
+  @Test
+  public void fetchMap() {
+    Map<String, Object> rows = this.fetcher.fetchMap("key", SQL, KEYS, EmptySqlParameterSource.INSTANCE,
+            (rs, rowNum) -> null, String::valueOf);
+
+    assertEquals(Arrays.asList("1", "2", "3", "4", "5"), new ArrayList<>(rows.keySet()));
+  }
+
+  private static List<Object> boundKeys(PreparedStatementCreator creator) throws SQLException {
+    Connection connection = mock(Connection.class);
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    OraclePreparedStatement oraclePreparedStatement = mock(OraclePreparedStatement.class);
+    OracleConnection oracleConnection = mock(OracleConnection.class);
+    when(connection.prepareStatement(SQL)).thenReturn(preparedStatement);
+    when(connection.unwrap(OracleConnection.class)).thenReturn(oracleConnection);
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(oraclePreparedStatement);
+    when(oraclePreparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(oraclePreparedStatement);
+    when(oraclePreparedStatement.getConnection()).thenReturn(oracleConnection);
+    when(oracleConnection.unwrap(OracleConnection.class)).thenReturn(oracleConnection);
+    when(oracleConnection.getStatementWithKey("key")).thenReturn(oraclePreparedStatement);
+
+    creator.createPreparedStatement(connection);
+
+    ArgumentCaptor<Object> elements = ArgumentCaptor.forClass(Object.class);
+    verify(oracleConnection).createOracleArray(eq("NUMBER_TABLE"), elements.capture());
+    return Arrays.asList((Object[]) elements.getValue());
+  }
+
+}
@@ -0,0 +1,73 @@
+package com.github.ferstl.spring.jdbc.oracle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+
+import com.github.ferstl.spring.jdbc.oracle.OracleNamedParameterJdbcTemplate.ColumnarBatchPreparedStatementSetter;
+
+import oracle.jdbc.OraclePreparedStatement;
+
+public class ColumnarBatchParameterSourceTest {
+
+  private static final String SQL = "INSERT INTO test_table(id, val, numval, rawval) VALUES(:id, :val, :numval, :rawval)";
+
+  @Test
+  public void bindColumns() throws SQLException {
+    BitSet nulls = new BitSet();
+    nulls.set(1);
+    ColumnarBatchParameterSource batchArgs = new ColumnarBatchParameterSource(2)
+            .addLongs("id", new long[] {1L, 2L})
+            .addStrings("val", new String[] {"one", null})
+            .addInts("numval", new int[] {10, 0}, nulls)
+            .addBytes("rawval", new byte[][] {new byte[] {1}, null});
+    ColumnarBatchPreparedStatementSetter setter = new ColumnarBatchPreparedStatementSetter(BindingPlan.compile(SQL), batchArgs);
+
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    OraclePreparedStatement oracleStatement = mock(OraclePreparedStatement.class);
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(oracleStatement);
+
+    assertEquals(2, setter.getBatchSize());
+    setter.setValues(preparedStatement, 0);
+    setter.setValues(preparedStatement, 1);
+
+    verify(preparedStatement, times(1)).unwrap(OraclePreparedStatement.class);
+    verify(oracleStatement).setLongAtName("id", 1L);
+    verify(oracleStatement).setLongAtName("id", 2L);
+    verify(oracleStatement).setStringAtName("val", "one");
+    verify(oracleStatement).setNullAtName("val", Types.VARCHAR);
+    verify(oracleStatement).setIntAtName("numval", 10);
+    verify(oracleStatement).setNullAtName("numval", Types.INTEGER);
+    verify(oracleStatement).setBytesAtName("rawval", new byte[] {1});
+    verify(oracleStatement).setNullAtName("rawval", Types.VARBINARY);
+  }
+
+  @Test
+  public void parameterWithoutColumn() {
+    ColumnarBatchParameterSource batchArgs = new ColumnarBatchParameterSource(1)
+            .addDoubles("numval", new double[] {1.5d});
+
+    assertThrows(InvalidDataAccessApiUsageException.class, () -> new ColumnarBatchPreparedStatementSetter(BindingPlan.compile(SQL), batchArgs));
+  }
+
+  @Test
+  public void invalidColumns() {
+    ColumnarBatchParameterSource batchArgs = new ColumnarBatchParameterSource(2)
+            .addLongs("id", new long[] {1L, 2L});
+
+    assertThrows(IllegalArgumentException.class, () -> batchArgs.addInts("numval", new int[] {1}));
+    assertThrows(IllegalArgumentException.class, () -> batchArgs.addLongs("id", new long[] {3L, 4L}));
+  }
+
+}
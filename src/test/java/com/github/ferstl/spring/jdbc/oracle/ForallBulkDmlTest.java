@@ -0,0 +1,100 @@
+package com.github.ferstl.spring.jdbc.oracle;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.CallableStatement;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.CallableStatementCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import oracle.jdbc.OracleCallableStatement;
+import oracle.jdbc.OracleTypes;
+
+public class ForallBulkDmlTest {
+
+  private static final String DML = "UPDATE test_table SET val = :val WHERE id = :id";
+
+  @Test
+  public void generateBlock() {
+    ForallColumns columns = new ForallColumns()
+            .addNumbers("id", new int[] {1, 2})
+            .addStrings("val", new String[] {"one", "two"}, 50);
+
+    assertEquals("DECLARE\n"
+            + "  c0 DBMS_SQL.NUMBER_TABLE;\n"
+            + "  c1 DBMS_SQL.VARCHAR2A;\n"
+            + "  row_counts DBMS_SQL.NUMBER_TABLE;\n"
+            + "BEGIN\n"
+            + "  c0 := ?;\n"
+            + "  c1 := ?;\n"
+            + "  FORALL i IN 1 .. c0.COUNT\n"
+            + "    UPDATE test_table SET val = c1(i) WHERE id = c0(i);\n"
+            + "  FOR i IN 1 .. c0.COUNT LOOP\n"
+            + "    row_counts(i) := SQL%BULK_ROWCOUNT(i);\n"
+            + "  END LOOP;\n"
+            + "  ? := row_counts;\n"
+            + "END;", new ForallBulkDml.BlockKey(DML, columns.getColumns()).generateBlock());
+  }
+
+  @Test
+  public void blockKey() {
+    ForallColumns numbers = new ForallColumns().addNumbers("id", new int[] {1}).addStrings("val", new String[] {"one"}, 50);
+    ForallColumns otherValues = new ForallColumns().addNumbers("id", new int[] {2, 3}).addStrings("val", new String[] {"two", "three"}, 10);
+    ForallColumns otherTypes = new ForallColumns().addNumbers("id", new int[] {1}).addNumbers("val", new int[] {1});
+
+    ForallBulkDml.BlockKey key = new ForallBulkDml.BlockKey(DML, numbers.getColumns());
+    assertEquals(key, new ForallBulkDml.BlockKey(DML, otherValues.getColumns()));
+    assertEquals(key.hashCode(), new ForallBulkDml.BlockKey(DML, otherValues.getColumns()).hashCode());
+    assertNotEquals(key, new ForallBulkDml.BlockKey(DML, otherTypes.getColumns()));
+    assertNotEquals(key, new ForallBulkDml.BlockKey(DML + " ", numbers.getColumns()));
+  }
+
+  @Test
+  public void missingColumn() {
+    ForallColumns columns = new ForallColumns().addNumbers("id", new int[] {1});
+    assertThrows(IllegalArgumentException.class, () -> new ForallBulkDml.BlockKey(DML, columns.getColumns()).generateBlock());
+  }
+
+  @Test
+  public void columnLengthMismatch() {
+    ForallColumns columns = new ForallColumns().addNumbers("id", new int[] {1});
+    assertThrows(IllegalArgumentException.class, () -> columns.addStrings("val", new String[] {"one", "two"}, 50));
+  }
+
+  @Test
+  // verifies the deprecated PL/SQL index table methods that ForallBulkDml uses
+  @SuppressWarnings({"unchecked", "deprecation"})
+  public void execute() throws SQLException {
+    JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+    CallableStatement callableStatement = mock(CallableStatement.class);
+    OracleCallableStatement oracleStatement = mock(OracleCallableStatement.class);
+    when(callableStatement.unwrap(OracleCallableStatement.class)).thenReturn(oracleStatement);
+    when(oracleStatement.getPlsqlIndexTable(3, int.class)).thenReturn(new int[] {1, 0});
+    when(jdbcOperations.execute(anyString(), any(CallableStatementCallback.class))).thenAnswer(
+            invocation -> invocation.<CallableStatementCallback<?>>getArgument(1).doInCallableStatement(callableStatement));
+
+    String[] values = new String[] {"one", "two"};
+    int[] rowCounts = new ForallBulkDml(jdbcOperations).execute(DML, new ForallColumns()
+            .addNumbers("id", new long[] {1L, 2L})
+            .addStrings("val", values, 50));
+
+    assertArrayEquals(new int[] {1, 0}, rowCounts);
+    verify(oracleStatement).setPlsqlIndexTable(eq(1), eq(new BigDecimal[] {BigDecimal.ONE, BigDecimal.valueOf(2L)}), eq(2), eq(2), eq(OracleTypes.NUMBER), eq(0));
+    verify(oracleStatement).setPlsqlIndexTable(2, values, 2, 2, OracleTypes.VARCHAR, 50);
+    verify(oracleStatement).registerIndexTableOutParameter(3, 2, OracleTypes.NUMBER, 0);
+    verify(oracleStatement).execute();
+  }
+
+}
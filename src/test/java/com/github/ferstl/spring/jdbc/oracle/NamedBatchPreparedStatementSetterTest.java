@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.management.ManagementFactory;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.github.ferstl.spring.jdbc.oracle.OracleNamedParameterJdbcTemplate.NamedBatchPreparedStatementSetter;
+
+import oracle.jdbc.OraclePreparedStatement;
+
+/**
+ * JUnit tests for {@link NamedBatchPreparedStatementSetter}.
+ */
+public class NamedBatchPreparedStatementSetterTest {
+
+  private static final String SQL = "INSERT INTO test_table(id, val, numval) VALUES(:id, :val, :numval)";
+
+  @Test
+  public void unwrapOncePerStatement() throws SQLException {
+    SqlParameterSource[] batchArgs = new SqlParameterSource[] {row(1), row(2), row(3)};
+    NamedBatchPreparedStatementSetter setter = new NamedBatchPreparedStatementSetter(BindingPlan.compile(SQL), batchArgs);
+
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    OraclePreparedStatement oracleStatement = mock(OraclePreparedStatement.class);
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(oracleStatement);
+
+    assertEquals(3, setter.getBatchSize());
+    for (int i = 0; i < batchArgs.length; i++) {
+      setter.setValues(preparedStatement, i);
+    }
+
+    verify(preparedStatement, times(1)).unwrap(OraclePreparedStatement.class);
+    verify(oracleStatement).setIntAtName("id", 1);
+    verify(oracleStatement).setIntAtName("id", 2);
+    verify(oracleStatement).setIntAtName("id", 3);
+    verify(oracleStatement, times(3)).setStringAtName("val", "value");
+  }
+
+  @Test
+  public void cleanupAllRows() throws SQLException {
+    NamedSqlValue first = mock(NamedSqlValue.class);
+    NamedSqlValue second = mock(NamedSqlValue.class);
+    SqlParameterSource[] batchArgs = new SqlParameterSource[] {
+        new MapSqlParameterSource("ids", first),
+        new MapSqlParameterSource("ids", second)};
+    NamedBatchPreparedStatementSetter setter = new NamedBatchPreparedStatementSetter(
+            BindingPlan.compile("DELETE FROM test_table WHERE id IN (SELECT column_value FROM table(:ids))"), batchArgs);
+
+    OraclePreparedStatement oracleStatement = new StubOraclePreparedStatement();
+    setter.setValues(oracleStatement, 0);
+    setter.setValues(oracleStatement, 1);
+    setter.cleanupParameters();
+
+    verify(first).cleanup();
+    verify(second).cleanup();
+  }
+
+  @Test
+  public void allocationBudget() throws SQLException {
+    java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+    com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+    assumeTrue(allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled());
+
+    int rows = 100_000;
+    SqlParameterSource[] batchArgs = new SqlParameterSource[rows];
+    for (int i = 0; i < rows; i++) {
+      // AbstractSqlParameterSource#getSqlType boxes TYPE_UNKNOWN on every call
+      // so use a parameter source that does not allocate to measure only the binding
+      batchArgs[i] = new FixedSqlParameterSource(new String[] {"id", "val", "numval"}, new Object[] {i, "value", 42});
+    }
+    NamedBatchPreparedStatementSetter setter = new NamedBatchPreparedStatementSetter(BindingPlan.compile(SQL), batchArgs);
+    OraclePreparedStatement statement = new StubOraclePreparedStatement();
+
+    // warm up so that binders are resolved and the loop is compiled
+    bindAll(setter, statement, rows);
+
+    long threadId = Thread.currentThread().getId();
+    long before = allocationBean.getThreadAllocatedBytes(threadId);
+    bindAll(setter, statement, rows);
+    long allocated = allocationBean.getThreadAllocatedBytes(threadId) - before;
+
+    assertTrue(allocated < rows, "allocated " + allocated + " bytes for " + rows + " rows");
+  }
+
+  private static void bindAll(NamedBatchPreparedStatementSetter setter, PreparedStatement statement, int rows) throws SQLException {
+    for (int i = 0; i < rows; i++) {
+      setter.setValues(statement, i);
+    }
+  }
+
+  private static SqlParameterSource row(int id) {
+    return new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("val", "value")
+            .addValue("numval", 42);
+  }
+
+  /**
+   * A {@link SqlParameterSource} that does not allocate on access.
+   */
+  static final class FixedSqlParameterSource implements SqlParameterSource {
+
+    private final String[] names;
+    private final Object[] values;
+
+    FixedSqlParameterSource(String[] names, Object[] values) {
+      this.names = names;
+      this.values = values;
+    }
+
+    private int indexOf(String paramName) {
+      for (int i = 0; i < this.names.length; i++) {
+        if (this.names[i].equals(paramName)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public boolean hasValue(String paramName) {
+      return this.indexOf(paramName) != -1;
+    }
+
+    @Override
+    public Object getValue(String paramName) {
+      int index = this.indexOf(paramName);
+      if (index == -1) {
+        throw new IllegalArgumentException("No value registered for key '" + paramName + "'");
+      }
+      return this.values[index];
+    }
+
+    @Override
+    public String[] getParameterNames() {
+      return this.names.clone();
+    }
+
+  }
+
+}
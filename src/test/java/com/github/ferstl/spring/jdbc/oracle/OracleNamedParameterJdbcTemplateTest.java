@@ -15,29 +15,48 @@
  */
 package com.github.ferstl.spring.jdbc.oracle;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.SqlProvider;
 import org.springframework.jdbc.core.SqlTypeValue;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.jdbc.support.SqlValue;
 
+import oracle.jdbc.OracleConnection;
 import oracle.jdbc.OraclePreparedStatement;
 
 /**
@@ -45,12 +64,13 @@ import oracle.jdbc.OraclePreparedStatement;
  */
 public class OracleNamedParameterJdbcTemplateTest {
 
+  private JdbcOperations jdbcOperations;
   private OracleNamedParameterJdbcTemplate namedJdbcTemplate;
 
   @BeforeEach
   public void setUp() {
-    JdbcOperations jdbcOperations = mock(JdbcOperations.class);
-    this.namedJdbcTemplate = new OracleNamedParameterJdbcTemplate(jdbcOperations);
+    this.jdbcOperations = mock(JdbcOperations.class);
+    this.namedJdbcTemplate = new OracleNamedParameterJdbcTemplate(this.jdbcOperations);
   }
 
   @Test
@@ -71,8 +91,8 @@ public class OracleNamedParameterJdbcTemplateTest {
 
     preparedStatementCreator.createPreparedStatement(connection);
 
-    verify(oracleStatement).setObjectAtName("ten", 10);
-    verify(oracleStatement).setObjectAtName("twenty", 20);
+    verify(oracleStatement).setIntAtName("ten", 10);
+    verify(oracleStatement).setIntAtName("twenty", 20);
   }
 
   @Test
@@ -93,10 +113,28 @@ public class OracleNamedParameterJdbcTemplateTest {
 
     preparedStatementCreator.createPreparedStatement(connection);
 
-    verify(oracleStatement).setObjectAtName("ten", 10);
+    verify(oracleStatement).setIntAtName("ten", 10);
     verify(oracleStatement).setNullAtName("twenty", Types.NULL);
   }
 
+  @Test
+  public void missingParameter() throws SQLException {
+    String sql = "SELECT 1 FROM dual WHERE 1 = :ten or 20 = :twenty";
+    PreparedStatementCreator preparedStatementCreator = this.namedJdbcTemplate.getPreparedStatementCreator(
+            sql, new MapSqlParameterSource("ten", 10));
+
+    Connection connection = mock(Connection.class);
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    OraclePreparedStatement oracleStatement = mock(OraclePreparedStatement.class);
+
+    when(connection.prepareStatement(sql)).thenReturn(preparedStatement);
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(oracleStatement);
+
+    InvalidDataAccessApiUsageException exception = assertThrows(InvalidDataAccessApiUsageException.class,
+            () -> preparedStatementCreator.createPreparedStatement(connection));
+    assertEquals("No value supplied for the SQL parameter 'twenty'", exception.getMessage());
+  }
+
   @Test
   public void setWithType() throws SQLException {
     MapSqlParameterSource source = new MapSqlParameterSource(new HashMap<String, Object>(2));
@@ -137,8 +175,8 @@ public class OracleNamedParameterJdbcTemplateTest {
 
     preparedStatementCreator.createPreparedStatement(connection);
 
-    verify(oracleStatement).setObjectAtName("ten", 10);
-    verify(oracleStatement).setObjectAtName("twenty", 20);
+    verify(oracleStatement).setIntAtName("ten", 10);
+    verify(oracleStatement).setIntAtName("twenty", 20);
   }
 
   @Test
@@ -158,7 +196,7 @@ public class OracleNamedParameterJdbcTemplateTest {
 
     preparedStatementCreator.createPreparedStatement(connection);
 
-    verify(oracleStatement).setObjectAtName("ten", 10);
+    verify(oracleStatement).setIntAtName("ten", 10);
   }
 
   @Test
@@ -179,8 +217,8 @@ public class OracleNamedParameterJdbcTemplateTest {
 
     preparedStatementCreator.createPreparedStatement(connection);
 
-    verify(oracleStatement).setObjectAtName("arg", 10);
-    verify(oracleStatement).setObjectAtName("arg2", 20);
+    verify(oracleStatement).setIntAtName("arg", 10);
+    verify(oracleStatement).setIntAtName("arg2", 20);
   }
 
   @Test
@@ -204,6 +242,115 @@ public class OracleNamedParameterJdbcTemplateTest {
     assertThrows(IllegalArgumentException.class, () -> preparedStatementCreator.createPreparedStatement(connection), "connection is currently unsupported");
   }
   
+  @Test
+  public void collectionAsArray() throws SQLException {
+    this.namedJdbcTemplate.setArrayTypeRegistry(new ArrayTypeRegistry()
+            .registerNumberType("NUMBER_TABLE")
+            .register(UUID.class, "RAW16_TABLE"));
+    UUID uuid = new UUID(1L, 2L);
+    MapSqlParameterSource parameterSource = new MapSqlParameterSource()
+            .addValue("numbers", Arrays.asList(1, 23, 42))
+            .addValue("uuids", Collections.singleton(uuid))
+            .addValue("empty", Collections.emptyList(), Types.ARRAY, "VARCHAR2_TABLE");
+    String sql = "SELECT 1 FROM dual WHERE 42 IN (SELECT column_value FROM TABLE(:numbers))"
+            + " AND :uuids IS NOT EMPTY AND :empty IS EMPTY";
+    PreparedStatementCreator preparedStatementCreator = this.namedJdbcTemplate.getPreparedStatementCreator(sql, parameterSource);
+
+    Connection connection = mock(Connection.class);
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    OraclePreparedStatement oraclePreparedStatement = mock(OraclePreparedStatement.class);
+    OracleConnection oracleConnection = mock(OracleConnection.class);
+    Array numbers = mock(Array.class);
+    Array uuids = mock(Array.class);
+    Array empty = mock(Array.class);
+
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(oraclePreparedStatement);
+    when(connection.prepareStatement(sql)).thenReturn(preparedStatement);
+    when(oraclePreparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(oraclePreparedStatement);
+    when(oraclePreparedStatement.getConnection()).thenReturn(oracleConnection);
+    when(oracleConnection.unwrap(OracleConnection.class)).thenReturn(oracleConnection);
+    when(oracleConnection.createOracleArray("NUMBER_TABLE", new Object[] {1, 23, 42})).thenReturn(numbers);
+    Object[] uuidElements = new Object[] {UuidUtils.toByteArray(uuid)};
+    when(oracleConnection.createOracleArray(eq("RAW16_TABLE"), argThat(elements -> Arrays.deepEquals((Object[]) elements, uuidElements)))).thenReturn(uuids);
+    when(oracleConnection.createOracleArray("VARCHAR2_TABLE", new Object[0])).thenReturn(empty);
+
+    preparedStatementCreator.createPreparedStatement(connection);
+
+    verify(oraclePreparedStatement).setArrayAtName("numbers", numbers);
+    verify(oraclePreparedStatement).setArrayAtName("uuids", uuids);
+    verify(oraclePreparedStatement).setArrayAtName("empty", empty);
+
+    ((ParameterDisposer) preparedStatementCreator).cleanupParameters();
+    verify(numbers).free();
+    verify(uuids).free();
+    verify(empty).free();
+  }
+
+  @Test
+  public void collectionElementTypeNotRegistered() throws SQLException {
+    this.namedJdbcTemplate.setArrayTypeRegistry(new ArrayTypeRegistry().register(String.class, "VARCHAR2_TABLE"));
+    Map<String, Object> map = Collections.singletonMap("collection", Arrays.asList(1, 23, 42));
+    String sql = "SELECT 1 FROM dual WHERE 42 IN (SELECT column_value FROM TABLE(:collection))";
+    PreparedStatementCreator preparedStatementCreator = this.namedJdbcTemplate.getPreparedStatementCreator(
+            sql,
+            new MapSqlParameterSource(map));
+
+    Connection connection = mock(Connection.class);
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    OraclePreparedStatement oraclePreparedStatement = mock(OraclePreparedStatement.class);
+
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(oraclePreparedStatement);
+    when(connection.prepareStatement(sql)).thenReturn(preparedStatement);
+
+    assertThrows(IllegalArgumentException.class, () -> preparedStatementCreator.createPreparedStatement(connection));
+  }
+
+  @Test
+  public void inListPadding() throws SQLException {
+    this.namedJdbcTemplate.setInListPadding(true);
+    MapSqlParameterSource parameterSource = new MapSqlParameterSource()
+            .addValue("ids", Arrays.asList(1L, 2L, 3L))
+            .addValue("ten", 10);
+    String sql = "SELECT 1 FROM dual WHERE 10 = :ten AND 42 IN (:ids)";
+    String paddedSql = "SELECT 1 FROM dual WHERE 10 = :ten AND 42 IN (:ids__0, :ids__1, :ids__2, :ids__3)";
+    PreparedStatementCreator preparedStatementCreator = this.namedJdbcTemplate.getPreparedStatementCreator(sql, parameterSource);
+
+    Connection connection = mock(Connection.class);
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    OraclePreparedStatement oraclePreparedStatement = mock(OraclePreparedStatement.class);
+
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(oraclePreparedStatement);
+    when(connection.prepareStatement(paddedSql)).thenReturn(preparedStatement);
+
+    preparedStatementCreator.createPreparedStatement(connection);
+
+    verify(oraclePreparedStatement).setIntAtName("ten", 10);
+    verify(oraclePreparedStatement).setLongAtName("ids__0", 1L);
+    verify(oraclePreparedStatement).setLongAtName("ids__1", 2L);
+    verify(oraclePreparedStatement).setLongAtName("ids__2", 3L);
+    verify(oraclePreparedStatement).setLongAtName("ids__3", 3L);
+
+    // same bucket, same SQL
+    parameterSource.addValue("ids", Collections.singleton(5L));
+    assertEquals("SELECT 1 FROM dual WHERE 10 = :ten AND 42 IN (:ids__0)",
+            ((SqlProvider) this.namedJdbcTemplate.getPreparedStatementCreator(sql, parameterSource)).getSql());
+    parameterSource.addValue("ids", Arrays.asList(5L, 6L, 7L, 8L));
+    assertEquals(paddedSql, ((SqlProvider) this.namedJdbcTemplate.getPreparedStatementCreator(sql, parameterSource)).getSql());
+  }
+
+  @Test
+  public void inListBucketSize() {
+    assertEquals(1, InListPadding.bucketSize(0));
+    assertEquals(1, InListPadding.bucketSize(1));
+    assertEquals(2, InListPadding.bucketSize(2));
+    assertEquals(4, InListPadding.bucketSize(3));
+    assertEquals(512, InListPadding.bucketSize(512));
+    assertEquals(1000, InListPadding.bucketSize(513));
+    assertEquals(1000, InListPadding.bucketSize(1000));
+    assertEquals(1001, InListPadding.bucketSize(1001));
+    assertEquals(1500, InListPadding.bucketSize(1500));
+  }
+
   @Test
   public void sqlValueUnsupported() throws SQLException {
     Map<String, Object> map = Collections.singletonMap("collection", mock(SqlValue.class));
@@ -263,10 +410,92 @@ public class OracleNamedParameterJdbcTemplateTest {
     preparedStatementCreator.createPreparedStatement(connection);
     ((ParameterDisposer) preparedStatementCreator).cleanupParameters();
 
-    verify(oraclePreparedStatement).setObjectAtName("ten", 10);
-    verify(oraclePreparedStatement).setObjectAtName("twenty", 20);
+    verify(oraclePreparedStatement).setIntAtName("ten", 10);
+    verify(oraclePreparedStatement).setIntAtName("twenty", 20);
     verify(namedSqlValue).setValue(oraclePreparedStatement, "collection");
     verify(namedSqlValue).cleanup();
   }
 
+  @Test
+  public void onlyParametersInSql() throws SQLException {
+    Map<String, Object> map = new HashMap<>(4);
+    map.put("ten", 10);
+    map.put("unused", 20);
+    String sql = "SELECT 1 FROM dual WHERE 1 = :ten";
+    PreparedStatementCreator preparedStatementCreator = this.namedJdbcTemplate.getPreparedStatementCreator(
+            sql, new MapSqlParameterSource(map));
+
+    Connection connection = mock(Connection.class);
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    OraclePreparedStatement oracleStatement = mock(OraclePreparedStatement.class);
+
+    when(connection.prepareStatement(sql)).thenReturn(preparedStatement);
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(oracleStatement);
+
+    preparedStatementCreator.createPreparedStatement(connection);
+
+    verify(oracleStatement).setIntAtName("ten", 10);
+    verify(oracleStatement, never()).setIntAtName("unused", 20);
+  }
+
+  @Test
+  public void generatedKeys() throws SQLException {
+    String sql = "INSERT INTO test_table(id, val) VALUES(seq_test_table.nextval, :val)";
+    MapSqlParameterSource parameterSource = new MapSqlParameterSource("val", "one");
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    this.namedJdbcTemplate.update(sql, parameterSource, keyHolder, new String[] {"id"});
+    this.namedJdbcTemplate.update(sql, parameterSource, keyHolder);
+
+    ArgumentCaptor<PreparedStatementCreator> creators = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+    verify(this.jdbcOperations, times(2)).update(creators.capture(), eq(keyHolder));
+
+    Connection connection = mock(Connection.class);
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    OraclePreparedStatement oracleStatement = mock(OraclePreparedStatement.class);
+    when(connection.prepareStatement(eq(sql), aryEq(new String[] {"id"}))).thenReturn(preparedStatement);
+    when(connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)).thenReturn(preparedStatement);
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(oracleStatement);
+
+    creators.getAllValues().get(0).createPreparedStatement(connection);
+    verify(connection).prepareStatement(eq(sql), aryEq(new String[] {"id"}));
+    creators.getAllValues().get(1).createPreparedStatement(connection);
+    verify(connection).prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+    verify(oracleStatement, times(2)).setStringAtName("val", "one");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void batchUpdateReturning() throws SQLException {
+    String sql = "UPDATE test_table SET numval = numval + 1 WHERE id = :id RETURNING numval INTO :new_numval";
+    ReturnParameters returnParameters = new ReturnParameters().add("new_numval", Types.NUMERIC);
+    SqlParameterSource[] batchArgs = new SqlParameterSource[] {
+        new MapSqlParameterSource("id", 1), new MapSqlParameterSource("id", 2).addValue("new_numval", 5)};
+    this.namedJdbcTemplate.batchUpdateReturning(sql, batchArgs, returnParameters, (rs, i) -> rs.getInt(1));
+
+    ArgumentCaptor<PreparedStatementCallback<List<List<Integer>>>> callback = ArgumentCaptor.forClass(PreparedStatementCallback.class);
+    verify(this.jdbcOperations).execute(eq(sql), callback.capture());
+
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    OraclePreparedStatement oracleStatement = mock(OraclePreparedStatement.class);
+    ResultSet first = mock(ResultSet.class);
+    ResultSet second = mock(ResultSet.class);
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(oracleStatement);
+    when(oracleStatement.getReturnResultSet()).thenReturn(first, second);
+    when(first.next()).thenReturn(true, false);
+    when(first.getInt(1)).thenReturn(11);
+    when(second.next()).thenReturn(false);
+
+    List<List<Integer>> returned = callback.getValue().doInPreparedStatement(preparedStatement);
+
+    assertEquals(Arrays.asList(Collections.singletonList(11), Collections.emptyList()), returned);
+    verify(oracleStatement, times(1)).registerReturnParameter(2, Types.NUMERIC);
+    verify(oracleStatement).setIntAtName("id", 1);
+    verify(oracleStatement).setIntAtName("id", 2);
+    // the value in the source does not override the return parameter
+    verify(oracleStatement, never()).setIntAtName("new_numval", 5);
+    verify(oracleStatement, times(2)).executeUpdate();
+    verify(first).close();
+    verify(second).close();
+  }
+
 }
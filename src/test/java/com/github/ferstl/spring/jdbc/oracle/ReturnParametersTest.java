@@ -0,0 +1,32 @@
+package com.github.ferstl.spring.jdbc.oracle;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Types;
+
+import org.junit.jupiter.api.Test;
+
+public class ReturnParametersTest {
+
+  @Test
+  public void resolvePositions() {
+    ReturnParameters returnParameters = new ReturnParameters()
+            .add("new_val", Types.VARCHAR, 50)
+            .add("new_id", Types.NUMERIC);
+
+    String sql = "UPDATE test_table SET val = :val, numval = :val_length WHERE val = :val /* :comment */ RETURNING id, val INTO :new_id, :new_val";
+    assertArrayEquals(new int[] {5, 4}, returnParameters.resolvePositions(sql));
+  }
+
+  @Test
+  public void invalidParameters() {
+    ReturnParameters returnParameters = new ReturnParameters().add("new_id", Types.NUMERIC);
+
+    assertThrows(IllegalArgumentException.class, () -> returnParameters.add("new_id", Types.VARCHAR));
+    assertThrows(IllegalArgumentException.class, () -> returnParameters.resolvePositions("DELETE FROM test_table RETURNING id INTO :id"));
+    assertThrows(IllegalArgumentException.class, () -> returnParameters.resolvePositions("DELETE FROM test_table WHERE id = :new_id RETURNING id INTO :new_id"));
+    assertThrows(IllegalStateException.class, () -> new ReturnParameters().resolvePositions("DELETE FROM test_table"));
+  }
+
+}
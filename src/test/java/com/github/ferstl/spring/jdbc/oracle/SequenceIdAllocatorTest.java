@@ -0,0 +1,150 @@
+package com.github.ferstl.spring.jdbc.oracle;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+public class SequenceIdAllocatorTest {
+
+  private static final String SQL = "SELECT seq_test_table.nextval FROM dual CONNECT BY LEVEL <= ?";
+
+  private JdbcOperations jdbcOperations;
+  private List<Integer> blockSizes;
+
+  @BeforeEach
+  public void setUp() {
+    this.jdbcOperations = mock(JdbcOperations.class);
+    this.blockSizes = new ArrayList<>();
+    AtomicLong sequence = new AtomicLong();
+    when(this.jdbcOperations.query(eq(SQL), any(PreparedStatementSetter.class), ArgumentMatchers.<ResultSetExtractor<long[]>>any())).thenAnswer(invocation -> {
+      PreparedStatement statement = mock(PreparedStatement.class);
+      invocation.getArgument(1, PreparedStatementSetter.class).setValues(statement);
+      ArgumentCaptor<Integer> count = ArgumentCaptor.forClass(Integer.class);
+      verify(statement).setInt(eq(1), count.capture());
+      synchronized (this.blockSizes) {
+        this.blockSizes.add(count.getValue());
+      }
+      long[] ids = new long[count.getValue()];
+      // the database does not guarantee the order
+      for (int i = ids.length - 1; i >= 0; i--) {
+        ids[i] = sequence.incrementAndGet();
+      }
+      return ids;
+    });
+  }
+
+  @Test
+  public void blocksGrow() {
+    SequenceIdAllocator allocator = new SequenceIdAllocator(this.jdbcOperations, "seq_test_table", 1);
+    allocator.setMinBlockSize(2);
+    allocator.setMaxBlockSize(5);
+    allocator.setTargetRefillInterval(1L, TimeUnit.HOURS);
+
+    for (long expected = 1L; expected <= 12L; expected++) {
+      assertEquals(expected, allocator.nextId());
+    }
+
+    assertEquals(4, this.blockSizes.size());
+    assertEquals(2, this.blockSizes.get(0).intValue());
+    assertEquals(4, this.blockSizes.get(1).intValue());
+    assertEquals(5, this.blockSizes.get(2).intValue());
+    assertEquals(5, this.blockSizes.get(3).intValue());
+
+    SequenceIdAllocator.Statistics statistics = allocator.getStatistics();
+    assertEquals(4L, statistics.getRoundTripCount());
+    assertEquals(16L, statistics.getFetchedIdCount());
+    assertEquals(12L, statistics.getAllocatedIdCount());
+    assertEquals(4.0d, statistics.getAverageBlockSize(), 0.0001d);
+  }
+
+  @Test
+  public void nextIds() {
+    SequenceIdAllocator allocator = new SequenceIdAllocator(this.jdbcOperations, "seq_test_table", 1);
+    allocator.setMinBlockSize(4);
+
+    assertArrayEquals(new long[] {1L, 2L}, allocator.nextIds(2));
+    // larger than a block, fetched in a dedicated round trip
+    assertArrayEquals(new long[] {5L, 6L, 7L, 8L, 9L, 10L}, allocator.nextIds(6));
+    assertEquals(3L, allocator.nextId());
+    assertEquals(0, allocator.nextIds(0).length);
+  }
+
+  @Test
+  public void concurrentAllocation() throws Exception {
+    SequenceIdAllocator allocator = new SequenceIdAllocator(this.jdbcOperations, "seq_test_table", 4);
+    int threads = 8;
+    int idsPerThread = 2000;
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<long[]>> futures = new ArrayList<>(threads);
+    try {
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit(() -> {
+          long[] ids = new long[idsPerThread];
+          for (int j = 0; j < ids.length; j++) {
+            ids[j] = allocator.nextId();
+          }
+          return ids;
+        }));
+      }
+      Set<Long> allIds = new HashSet<>();
+      for (Future<long[]> future : futures) {
+        for (long id : future.get()) {
+          assertTrue(allIds.add(id), "duplicate id: " + id);
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(threads * idsPerThread, allocator.getStatistics().getAllocatedIdCount());
+  }
+
+  @Test
+  public void invalidSequenceName() {
+    assertThrows(IllegalArgumentException.class, () -> new SequenceIdAllocator(this.jdbcOperations, "seq; DROP TABLE test_table"));
+    new SequenceIdAllocator(this.jdbcOperations, "spring_jdbc_oracle.seq_test_table");
+  }
+
+  @Test
+  public void fetchSize() throws SQLException {
+    SequenceIdAllocator allocator = new SequenceIdAllocator(this.jdbcOperations, "seq_test_table", 1);
+    allocator.setMinBlockSize(100);
+    allocator.nextId();
+
+    ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+    verify(this.jdbcOperations).query(eq(SQL), setter.capture(), ArgumentMatchers.<ResultSetExtractor<long[]>>any());
+    PreparedStatement statement = mock(PreparedStatement.class);
+    setter.getValue().setValues(statement);
+    verify(statement).setFetchSize(100);
+    verify(statement).setInt(anyInt(), eq(100));
+  }
+
+}
@@ -0,0 +1,255 @@
+package com.github.ferstl.spring.jdbc.oracle;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import oracle.jdbc.OracleConnection;
+import oracle.jdbc.OraclePreparedStatement;
+
+public class SharedSqlOracleArrayValueTest {
+
+  private static final String TYPE_NAME = "CUSTOM_ARRAY_TYPE";
+  private static final long[] VALUES = new long[] {1L, 2L, 3L};
+
+  @AfterEach
+  public void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  public void bindManyTimes() throws SQLException {
+    OracleConnection connection = mockConnection();
+    Array array = mock(Array.class);
+    when(connection.createOracleArray(eq(TYPE_NAME), aryEq(VALUES))).thenReturn(array);
+    OraclePreparedStatement first = mockStatement(connection);
+    OraclePreparedStatement second = mockStatement(connection);
+
+    SharedSqlOracleArrayValue value = new SharedSqlOracleArrayValue(TYPE_NAME, VALUES);
+    value.setValue(first, "ids");
+    value.setValue(first, "ids");
+    value.setValue(second, 1);
+
+    verify(connection, times(1)).createOracleArray(eq(TYPE_NAME), aryEq(VALUES));
+    verify(first, times(2)).setArrayAtName("ids", array);
+    verify(second).setArray(1, array);
+
+    // one cleanup per bind
+    value.cleanup();
+    value.cleanup();
+    verify(array, never()).free();
+    value.cleanup();
+    verify(array, times(1)).free();
+
+    // cleanup may be called more often than the value was bound
+    value.cleanup();
+    verify(array, times(1)).free();
+  }
+
+  @Test
+  public void nestedStatements() throws SQLException {
+    OracleConnection connection = mockConnection();
+    Array array = mock(Array.class);
+    when(connection.createOracleArray(eq(TYPE_NAME), aryEq(VALUES))).thenReturn(array);
+    OraclePreparedStatement outer = mockStatement(connection);
+    OraclePreparedStatement inner = mockStatement(connection);
+
+    SharedSqlOracleArrayValue value = new SharedSqlOracleArrayValue(TYPE_NAME, VALUES);
+    value.setValue(outer, "ids");
+    value.setValue(inner, "ids");
+    value.cleanup();
+
+    // the outer statement still uses the array
+    verify(array, never()).free();
+    value.cleanup();
+    verify(array).free();
+  }
+
+  @Test
+  public void nestedStatementsBoundTwice() throws SQLException {
+    OracleConnection connection = mockConnection();
+    Array array = mock(Array.class);
+    when(connection.createOracleArray(eq(TYPE_NAME), aryEq(VALUES))).thenReturn(array);
+    OraclePreparedStatement outer = mockStatement(connection);
+    OraclePreparedStatement inner = mockStatement(connection);
+
+    SharedSqlOracleArrayValue value = new SharedSqlOracleArrayValue(TYPE_NAME, VALUES);
+    value.setValue(outer, 1);
+    value.setValue(outer, 2);
+    // like JdbcTemplate#query(String, ResultSetExtractor, Object...) with the value twice
+    value.setValue(inner, 1);
+    value.setValue(inner, 2);
+    value.cleanup();
+    value.cleanup();
+
+    // the outer cursor still uses the array
+    verify(array, never()).free();
+    value.cleanup();
+    verify(array, never()).free();
+    value.cleanup();
+    verify(array).free();
+  }
+
+  @Test
+  public void bindingsReleaseOwnReference() throws SQLException {
+    OracleConnection connection = mockConnection();
+    Array array = mock(Array.class);
+    when(connection.createOracleArray(eq(TYPE_NAME), aryEq(VALUES))).thenReturn(array);
+    OraclePreparedStatement first = mockStatement(connection);
+    OraclePreparedStatement second = mockStatement(connection);
+
+    SharedSqlOracleArrayValue value = new SharedSqlOracleArrayValue(TYPE_NAME, VALUES);
+    NamedSqlValue firstBinding = value.newBinding();
+    NamedSqlValue secondBinding = value.newBinding();
+    firstBinding.setValue(first, "ids");
+    secondBinding.setValue(second, "ids");
+
+    firstBinding.cleanup();
+    firstBinding.cleanup();
+    verify(array, never()).free();
+    secondBinding.cleanup();
+    verify(array).free();
+    verify(connection, times(1)).createOracleArray(eq(TYPE_NAME), aryEq(VALUES));
+  }
+
+  @Test
+  public void createOutsideOfLock() throws Exception {
+    OracleConnection slowConnection = mockConnection();
+    OracleConnection fastConnection = mockConnection();
+    CountDownLatch creating = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Array slowArray = mock(Array.class);
+    Array fastArray = mock(Array.class);
+    when(slowConnection.createOracleArray(eq(TYPE_NAME), aryEq(VALUES))).thenAnswer(invocation -> {
+      creating.countDown();
+      assertTrue(release.await(10L, TimeUnit.SECONDS));
+      return slowArray;
+    });
+    when(fastConnection.createOracleArray(eq(TYPE_NAME), aryEq(VALUES))).thenReturn(fastArray);
+
+    SharedSqlOracleArrayValue value = new SharedSqlOracleArrayValue(TYPE_NAME, VALUES);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      OraclePreparedStatement slowStatement = mockStatement(slowConnection);
+      Future<?> slowBind = executor.submit(() -> {
+        value.setValue(slowStatement, "ids");
+        return null;
+      });
+      assertTrue(creating.await(10L, TimeUnit.SECONDS));
+
+      // does not wait for the array of the other connection
+      OraclePreparedStatement fastStatement = mockStatement(fastConnection);
+      value.setValue(fastStatement, "ids");
+      verify(fastStatement).setArrayAtName("ids", fastArray);
+
+      release.countDown();
+      slowBind.get();
+      verify(slowStatement).setArrayAtName("ids", slowArray);
+    } finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void failedCreationIsRetried() throws SQLException {
+    OracleConnection connection = mockConnection();
+    Array array = mock(Array.class);
+    when(connection.createOracleArray(eq(TYPE_NAME), aryEq(VALUES)))
+        .thenThrow(new SQLException("type not found"))
+        .thenReturn(array);
+    OraclePreparedStatement statement = mockStatement(connection);
+
+    SharedSqlOracleArrayValue value = new SharedSqlOracleArrayValue(TYPE_NAME, VALUES);
+    assertThrows(SQLException.class, () -> value.setValue(statement, "ids"));
+    value.setValue(statement, "ids");
+
+    verify(statement).setArrayAtName("ids", array);
+    value.cleanup();
+    verify(array).free();
+  }
+
+  @Test
+  public void arrayPerConnection() throws SQLException {
+    OracleConnection firstConnection = mockConnection();
+    OracleConnection secondConnection = mockConnection();
+    Array firstArray = mock(Array.class);
+    Array secondArray = mock(Array.class);
+    when(firstConnection.createOracleArray(eq(TYPE_NAME), aryEq(VALUES))).thenReturn(firstArray);
+    when(secondConnection.createOracleArray(eq(TYPE_NAME), aryEq(VALUES))).thenReturn(secondArray);
+
+    SharedSqlOracleArrayValue value = new SharedSqlOracleArrayValue(TYPE_NAME, VALUES);
+    OraclePreparedStatement first = mockStatement(firstConnection);
+    OraclePreparedStatement second = mockStatement(secondConnection);
+    value.setValue(first, "ids");
+    value.setValue(second, "ids");
+
+    verify(first).setArrayAtName("ids", firstArray);
+    verify(second).setArrayAtName("ids", secondArray);
+
+    // one cleanup per bind
+    value.cleanup();
+    value.cleanup();
+    verify(firstArray).free();
+    verify(secondArray).free();
+  }
+
+  @Test
+  public void transactionScoped() throws SQLException {
+    OracleConnection connection = mockConnection();
+    Array array = mock(Array.class);
+    when(connection.createOracleArray(eq(TYPE_NAME), aryEq(VALUES))).thenReturn(array);
+    OraclePreparedStatement statement = mockStatement(connection);
+
+    TransactionSynchronizationManager.initSynchronization();
+    SharedSqlOracleArrayValue value = new SharedSqlOracleArrayValue(TYPE_NAME, VALUES).transactionScoped();
+    value.setValue(statement, "ids");
+    value.cleanup();
+    value.setValue(statement, "ids");
+    value.cleanup();
+
+    verify(connection, times(1)).createOracleArray(eq(TYPE_NAME), aryEq(VALUES));
+    verify(array, never()).free();
+
+    for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+      synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+    }
+    verify(array).free();
+  }
+
+  private static OracleConnection mockConnection() throws SQLException {
+    OracleConnection connection = mock(OracleConnection.class);
+    when(connection.unwrap(OracleConnection.class)).thenReturn(connection);
+    return connection;
+  }
+
+  private static OraclePreparedStatement mockStatement(OracleConnection connection) throws SQLException {
+    OraclePreparedStatement statement = mock(OraclePreparedStatement.class);
+    when(statement.getConnection()).thenReturn(connection);
+    when(statement.unwrap(OraclePreparedStatement.class)).thenReturn(statement);
+    return statement;
+  }
+
+}
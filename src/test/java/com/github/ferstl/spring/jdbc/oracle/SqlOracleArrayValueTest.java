@@ -1,5 +1,9 @@
 package com.github.ferstl.spring.jdbc.oracle;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -9,6 +13,9 @@ import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,4 +54,57 @@ public class SqlOracleArrayValueTest {
 
   }
 
+  @Test
+  public void primitiveValues() throws SQLException {
+    long[] values = new long[] {1L, 2L, 3L};
+    String typeName = "CUSTOM_ARRAY_TYPE";
+    String paramName = "parameter1";
+    NamedSqlValue value = SqlOracleArrayValue.of(typeName, LongStream.of(values));
+
+    Connection connection = mock(Connection.class);
+    OracleConnection oracleConnection = mock(OracleConnection.class);
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    OraclePreparedStatement oraclePreparedStatement = mock(OraclePreparedStatement.class);
+    Array array = mock(Array.class);
+
+    when(connection.unwrap(OracleConnection.class)).thenReturn(oracleConnection);
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(oraclePreparedStatement);
+    when(preparedStatement.getConnection()).thenReturn(connection);
+
+    when(oracleConnection.createOracleArray(eq(typeName), aryEq(values))).thenReturn(array);
+
+    value.setValue(preparedStatement, paramName);
+
+    verify(oraclePreparedStatement).setArrayAtName(paramName, array);
+    assertEquals("[1, 2, 3]", value.toString());
+  }
+
+  @Test
+  public void uuidValues() throws SQLException {
+    UUID uuid = UUID.fromString("00112233-4455-6677-8899-aabbccddeeff");
+    String typeName = "RAW16_TABLE_TYPE";
+    String paramName = "parameter1";
+    SqlOracleArrayValue value = SqlOracleArrayValue.ofUuids(typeName, Arrays.asList(uuid, null));
+
+    Connection connection = mock(Connection.class);
+    OracleConnection oracleConnection = mock(OracleConnection.class);
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    OraclePreparedStatement oraclePreparedStatement = mock(OraclePreparedStatement.class);
+    Array array = mock(Array.class);
+
+    when(connection.unwrap(OracleConnection.class)).thenReturn(oracleConnection);
+    when(preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(oraclePreparedStatement);
+    when(preparedStatement.getConnection()).thenReturn(connection);
+
+    byte[] raw = new byte[] {0x00, 0x11, 0x22, 0x33, 0x44, 0x55, 0x66, 0x77,
+        (byte) 0x88, (byte) 0x99, (byte) 0xaa, (byte) 0xbb, (byte) 0xcc, (byte) 0xdd, (byte) 0xee, (byte) 0xff};
+    when(oracleConnection.createOracleArray(eq(typeName), argThat(elements -> Arrays.deepEquals((Object[]) elements, new Object[] {raw, null}))))
+        .thenReturn(array);
+
+    value.setValue(preparedStatement, paramName);
+
+    verify(oraclePreparedStatement).setArrayAtName(paramName, array);
+    assertEquals(2, value.getLength());
+  }
+
 }
@@ -0,0 +1,101 @@
+package com.github.ferstl.spring.jdbc.oracle;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.sql.Struct;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import oracle.jdbc.OracleConnection;
+import oracle.jdbc.OraclePreparedStatement;
+
+public class SqlOracleStructArrayValueTest {
+
+  @Test
+  public void bean() throws SQLException {
+    OracleConnection connection = mock(OracleConnection.class);
+    OraclePreparedStatement statement = mock(OraclePreparedStatement.class);
+    Struct first = mock(Struct.class);
+    Struct second = mock(Struct.class);
+    Array array = mock(Array.class);
+    when(statement.getConnection()).thenReturn(connection);
+    when(statement.unwrap(OraclePreparedStatement.class)).thenReturn(statement);
+    when(connection.unwrap(OracleConnection.class)).thenReturn(connection);
+    when(connection.createStruct(eq("ROW_TYPE"), aryEq(new Object[] {1L, "one"}))).thenReturn(first);
+    when(connection.createStruct(eq("ROW_TYPE"), aryEq(new Object[] {2L, "two"}))).thenReturn(second);
+    when(connection.createOracleArray(eq("ROW_TABLE_TYPE"), aryEq(new Struct[] {first, second}))).thenReturn(array);
+
+    StructMapper<Row> mapper = StructMapper.ofBean("ROW_TYPE", Row.class, "id", "name");
+    SqlOracleStructArrayValue<Row> value = new SqlOracleStructArrayValue<>("ROW_TABLE_TYPE", mapper,
+            Arrays.asList(new Row(1L, "one"), new Row(2L, "two")));
+    value.setValue(statement, "rows");
+
+    verify(statement).setArrayAtName("rows", array);
+    value.cleanup();
+    verify(array).free();
+  }
+
+  @Test
+  public void convertAttributes() {
+    UUID uuid = new UUID(1L, 2L);
+    LocalDate date = LocalDate.of(2020, 2, 29);
+    StructMapper<Object> mapper = StructMapper.of("ROW_TYPE", row -> uuid, row -> date, row -> null);
+
+    Object[] attributes = mapper.toAttributes(new Object());
+    assertArrayEquals(UuidUtils.toByteArray(uuid), (byte[]) attributes[0]);
+    assertArrayEquals(new Object[] {java.sql.Date.valueOf(date), null}, Arrays.copyOfRange(attributes, 1, 3));
+  }
+
+  @Test
+  public void unknownProperty() {
+    assertThrows(IllegalArgumentException.class, () -> StructMapper.ofBean("ROW_TYPE", Row.class, "id", "unknown"));
+  }
+
+  @Test
+  public void bindOnce() throws SQLException {
+    OracleConnection connection = mock(OracleConnection.class);
+    OraclePreparedStatement statement = mock(OraclePreparedStatement.class);
+    when(statement.getConnection()).thenReturn(connection);
+    when(statement.unwrap(OraclePreparedStatement.class)).thenReturn(statement);
+    when(connection.unwrap(OracleConnection.class)).thenReturn(connection);
+    when(connection.createOracleArray(eq("ROW_TABLE_TYPE"), any())).thenReturn(mock(Array.class));
+
+    SqlOracleStructArrayValue<Row> value = new SqlOracleStructArrayValue<>("ROW_TABLE_TYPE",
+            StructMapper.of("ROW_TYPE", Row::getId), Arrays.asList(new Row(1L, "one")));
+    value.setValue(statement, "rows");
+    assertThrows(RuntimeException.class, () -> value.setValue(statement, "rows"));
+  }
+
+  public static final class Row {
+
+    private final long id;
+    private final String name;
+
+    Row(long id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+
+    public long getId() {
+      return this.id;
+    }
+
+    public String getName() {
+      return this.name;
+    }
+
+  }
+
+}
@@ -0,0 +1,115 @@
+package com.github.ferstl.spring.jdbc.oracle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import oracle.jdbc.OracleConnection;
+import oracle.jdbc.OraclePreparedStatement;
+
+public class StatementCacheWarmUpTest {
+
+  private static final String SQL = "SELECT 1 FROM dual";
+
+  private OracleConnection connection;
+  private OraclePreparedStatement preparedStatement;
+  private StatementCacheWarmUp warmUp;
+
+  @BeforeEach
+  public void setUp() throws SQLException {
+    this.connection = mock(OracleConnection.class);
+    when(this.connection.unwrap(OracleConnection.class)).thenReturn(this.connection);
+
+    this.preparedStatement = mock(OraclePreparedStatement.class);
+    when(this.preparedStatement.unwrap(OraclePreparedStatement.class)).thenReturn(this.preparedStatement);
+    when(this.connection.prepareStatement(SQL)).thenReturn(this.preparedStatement);
+
+    this.warmUp = new StatementCacheWarmUp()
+            .register("first", SQL)
+            .register("second", SQL);
+  }
+
+  @Test
+  public void primeOnlyMissing() throws SQLException {
+    when(this.connection.getStatementWithKey("first")).thenReturn(this.preparedStatement);
+
+    assertEquals(1, this.warmUp.prime(this.connection));
+
+    verify(this.connection, times(1)).prepareStatement(SQL);
+    verify(this.preparedStatement).closeWithKey("first");
+    verify(this.preparedStatement).closeWithKey("second");
+    verify(this.preparedStatement).getMetaData();
+    verify(this.preparedStatement, never()).close();
+  }
+
+  @Test
+  public void warmUpInParallel() throws SQLException {
+    DataSource dataSource = mock(DataSource.class);
+    Connection first = mockConnection();
+    Connection second = mockConnection();
+    when(dataSource.getConnection()).thenReturn(first, second);
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      assertEquals(4, this.warmUp.warmUp(dataSource, 2, executor));
+    } finally {
+      executor.shutdown();
+    }
+
+    verify(first).close();
+    verify(second).close();
+  }
+
+  @Test
+  public void warmUpFailureClosesConnections() throws SQLException {
+    DataSource dataSource = mock(DataSource.class);
+    Connection first = mockConnection();
+    when(dataSource.getConnection()).thenReturn(first).thenThrow(new SQLException("pool exhausted"));
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      assertThrows(SQLException.class, () -> this.warmUp.warmUp(dataSource, 2, executor));
+    } finally {
+      executor.shutdown();
+    }
+
+    verify(first).close();
+  }
+
+  @Test
+  public void dataSourcePrimesPhysicalConnectionOnce() throws SQLException {
+    DataSource target = mock(DataSource.class);
+    when(target.getConnection()).thenReturn(this.connection);
+
+    StatementCacheWarmingDataSource dataSource = new StatementCacheWarmingDataSource(target, this.warmUp);
+    dataSource.afterPropertiesSet();
+    dataSource.getConnection();
+    dataSource.getConnection();
+
+    verify(this.connection, times(2)).prepareStatement(SQL);
+  }
+
+  private static Connection mockConnection() throws SQLException {
+    OracleConnection connection = mock(OracleConnection.class);
+    when(connection.unwrap(OracleConnection.class)).thenReturn(connection);
+    OraclePreparedStatement statement = mock(OraclePreparedStatement.class);
+    when(statement.unwrap(OraclePreparedStatement.class)).thenReturn(statement);
+    when(connection.prepareStatement(SQL)).thenReturn(statement);
+    return connection;
+  }
+
+}
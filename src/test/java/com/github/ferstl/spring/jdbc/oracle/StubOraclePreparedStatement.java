@@ -0,0 +1,1059 @@
+/*
+ * Copyright (c) 2021 by Philippe Marschall <philippe.marschall@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.ferstl.spring.jdbc.oracle;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+import oracle.jdbc.OracleParameterMetaData;
+import oracle.jdbc.OraclePreparedStatement;
+import oracle.jdbc.dcn.DatabaseChangeRegistration;
+
+/**
+ * An {@link OraclePreparedStatement} that does nothing and does not allocate.
+ * Used to measure the binding overhead without a database.
+ */
+@SuppressWarnings("deprecation")
+class StubOraclePreparedStatement implements OraclePreparedStatement {
+
+  @Override
+  public OracleParameterMetaData OracleGetParameterMetaData() throws SQLException {
+    return null;
+  }
+
+  @Override
+  public void addBatch() throws SQLException {
+  }
+
+  @Override
+  public void addBatch(String arg0) throws SQLException {
+  }
+
+  @Override
+  public void cancel() throws SQLException {
+  }
+
+  @Override
+  public void clearBatch() throws SQLException {
+  }
+
+  @Override
+  public void clearDefines() throws SQLException {
+  }
+
+  @Override
+  public void clearParameters() throws SQLException {
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+  }
+
+  @Override
+  public void closeOnCompletion() throws SQLException {
+  }
+
+  @Override
+  public void closeWithKey(String arg0) throws SQLException {
+  }
+
+  @Override
+  public void close() throws SQLException {
+  }
+
+  @Override
+  public int creationState() {
+    return 0;
+  }
+
+  @Override
+  public void defineColumnTypeBytes(int arg0, int arg1, int arg2) throws SQLException {
+  }
+
+  @Override
+  public void defineColumnTypeChars(int arg0, int arg1, int arg2) throws SQLException {
+  }
+
+  @Override
+  public void defineColumnType(int arg0, int arg1, String arg2) throws SQLException {
+  }
+
+  @Override
+  public void defineColumnType(int arg0, int arg1, int arg2, short arg3) throws SQLException {
+  }
+
+  @Override
+  public void defineColumnType(int arg0, int arg1, int arg2) throws SQLException {
+  }
+
+  @Override
+  public void defineColumnType(int arg0, int arg1) throws SQLException {
+  }
+
+  @Override
+  public void defineParameterTypeBytes(int arg0, int arg1, int arg2) throws SQLException {
+  }
+
+  @Override
+  public void defineParameterTypeChars(int arg0, int arg1, int arg2) throws SQLException {
+  }
+
+  @Override
+  public void defineParameterType(int arg0, int arg1, int arg2) throws SQLException {
+  }
+
+  @Override
+  public int[] executeBatch() throws SQLException {
+    return null;
+  }
+
+  @Override
+  public ResultSet executeQuery() throws SQLException {
+    return null;
+  }
+
+  @Override
+  public ResultSet executeQuery(String arg0) throws SQLException {
+    return null;
+  }
+
+  @Override
+  public int executeUpdate() throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public int executeUpdate(String arg0, int[] arg1) throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public int executeUpdate(String arg0, String[] arg1) throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public int executeUpdate(String arg0, int arg1) throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public int executeUpdate(String arg0) throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public boolean execute() throws SQLException {
+    return false;
+  }
+
+  @Override
+  public boolean execute(String arg0, int[] arg1) throws SQLException {
+    return false;
+  }
+
+  @Override
+  public boolean execute(String arg0, String[] arg1) throws SQLException {
+    return false;
+  }
+
+  @Override
+  public boolean execute(String arg0, int arg1) throws SQLException {
+    return false;
+  }
+
+  @Override
+  public boolean execute(String arg0) throws SQLException {
+    return false;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return null;
+  }
+
+  @Override
+  public int getExecuteBatch() {
+    return 0;
+  }
+
+  @Override
+  public int getFetchDirection() throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public int getFetchSize() throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public ResultSet getGeneratedKeys() throws SQLException {
+    return null;
+  }
+
+  @Override
+  public int getLobPrefetchSize() throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public int getMaxFieldSize() throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public int getMaxRows() throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public ResultSetMetaData getMetaData() throws SQLException {
+    return null;
+  }
+
+  @Override
+  public boolean getMoreResults() throws SQLException {
+    return false;
+  }
+
+  @Override
+  public boolean getMoreResults(int arg0) throws SQLException {
+    return false;
+  }
+
+  @Override
+  public ParameterMetaData getParameterMetaData() throws SQLException {
+    return null;
+  }
+
+  @Override
+  public int getQueryTimeout() throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public long getRegisteredQueryId() throws SQLException {
+    return 0L;
+  }
+
+  @Override
+  public String[] getRegisteredTableNames() throws SQLException {
+    return null;
+  }
+
+  @Override
+  public int getResultSetConcurrency() throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public int getResultSetHoldability() throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public int getResultSetType() throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public ResultSet getResultSet() throws SQLException {
+    return null;
+  }
+
+  @Override
+  public ResultSet getReturnResultSet() throws SQLException {
+    return null;
+  }
+
+  @Override
+  public int getRowPrefetch() {
+    return 0;
+  }
+
+  @Override
+  public int getUpdateCount() throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    return null;
+  }
+
+  @Override
+  public boolean isCloseOnCompletion() throws SQLException {
+    return false;
+  }
+
+  @Override
+  public boolean isClosed() throws SQLException {
+    return false;
+  }
+
+  @Override
+  public boolean isNCHAR(int arg0) throws SQLException {
+    return false;
+  }
+
+  @Override
+  public boolean isPoolable() throws SQLException {
+    return false;
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(this);
+  }
+
+  @Override
+  public void registerReturnParameter(int arg0, int arg1, String arg2) throws SQLException {
+  }
+
+  @Override
+  public void registerReturnParameter(int arg0, int arg1, int arg2) throws SQLException {
+  }
+
+  @Override
+  public void registerReturnParameter(int arg0, int arg1) throws SQLException {
+  }
+
+  @Override
+  public int sendBatch() throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public void setARRAYAtName(String arg0, oracle.sql.ARRAY arg1) throws SQLException {
+  }
+
+  @Override
+  public void setARRAY(int arg0, oracle.sql.ARRAY arg1) throws SQLException {
+  }
+
+  @Override
+  public void setArrayAtName(String arg0, Array arg1) throws SQLException {
+  }
+
+  @Override
+  public void setArray(int arg0, Array arg1) throws SQLException {
+  }
+
+  @Override
+  public void setAsciiStreamAtName(String arg0, InputStream arg1, int arg2) throws SQLException {
+  }
+
+  @Override
+  public void setAsciiStreamAtName(String arg0, InputStream arg1, long arg2) throws SQLException {
+  }
+
+  @Override
+  public void setAsciiStreamAtName(String arg0, InputStream arg1) throws SQLException {
+  }
+
+  @Override
+  public void setAsciiStream(int arg0, InputStream arg1, int arg2) throws SQLException {
+  }
+
+  @Override
+  public void setAsciiStream(int arg0, InputStream arg1, long arg2) throws SQLException {
+  }
+
+  @Override
+  public void setAsciiStream(int arg0, InputStream arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBFILEAtName(String arg0, oracle.sql.BFILE arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBFILE(int arg0, oracle.sql.BFILE arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBLOBAtName(String arg0, oracle.sql.BLOB arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBLOB(int arg0, oracle.sql.BLOB arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBfileAtName(String arg0, oracle.sql.BFILE arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBfile(int arg0, oracle.sql.BFILE arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBigDecimalAtName(String arg0, BigDecimal arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBigDecimal(int arg0, BigDecimal arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBinaryDoubleAtName(String arg0, oracle.sql.BINARY_DOUBLE arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBinaryDoubleAtName(String arg0, double arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBinaryDouble(int arg0, oracle.sql.BINARY_DOUBLE arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBinaryDouble(int arg0, double arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBinaryFloatAtName(String arg0, oracle.sql.BINARY_FLOAT arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBinaryFloatAtName(String arg0, float arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBinaryFloat(int arg0, oracle.sql.BINARY_FLOAT arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBinaryFloat(int arg0, float arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBinaryStreamAtName(String arg0, InputStream arg1, int arg2) throws SQLException {
+  }
+
+  @Override
+  public void setBinaryStreamAtName(String arg0, InputStream arg1, long arg2) throws SQLException {
+  }
+
+  @Override
+  public void setBinaryStreamAtName(String arg0, InputStream arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBinaryStream(int arg0, InputStream arg1, int arg2) throws SQLException {
+  }
+
+  @Override
+  public void setBinaryStream(int arg0, InputStream arg1, long arg2) throws SQLException {
+  }
+
+  @Override
+  public void setBinaryStream(int arg0, InputStream arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBlobAtName(String arg0, InputStream arg1, long arg2) throws SQLException {
+  }
+
+  @Override
+  public void setBlobAtName(String arg0, InputStream arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBlobAtName(String arg0, Blob arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBlob(int arg0, InputStream arg1, long arg2) throws SQLException {
+  }
+
+  @Override
+  public void setBlob(int arg0, InputStream arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBlob(int arg0, Blob arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBooleanAtName(String arg0, boolean arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBoolean(int arg0, boolean arg1) throws SQLException {
+  }
+
+  @Override
+  public void setByteAtName(String arg0, byte arg1) throws SQLException {
+  }
+
+  @Override
+  public void setByte(int arg0, byte arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBytesAtName(String arg0, byte[] arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBytesForBlobAtName(String arg0, byte[] arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBytesForBlob(int arg0, byte[] arg1) throws SQLException {
+  }
+
+  @Override
+  public void setBytes(int arg0, byte[] arg1) throws SQLException {
+  }
+
+  @Override
+  public void setCHARAtName(String arg0, oracle.sql.CHAR arg1) throws SQLException {
+  }
+
+  @Override
+  public void setCHAR(int arg0, oracle.sql.CHAR arg1) throws SQLException {
+  }
+
+  @Override
+  public void setCLOBAtName(String arg0, oracle.sql.CLOB arg1) throws SQLException {
+  }
+
+  @Override
+  public void setCLOB(int arg0, oracle.sql.CLOB arg1) throws SQLException {
+  }
+
+  @Override
+  public void setCharacterStreamAtName(String arg0, Reader arg1, long arg2) throws SQLException {
+  }
+
+  @Override
+  public void setCharacterStreamAtName(String arg0, Reader arg1) throws SQLException {
+  }
+
+  @Override
+  public void setCharacterStream(int arg0, Reader arg1, int arg2) throws SQLException {
+  }
+
+  @Override
+  public void setCharacterStream(int arg0, Reader arg1, long arg2) throws SQLException {
+  }
+
+  @Override
+  public void setCharacterStream(int arg0, Reader arg1) throws SQLException {
+  }
+
+  @Override
+  public void setCheckBindTypes(boolean arg0) {
+  }
+
+  @Override
+  public void setClobAtName(String arg0, Reader arg1, long arg2) throws SQLException {
+  }
+
+  @Override
+  public void setClobAtName(String arg0, Reader arg1) throws SQLException {
+  }
+
+  @Override
+  public void setClobAtName(String arg0, Clob arg1) throws SQLException {
+  }
+
+  @Override
+  public void setClob(int arg0, Reader arg1, long arg2) throws SQLException {
+  }
+
+  @Override
+  public void setClob(int arg0, Reader arg1) throws SQLException {
+  }
+
+  @Override
+  public void setClob(int arg0, Clob arg1) throws SQLException {
+  }
+
+  @Override
+  public void setCursorAtName(String arg0, ResultSet arg1) throws SQLException {
+  }
+
+  @Override
+  public void setCursorName(String arg0) throws SQLException {
+  }
+
+  @Override
+  public void setCursor(int arg0, ResultSet arg1) throws SQLException {
+  }
+
+  @Override
+  public void setCustomDatumAtName(String arg0, oracle.sql.CustomDatum arg1) throws SQLException {
+  }
+
+  @Override
+  public void setCustomDatum(int arg0, oracle.sql.CustomDatum arg1) throws SQLException {
+  }
+
+  @Override
+  public void setDATEAtName(String arg0, oracle.sql.DATE arg1) throws SQLException {
+  }
+
+  @Override
+  public void setDATE(int arg0, oracle.sql.DATE arg1) throws SQLException {
+  }
+
+  @Override
+  public void setDatabaseChangeRegistration(DatabaseChangeRegistration arg0) throws SQLException {
+  }
+
+  @Override
+  public void setDateAtName(String arg0, Date arg1, Calendar arg2) throws SQLException {
+  }
+
+  @Override
+  public void setDateAtName(String arg0, Date arg1) throws SQLException {
+  }
+
+  @Override
+  public void setDate(int arg0, Date arg1, Calendar arg2) throws SQLException {
+  }
+
+  @Override
+  public void setDate(int arg0, Date arg1) throws SQLException {
+  }
+
+  @Override
+  public void setDisableStmtCaching(boolean arg0) {
+  }
+
+  @Override
+  public void setDoubleAtName(String arg0, double arg1) throws SQLException {
+  }
+
+  @Override
+  public void setDouble(int arg0, double arg1) throws SQLException {
+  }
+
+  @Override
+  public void setEscapeProcessing(boolean arg0) throws SQLException {
+  }
+
+  @Override
+  public void setExecuteBatch(int arg0) throws SQLException {
+  }
+
+  @Override
+  public void setFetchDirection(int arg0) throws SQLException {
+  }
+
+  @Override
+  public void setFetchSize(int arg0) throws SQLException {
+  }
+
+  @Override
+  public void setFixedCHARAtName(String arg0, String arg1) throws SQLException {
+  }
+
+  @Override
+  public void setFixedCHAR(int arg0, String arg1) throws SQLException {
+  }
+
+  @Override
+  public void setFloatAtName(String arg0, float arg1) throws SQLException {
+  }
+
+  @Override
+  public void setFloat(int arg0, float arg1) throws SQLException {
+  }
+
+  @Override
+  public void setFormOfUse(int arg0, short arg1) {
+  }
+
+  @Override
+  public void setINTERVALDSAtName(String arg0, oracle.sql.INTERVALDS arg1) throws SQLException {
+  }
+
+  @Override
+  public void setINTERVALDS(int arg0, oracle.sql.INTERVALDS arg1) throws SQLException {
+  }
+
+  @Override
+  public void setINTERVALYMAtName(String arg0, oracle.sql.INTERVALYM arg1) throws SQLException {
+  }
+
+  @Override
+  public void setINTERVALYM(int arg0, oracle.sql.INTERVALYM arg1) throws SQLException {
+  }
+
+  @Override
+  public void setIntAtName(String arg0, int arg1) throws SQLException {
+  }
+
+  @Override
+  public void setInt(int arg0, int arg1) throws SQLException {
+  }
+
+  @Override
+  public void setLobPrefetchSize(int arg0) throws SQLException {
+  }
+
+  @Override
+  public void setLongAtName(String arg0, long arg1) throws SQLException {
+  }
+
+  @Override
+  public void setLong(int arg0, long arg1) throws SQLException {
+  }
+
+  @Override
+  public void setMaxFieldSize(int arg0) throws SQLException {
+  }
+
+  @Override
+  public void setMaxRows(int arg0) throws SQLException {
+  }
+
+  @Override
+  public void setNCharacterStreamAtName(String arg0, Reader arg1, long arg2) throws SQLException {
+  }
+
+  @Override
+  public void setNCharacterStreamAtName(String arg0, Reader arg1) throws SQLException {
+  }
+
+  @Override
+  public void setNCharacterStream(int arg0, Reader arg1, long arg2) throws SQLException {
+  }
+
+  @Override
+  public void setNCharacterStream(int arg0, Reader arg1) throws SQLException {
+  }
+
+  @Override
+  public void setNClobAtName(String arg0, Reader arg1, long arg2) throws SQLException {
+  }
+
+  @Override
+  public void setNClobAtName(String arg0, Reader arg1) throws SQLException {
+  }
+
+  @Override
+  public void setNClobAtName(String arg0, NClob arg1) throws SQLException {
+  }
+
+  @Override
+  public void setNClob(int arg0, Reader arg1, long arg2) throws SQLException {
+  }
+
+  @Override
+  public void setNClob(int arg0, Reader arg1) throws SQLException {
+  }
+
+  @Override
+  public void setNClob(int arg0, NClob arg1) throws SQLException {
+  }
+
+  @Override
+  public void setNStringAtName(String arg0, String arg1) throws SQLException {
+  }
+
+  @Override
+  public void setNString(int arg0, String arg1) throws SQLException {
+  }
+
+  @Override
+  public void setNUMBERAtName(String arg0, oracle.sql.NUMBER arg1) throws SQLException {
+  }
+
+  @Override
+  public void setNUMBER(int arg0, oracle.sql.NUMBER arg1) throws SQLException {
+  }
+
+  @Override
+  public void setNullAtName(String arg0, int arg1, String arg2) throws SQLException {
+  }
+
+  @Override
+  public void setNullAtName(String arg0, int arg1) throws SQLException {
+  }
+
+  @Override
+  public void setNull(int arg0, int arg1, String arg2) throws SQLException {
+  }
+
+  @Override
+  public void setNull(int arg0, int arg1) throws SQLException {
+  }
+
+  @Override
+  public void setOPAQUEAtName(String arg0, oracle.sql.OPAQUE arg1) throws SQLException {
+  }
+
+  @Override
+  public void setOPAQUE(int arg0, oracle.sql.OPAQUE arg1) throws SQLException {
+  }
+
+  @Override
+  public void setORADataAtName(String arg0, oracle.sql.ORAData arg1) throws SQLException {
+  }
+
+  @Override
+  public void setORAData(int arg0, oracle.sql.ORAData arg1) throws SQLException {
+  }
+
+  @Override
+  public void setObjectAtName(String arg0, Object arg1, int arg2, int arg3) throws SQLException {
+  }
+
+  @Override
+  public void setObjectAtName(String arg0, Object arg1, int arg2) throws SQLException {
+  }
+
+  @Override
+  public void setObjectAtName(String arg0, Object arg1) throws SQLException {
+  }
+
+  @Override
+  public void setObject(int arg0, Object arg1, int arg2, int arg3) throws SQLException {
+  }
+
+  @Override
+  public void setObject(int arg0, Object arg1, int arg2) throws SQLException {
+  }
+
+  @Override
+  public void setObject(int arg0, Object arg1) throws SQLException {
+  }
+
+  @Override
+  public void setOracleObjectAtName(String arg0, oracle.sql.Datum arg1) throws SQLException {
+  }
+
+  @Override
+  public void setOracleObject(int arg0, oracle.sql.Datum arg1) throws SQLException {
+  }
+
+  @Override
+  public void setPlsqlIndexTable(int arg0, Object arg1, int arg2, int arg3, int arg4, int arg5) throws SQLException {
+  }
+
+  @Override
+  public void setPoolable(boolean arg0) throws SQLException {
+  }
+
+  @Override
+  public void setQueryTimeout(int arg0) throws SQLException {
+  }
+
+  @Override
+  public void setRAWAtName(String arg0, oracle.sql.RAW arg1) throws SQLException {
+  }
+
+  @Override
+  public void setRAW(int arg0, oracle.sql.RAW arg1) throws SQLException {
+  }
+
+  @Override
+  public void setREFAtName(String arg0, oracle.sql.REF arg1) throws SQLException {
+  }
+
+  @Override
+  public void setREF(int arg0, oracle.sql.REF arg1) throws SQLException {
+  }
+
+  @Override
+  public void setROWIDAtName(String arg0, oracle.sql.ROWID arg1) throws SQLException {
+  }
+
+  @Override
+  public void setROWID(int arg0, oracle.sql.ROWID arg1) throws SQLException {
+  }
+
+  @Override
+  public void setRefAtName(String arg0, Ref arg1) throws SQLException {
+  }
+
+  @Override
+  public void setRefTypeAtName(String arg0, oracle.sql.REF arg1) throws SQLException {
+  }
+
+  @Override
+  public void setRefType(int arg0, oracle.sql.REF arg1) throws SQLException {
+  }
+
+  @Override
+  public void setRef(int arg0, Ref arg1) throws SQLException {
+  }
+
+  @Override
+  public void setRowIdAtName(String arg0, RowId arg1) throws SQLException {
+  }
+
+  @Override
+  public void setRowId(int arg0, RowId arg1) throws SQLException {
+  }
+
+  @Override
+  public void setRowPrefetch(int arg0) throws SQLException {
+  }
+
+  @Override
+  public void setSQLXMLAtName(String arg0, SQLXML arg1) throws SQLException {
+  }
+
+  @Override
+  public void setSQLXML(int arg0, SQLXML arg1) throws SQLException {
+  }
+
+  @Override
+  public void setSTRUCTAtName(String arg0, oracle.sql.STRUCT arg1) throws SQLException {
+  }
+
+  @Override
+  public void setSTRUCT(int arg0, oracle.sql.STRUCT arg1) throws SQLException {
+  }
+
+  @Override
+  public void setShortAtName(String arg0, short arg1) throws SQLException {
+  }
+
+  @Override
+  public void setShort(int arg0, short arg1) throws SQLException {
+  }
+
+  @Override
+  public void setStringAtName(String arg0, String arg1) throws SQLException {
+  }
+
+  @Override
+  public void setStringForClobAtName(String arg0, String arg1) throws SQLException {
+  }
+
+  @Override
+  public void setStringForClob(int arg0, String arg1) throws SQLException {
+  }
+
+  @Override
+  public void setString(int arg0, String arg1) throws SQLException {
+  }
+
+  @Override
+  public void setStructDescriptorAtName(String arg0, oracle.sql.StructDescriptor arg1) throws SQLException {
+  }
+
+  @Override
+  public void setStructDescriptor(int arg0, oracle.sql.StructDescriptor arg1) throws SQLException {
+  }
+
+  @Override
+  public void setTIMESTAMPAtName(String arg0, oracle.sql.TIMESTAMP arg1) throws SQLException {
+  }
+
+  @Override
+  public void setTIMESTAMPLTZAtName(String arg0, oracle.sql.TIMESTAMPLTZ arg1) throws SQLException {
+  }
+
+  @Override
+  public void setTIMESTAMPLTZ(int arg0, oracle.sql.TIMESTAMPLTZ arg1) throws SQLException {
+  }
+
+  @Override
+  public void setTIMESTAMPTZAtName(String arg0, oracle.sql.TIMESTAMPTZ arg1) throws SQLException {
+  }
+
+  @Override
+  public void setTIMESTAMPTZ(int arg0, oracle.sql.TIMESTAMPTZ arg1) throws SQLException {
+  }
+
+  @Override
+  public void setTIMESTAMP(int arg0, oracle.sql.TIMESTAMP arg1) throws SQLException {
+  }
+
+  @Override
+  public void setTimeAtName(String arg0, Time arg1, Calendar arg2) throws SQLException {
+  }
+
+  @Override
+  public void setTimeAtName(String arg0, Time arg1) throws SQLException {
+  }
+
+  @Override
+  public void setTime(int arg0, Time arg1, Calendar arg2) throws SQLException {
+  }
+
+  @Override
+  public void setTime(int arg0, Time arg1) throws SQLException {
+  }
+
+  @Override
+  public void setTimestampAtName(String arg0, Timestamp arg1, Calendar arg2) throws SQLException {
+  }
+
+  @Override
+  public void setTimestampAtName(String arg0, Timestamp arg1) throws SQLException {
+  }
+
+  @Override
+  public void setTimestamp(int arg0, Timestamp arg1, Calendar arg2) throws SQLException {
+  }
+
+  @Override
+  public void setTimestamp(int arg0, Timestamp arg1) throws SQLException {
+  }
+
+  @Override
+  public void setURLAtName(String arg0, URL arg1) throws SQLException {
+  }
+
+  @Override
+  public void setURL(int arg0, URL arg1) throws SQLException {
+  }
+
+  @Override
+  public void setUnicodeStreamAtName(String arg0, InputStream arg1, int arg2) throws SQLException {
+  }
+
+  @Override
+  public void setUnicodeStream(int arg0, InputStream arg1, int arg2) throws SQLException {
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (iface.isInstance(this)) {
+      return iface.cast(this);
+    }
+    throw new SQLException("not a wrapper for " + iface);
+  }
+
+}
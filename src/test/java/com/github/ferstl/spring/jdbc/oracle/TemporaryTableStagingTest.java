@@ -0,0 +1,184 @@
+package com.github.ferstl.spring.jdbc.oracle;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.SqlProvider;
+
+import oracle.jdbc.OracleConnection;
+import oracle.jdbc.OraclePreparedStatement;
+
+public class TemporaryTableStagingTest {
+
+  private static final String SQL = "SELECT val FROM test_table WHERE id IN ({keys})";
+
+  @Test
+  public void threshold() {
+    TemporaryTableStaging staging = new TemporaryTableStaging(mock(JdbcOperations.class), "key_staging", "key_value");
+    assertTrue(staging.isStaged(1));
+
+    staging.setArrayTypeRegistry(new ArrayTypeRegistry().registerNumberType("NUMBER_TABLE"));
+    staging.setThreshold(2);
+    assertFalse(staging.isStaged(2));
+    assertTrue(staging.isStaged(3));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void bindArrayBelowThreshold() {
+    JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+    TemporaryTableStaging staging = new TemporaryTableStaging(jdbcOperations, "key_staging", "key_value");
+    staging.setArrayTypeRegistry(new ArrayTypeRegistry().registerNumberType("NUMBER_TABLE"));
+
+    staging.query(SQL, Arrays.asList(1, 2), (rs, rowNum) -> rs.getString(1));
+
+    ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+    verify(jdbcOperations).query(creator.capture(), any(ResultSetExtractor.class));
+    assertEquals("SELECT val FROM test_table WHERE id IN (SELECT column_value FROM TABLE(:staging_keys))",
+            ((SqlProvider) creator.getValue()).getSql());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void stageAboveThreshold() throws SQLException {
+    Connection connection = mock(Connection.class);
+    PreparedStatement insert = mock(PreparedStatement.class);
+    OraclePreparedStatement oracleInsert = mock(OraclePreparedStatement.class);
+    PreparedStatement query = mock(PreparedStatement.class);
+    OraclePreparedStatement oracleQuery = mock(OraclePreparedStatement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+    PreparedStatement delete = mock(PreparedStatement.class);
+
+    when(connection.prepareStatement("INSERT INTO key_staging (key_value) VALUES (:key)")).thenReturn(insert);
+    when(insert.unwrap(OraclePreparedStatement.class)).thenReturn(oracleInsert);
+    when(insert.executeBatch()).thenReturn(new int[] {1, 1}, new int[] {1});
+    when(connection.prepareStatement("SELECT val FROM test_table WHERE id IN (SELECT key_value FROM key_staging)")).thenReturn(query);
+    when(query.unwrap(OraclePreparedStatement.class)).thenReturn(oracleQuery);
+    when(query.executeQuery()).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true, false);
+    when(resultSet.getString(1)).thenReturn("Value");
+    when(connection.prepareStatement("DELETE FROM key_staging")).thenReturn(delete);
+
+    JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+    when(jdbcOperations.execute(any(ConnectionCallback.class))).thenAnswer(
+            invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+
+    TemporaryTableStaging staging = new TemporaryTableStaging(jdbcOperations, "key_staging", "key_value");
+    staging.setBatchSize(2);
+    List<String> values = staging.query(SQL, Arrays.asList(1L, 2L, 3L), (rs, rowNum) -> rs.getString(1));
+
+    assertEquals(Arrays.asList("Value"), values);
+    verify(oracleInsert).setLongAtName("key", 1L);
+    verify(oracleInsert).setLongAtName("key", 2L);
+    verify(oracleInsert).setLongAtName("key", 3L);
+    verify(insert, times(2)).executeBatch();
+    verify(delete).executeUpdate();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void stageArraysAboveThreshold() throws SQLException {
+    Connection connection = mock(Connection.class);
+    PreparedStatement insert = mock(PreparedStatement.class);
+    OraclePreparedStatement oracleInsert = mock(OraclePreparedStatement.class);
+    PreparedStatement query = mock(PreparedStatement.class);
+    OraclePreparedStatement oracleQuery = mock(OraclePreparedStatement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+    PreparedStatement delete = mock(PreparedStatement.class);
+    Array array = mock(Array.class);
+
+    when(connection.prepareStatement("INSERT INTO key_staging (key_value) SELECT column_value FROM TABLE(:chunk)")).thenReturn(insert);
+    when(insert.unwrap(OraclePreparedStatement.class)).thenReturn(oracleInsert);
+    OracleConnection oracleConnection = mock(OracleConnection.class);
+    when(insert.getConnection()).thenReturn(connection);
+    when(connection.unwrap(OracleConnection.class)).thenReturn(oracleConnection);
+    when(oracleConnection.createOracleArray(eq("NUMBER_TABLE"), any())).thenReturn(array);
+    when(connection.prepareStatement("SELECT val FROM test_table WHERE id IN (SELECT key_value FROM key_staging)")).thenReturn(query);
+    when(query.unwrap(OraclePreparedStatement.class)).thenReturn(oracleQuery);
+    when(query.executeQuery()).thenReturn(resultSet);
+    when(connection.prepareStatement("DELETE FROM key_staging")).thenReturn(delete);
+
+    JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+    when(jdbcOperations.execute(any(ConnectionCallback.class))).thenAnswer(
+            invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+
+    OracleNamedParameterJdbcTemplate namedTemplate = new OracleNamedParameterJdbcTemplate(jdbcOperations);
+    namedTemplate.setArrayTypeRegistry(new ArrayTypeRegistry().registerNumberType("NUMBER_TABLE"));
+    TemporaryTableStaging staging = new TemporaryTableStaging(namedTemplate, "key_staging", "key_value");
+    staging.setThreshold(1);
+    staging.setBatchSize(2);
+    staging.query(SQL, Arrays.asList(1L, 2L, 3L), (rs, rowNum) -> rs.getString(1));
+
+    verify(insert, times(2)).executeUpdate();
+    verify(insert, never()).executeBatch();
+    verify(oracleInsert, times(2)).setArrayAtName("chunk", array);
+    verify(array, times(2)).free();
+    verify(delete).executeUpdate();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void clearFailureIsSuppressed() throws SQLException {
+    Connection connection = mock(Connection.class);
+    PreparedStatement insert = mock(PreparedStatement.class);
+    PreparedStatement delete = mock(PreparedStatement.class);
+    SQLException insertFailure = new SQLException("insert");
+    SQLException deleteFailure = new SQLException("delete");
+
+    when(connection.prepareStatement("INSERT INTO key_staging (key_value) VALUES (:key)")).thenReturn(insert);
+    when(insert.unwrap(OraclePreparedStatement.class)).thenThrow(insertFailure);
+    when(connection.prepareStatement("DELETE FROM key_staging")).thenReturn(delete);
+    when(delete.executeUpdate()).thenThrow(deleteFailure);
+
+    JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+    when(jdbcOperations.execute(any(ConnectionCallback.class))).thenAnswer(
+            invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+
+    TemporaryTableStaging staging = new TemporaryTableStaging(jdbcOperations, "key_staging", "key_value");
+    SQLException thrown = assertThrows(SQLException.class,
+            () -> staging.query(SQL, Arrays.asList(1L, 2L), (rs, rowNum) -> rs.getString(1)));
+
+    assertSame(insertFailure, thrown);
+    assertArrayEquals(new Throwable[] {deleteFailure}, thrown.getSuppressed());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void keepsTemplateConfiguration() {
+    JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+    OracleNamedParameterJdbcTemplate namedTemplate = new OracleNamedParameterJdbcTemplate(jdbcOperations);
+    namedTemplate.setArrayTypeRegistry(new ArrayTypeRegistry().registerNumberType("NUMBER_TABLE"));
+    TemporaryTableStaging staging = new TemporaryTableStaging(namedTemplate, "key_staging", "key_value");
+
+    assertFalse(staging.isStaged(2));
+    staging.query(SQL, Arrays.asList(1, 2), (rs, rowNum) -> rs.getString(1));
+
+    verify(jdbcOperations).query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class));
+  }
+
+}
@@ -0,0 +1,74 @@
+package com.github.ferstl.spring.jdbc.oracle;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeOrderedUuidGeneratorTest {
+
+  private static final long MILLIS = 0x0123456789ABL;
+
+  @Test
+  public void layout() {
+    TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(() -> MILLIS);
+
+    UUID uuid = generator.generate();
+
+    assertEquals(7, uuid.version());
+    assertEquals(2, uuid.variant());
+    assertEquals(MILLIS, uuid.getMostSignificantBits() >>> 16);
+  }
+
+  @Test
+  public void increasingWithinMillisecond() {
+    TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(() -> MILLIS);
+
+    UUID previous = generator.generate();
+    // more than the counter can hold
+    for (int i = 0; i < 10000; i++) {
+      UUID next = generator.generate();
+      assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), next.getMostSignificantBits()) < 0);
+      previous = next;
+    }
+  }
+
+  @Test
+  public void increasingWithClock() {
+    AtomicLong clock = new AtomicLong(MILLIS);
+    TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(clock::get);
+
+    UUID first = generator.generate();
+    clock.addAndGet(5L);
+    UUID second = generator.generate();
+    // clock went backwards
+    clock.addAndGet(-10L);
+    UUID third = generator.generate();
+
+    assertEquals(MILLIS + 5L, second.getMostSignificantBits() >>> 16);
+    assertTrue(Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits()) < 0);
+    assertTrue(Long.compareUnsigned(second.getMostSignificantBits(), third.getMostSignificantBits()) < 0);
+  }
+
+  @Test
+  public void raw() throws SQLException {
+    TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(() -> MILLIS);
+
+    byte[] target = new byte[20];
+    generator.generateInto(target, 2);
+    UUID uuid = UuidUtils.fromByteArray(Arrays.copyOfRange(target, 2, 18));
+    assertEquals(7, uuid.version());
+    assertEquals(MILLIS, uuid.getMostSignificantBits() >>> 16);
+
+    UuidOracleData oracleData = UuidOracleData.timeOrdered(generator);
+    assertEquals(7, oracleData.getUuid().version());
+    assertArrayEquals(UuidUtils.toByteArray(oracleData.getUuid()), (byte[]) oracleData.toJDBCObject(null));
+  }
+
+}
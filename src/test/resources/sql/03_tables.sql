@@ -7,3 +7,7 @@ CREATE TABLE test_table (
   val    VARCHAR2(50) NOT NULL,
   numval NUMBER(10)   NOT NULL
 );
+
+CREATE GLOBAL TEMPORARY TABLE test_key_staging (
+  key_value NUMBER(10)
+) ON COMMIT PRESERVE ROWS;
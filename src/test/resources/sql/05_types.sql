@@ -6,3 +6,14 @@ BEGIN
   EXECUTE IMMEDIATE 'CREATE OR REPLACE TYPE test_array_type IS TABLE OF NUMBER(5)';
 END;
 /
+
+BEGIN
+  EXECUTE IMMEDIATE 'CREATE OR REPLACE TYPE test_row_type AS OBJECT (id NUMBER(5), val VARCHAR2(50))';
+  EXECUTE IMMEDIATE 'CREATE OR REPLACE TYPE test_row_table_type IS TABLE OF test_row_type';
+END;
+/
+
+BEGIN
+  EXECUTE IMMEDIATE 'CREATE OR REPLACE TYPE test_raw16_table_type IS TABLE OF RAW(16)';
+END;
+/